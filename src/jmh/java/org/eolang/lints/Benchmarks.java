@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.text.TextOf;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.
+ *
+ * <p>Runs JMH with the GC profiler, to see allocation rate, and with
+ * all rules in {@link LintBench}, unless the {@code rule} parameter is
+ * given explicitly. All JMH command line options are supported, for
+ * example, {@code -p size=100} or {@code LintBench}.</p>
+ *
+ * @since 0.1.0
+ */
+public final class Benchmarks {
+
+    /**
+     * Ctor.
+     */
+    private Benchmarks() {
+        // entry point
+    }
+
+    /**
+     * Run them all.
+     * @param args JMH command line options
+     * @throws Exception If fails
+     */
+    public static void main(final String... args) throws Exception {
+        final CommandLineOptions cli = new CommandLineOptions(args);
+        final OptionsBuilder opts = new OptionsBuilder();
+        opts.parent(cli).addProfiler(GCProfiler.class);
+        if (!cli.getParameter("rule").hasValue()) {
+            final List<String> rules = new LinkedList<>();
+            for (final String xsl : Benchmarks.index()) {
+                if (!xsl.isEmpty()) {
+                    rules.add(xsl.replaceAll("\\.xsl$", ""));
+                }
+            }
+            opts.param("rule", rules.toArray(new String[0]));
+        }
+        new Runner(opts.build()).run();
+    }
+
+    /**
+     * Stylesheets from the index.
+     * @return Paths of them
+     * @throws Exception If fails
+     */
+    private static List<String> index() throws Exception {
+        return Arrays.asList(
+            new TextOf(
+                new ResourceOf("org/eolang/lints/index.txt")
+            ).asString().split("\\R")
+        );
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of every {@link LintByXsl} separately.
+ *
+ * <p>The list of rules here is only the default one, {@link Benchmarks}
+ * replaces it with all rules from {@code org/eolang/lints/index.txt}.</p>
+ *
+ * @since 0.1.0
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx8g")
+@State(Scope.Benchmark)
+public class LintBench {
+
+    /**
+     * Number of {@code o} elements in the XMIR.
+     */
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    /**
+     * The rule, as a path of stylesheet without extension.
+     */
+    @Param("critical/duplicate-names")
+    public String rule;
+
+    /**
+     * The XMIR.
+     */
+    private XML xmir;
+
+    /**
+     * The lint.
+     */
+    private Lint lint;
+
+    /**
+     * Build the XMIR and the lint.
+     * @throws IOException If fails
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.xmir = new SyntheticXmir(this.size).xml();
+        this.lint = new LintByXsl(this.rule);
+    }
+
+    /**
+     * Find defects.
+     * @return Defects found
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public Collection<Defect> defects() throws IOException {
+        return this.lint.defects(this.xmir);
+    }
+
+}
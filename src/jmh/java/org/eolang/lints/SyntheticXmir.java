@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+
+/**
+ * Synthetic XMIR of the given size, for benchmarks.
+ *
+ * <p>The program consists of abstract objects, every one with a comment,
+ * a free attribute, a reference to it and a method call with a number
+ * as an argument, like the XMIR produced by the parser for this code:</p>
+ *
+ * <pre>
+ * # Object.
+ * [x] &gt; obj42
+ *   x.plus 1 &gt; y
+ * </pre>
+ *
+ * <p>Every such object has five {@code o} elements, so the total number
+ * of them is rounded up to five.</p>
+ *
+ * @since 0.1.0
+ */
+final class SyntheticXmir {
+
+    /**
+     * Total number of {@code o} elements.
+     */
+    private final int size;
+
+    /**
+     * Ctor.
+     * @param total Total number of {@code o} elements
+     */
+    SyntheticXmir(final int total) {
+        this.size = total;
+    }
+
+    /**
+     * Build it.
+     * @return XMIR
+     */
+    XML xml() {
+        final int count = (this.size + 4) / 5;
+        final StringBuilder listing = new StringBuilder(
+            "+package bench\n+version 0.0.0\n+home https://github.com/objectionary/eo\n"
+        );
+        final StringBuilder objects = new StringBuilder(count * 400);
+        final StringBuilder comments = new StringBuilder(count * 50);
+        for (int idx = 0; idx < count; ++idx) {
+            final int line = 6 + idx * 3;
+            listing.append(
+                String.format("\n# Object.\n[x] > obj%d\n  x.plus 1 > y", idx)
+            );
+            comments.append(
+                String.format("<comment line='%d'>Object.</comment>", line)
+            );
+            objects.append(
+                String.format(
+                    String.join(
+                        "",
+                        "<o abstract='' line='%1$d' name='obj%2$d' pos='0'>",
+                        "<o line='%1$d' name='x' pos='1'/>",
+                        "<o base='x' line='%3$d' pos='2'/>",
+                        "<o base='.plus' line='%3$d' method='' name='y' pos='3'>",
+                        "<o base='number' line='%3$d' pos='9'>3F-F0-00-00-00-00-00-00</o>",
+                        "</o></o>"
+                    ),
+                    line, idx, line + 1
+                )
+            );
+        }
+        return new XMLDocument(
+            String.join(
+                "",
+                "<program name='bench' version='0.44.0'><listing>",
+                listing.toString(),
+                "</listing><metas>",
+                "<meta line='1'><head>package</head><tail>bench</tail><part>bench</part></meta>",
+                "<meta line='2'><head>version</head><tail>0.0.0</tail><part>0.0.0</part></meta>",
+                "<meta line='3'><head>home</head><tail>https://github.com/objectionary/eo</tail>",
+                "<part>https://github.com/objectionary/eo</part></meta>",
+                "</metas><objects>",
+                objects.toString(),
+                "</objects><comments>",
+                comments.toString(),
+                "</comments></program>"
+            )
+        );
+    }
+
+}
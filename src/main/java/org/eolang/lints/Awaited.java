@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The result of a task, waited for.
+ *
+ * <p>Lints are executed inside {@link CompletableFuture}s, where
+ * their {@link IOException}s travel wrapped into
+ * {@link UncheckedIOException}s. Here the original checked ones are
+ * thrown again, so that callers can tell them apart.</p>
+ *
+ * @param <T> Type of result
+ * @since 0.1.0
+ */
+final class Awaited<T> {
+
+    /**
+     * The task.
+     */
+    private final CompletableFuture<T> task;
+
+    /**
+     * Ctor.
+     * @param future The task to wait for
+     */
+    Awaited(final CompletableFuture<T> future) {
+        this.task = future;
+    }
+
+    /**
+     * Wait for the task to complete and take its result.
+     *
+     * <p>The {@link CompletionException} is added to the exception thrown
+     * as a suppressed one, so that the stack of the waiting thread is not
+     * lost, while the stack of the task stays on top.</p>
+     *
+     * @return The result
+     * @throws IOException If the task failed with it
+     */
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    public T value() throws IOException {
+        try {
+            return this.task.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof UncheckedIOException) {
+                final IOException cause = ((UncheckedIOException) ex.getCause()).getCause();
+                cause.addSuppressed(ex);
+                throw cause;
+            }
+            if (ex.getCause() instanceof RuntimeException) {
+                final RuntimeException cause = (RuntimeException) ex.getCause();
+                cause.addSuppressed(ex);
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+}
@@ -0,0 +1,333 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Report in a compact binary format.
+ *
+ * <p>The report starts with the four bytes of {@code EOLD} and the version
+ * of the format, which is {@code 1}. Then, every defect is a record,
+ * prefixed by its length in bytes. Numbers are unsigned LEB128 varints and
+ * texts are UTF-8, prefixed by their lengths. A record has the ordinal of
+ * the severity, the line, the program, the rule, the version, and
+ * the text. Programs, rules and versions repeat a lot, that's why each of
+ * them is written only once: first as {@code 0} followed by the text,
+ * and then as its number, starting from {@code 1}, in the order they
+ * first appeared.</p>
+ *
+ * <p>Use {@link BinaryReport.Entries} to read it back. It reads every
+ * record by its length and ignores the bytes at the end of the record,
+ * which it doesn't know, so that later versions may add fields.</p>
+ *
+ * @since 0.1.0
+ */
+public final class BinaryReport implements Report {
+
+    /**
+     * The header.
+     */
+    private static final byte[] HEADER = {'E', 'O', 'L', 'D', 1};
+
+    /**
+     * The output.
+     */
+    private final ReportOutput out;
+
+    /**
+     * Numbers of texts, written already.
+     */
+    private final Map<String, Integer> known;
+
+    /**
+     * Is the header written?
+     */
+    private boolean started;
+
+    /**
+     * Ctor.
+     * @param stream Where to write
+     */
+    public BinaryReport(final OutputStream stream) {
+        this(Channels.newChannel(stream));
+    }
+
+    /**
+     * Ctor.
+     * @param channel Where to write
+     */
+    public BinaryReport(final WritableByteChannel channel) {
+        this.out = new ReportOutput(channel);
+        this.known = new HashMap<>(0);
+        this.started = false;
+    }
+
+    @Override
+    public void write(final String program, final Defect defect) throws IOException {
+        this.start();
+        final String version = defect.version();
+        final int size = 1 + BinaryReport.octets(defect.line())
+            + this.footprint(program) + this.footprint(defect.rule())
+            + this.footprint(version) + BinaryReport.text(defect.text());
+        this.out.varint(size).octet(defect.severity().ordinal())
+            .varint(defect.line());
+        this.reference(program);
+        this.reference(defect.rule());
+        this.reference(version);
+        this.out.varint(ReportOutput.weight(defect.text())).utf(defect.text());
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.start();
+        } finally {
+            this.out.close();
+        }
+    }
+
+    /**
+     * Write the header, if not yet.
+     * @throws IOException If fails
+     */
+    private void start() throws IOException {
+        if (!this.started) {
+            this.out.bytes(BinaryReport.HEADER);
+            this.started = true;
+        }
+    }
+
+    /**
+     * How many bytes the reference to the text takes.
+     * @param text The text
+     * @return Number of bytes
+     */
+    private int footprint(final String text) {
+        final Integer number = this.known.get(text);
+        final int length;
+        if (number == null) {
+            length = 1 + BinaryReport.text(text);
+        } else {
+            length = BinaryReport.octets(number);
+        }
+        return length;
+    }
+
+    /**
+     * Write the reference to the text, or the text itself, if it's new.
+     * @param text The text
+     * @throws IOException If fails
+     */
+    private void reference(final String text) throws IOException {
+        final Integer number = this.known.get(text);
+        if (number == null) {
+            this.known.put(text, this.known.size() + 1);
+            this.out.octet(0).varint(ReportOutput.weight(text)).utf(text);
+        } else {
+            this.out.varint(number);
+        }
+    }
+
+    /**
+     * How many bytes the text takes, with its length.
+     * @param text The text
+     * @return Number of bytes
+     */
+    private static int text(final String text) {
+        final int length = ReportOutput.weight(text);
+        return BinaryReport.octets(length) + length;
+    }
+
+    /**
+     * How many bytes the varint takes.
+     * @param number The number
+     * @return Number of bytes
+     */
+    private static int octets(final long number) {
+        int bytes = 1;
+        long rest = number >>> 7;
+        while (rest != 0L) {
+            ++bytes;
+            rest >>>= 7;
+        }
+        return bytes;
+    }
+
+    /**
+     * Defects, read from a binary report, with their programs.
+     *
+     * <p>The class is not thread-safe.</p>
+     *
+     * @since 0.1.0
+     */
+    public static final class Entries {
+
+        /**
+         * The input.
+         */
+        private final DataInputStream input;
+
+        /**
+         * Texts seen, by their numbers, starting from one.
+         */
+        private final List<String> texts;
+
+        /**
+         * Is the header read?
+         */
+        private boolean started;
+
+        /**
+         * Ctor.
+         * @param stream Where to read from
+         */
+        public Entries(final InputStream stream) {
+            this.input = new DataInputStream(stream);
+            this.texts = new ArrayList<>(0);
+            this.started = false;
+        }
+
+        /**
+         * Read the next defect.
+         * @return The program and the defect, if there are more of them
+         * @throws IOException If fails
+         */
+        public Optional<Map.Entry<String, Defect>> next() throws IOException {
+            this.start();
+            final int first = this.input.read();
+            final Optional<Map.Entry<String, Defect>> next;
+            if (first < 0) {
+                next = Optional.empty();
+            } else {
+                final byte[] bytes = new byte[(int) Entries.varint(this.input, first)];
+                this.input.readFully(bytes);
+                final DataInputStream record = new DataInputStream(
+                    new ByteArrayInputStream(bytes)
+                );
+                final Severity severity = Severity.values()[record.readUnsignedByte()];
+                final int line = (int) Entries.varint(record, record.readUnsignedByte());
+                final String program = this.reference(record);
+                final String rule = this.reference(record);
+                final String version = this.reference(record);
+                next = Optional.of(
+                    new AbstractMap.SimpleImmutableEntry<>(
+                        program,
+                        new Defect.Default(
+                            rule, severity, line, Entries.text(record), version
+                        )
+                    )
+                );
+            }
+            return next;
+        }
+
+        /**
+         * Read the header, if not yet.
+         * @throws IOException If the header is wrong
+         */
+        private void start() throws IOException {
+            if (!this.started) {
+                final byte[] header = new byte[BinaryReport.HEADER.length];
+                this.input.readFully(header);
+                if (!Arrays.equals(header, BinaryReport.HEADER)) {
+                    throw new IOException("It's not a binary report of lints");
+                }
+                this.started = true;
+            }
+        }
+
+        /**
+         * Read the reference to a text.
+         * @param record The record
+         * @return The text
+         * @throws IOException If fails
+         */
+        private String reference(final DataInputStream record) throws IOException {
+            final int number = (int) Entries.varint(record, record.readUnsignedByte());
+            final String text;
+            if (number == 0) {
+                text = Entries.text(record);
+                this.texts.add(text);
+            } else if (number <= this.texts.size()) {
+                text = this.texts.get(number - 1);
+            } else {
+                throw new IOException(
+                    String.format("Unknown reference #%d in binary report", number)
+                );
+            }
+            return text;
+        }
+
+        /**
+         * Read the text, prefixed by its length.
+         * @param record The record
+         * @return The text
+         * @throws IOException If fails
+         */
+        private static String text(final DataInputStream record) throws IOException {
+            final byte[] bytes = new byte[(int) Entries.varint(record, record.readUnsignedByte())];
+            record.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Read the varint.
+         * @param stream Where to read the rest of it from
+         * @param first The first byte of it
+         * @return The number
+         * @throws IOException If fails
+         */
+        private static long varint(final InputStream stream, final int first)
+            throws IOException {
+            long number = first & 0x7f;
+            int next = first;
+            int shift = 7;
+            while ((next & 0x80) != 0) {
+                next = stream.read();
+                if (next < 0) {
+                    throw new EOFException("The binary report is truncated");
+                }
+                number |= (long) (next & 0x7f) << shift;
+                shift += 7;
+            }
+            return number;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Lint that takes defects from {@link DefectsCache}, if they are there.
+ *
+ * <p>The XMIR is not touched at all, when defects are in the cache.</p>
+ *
+ * @since 0.1.0
+ */
+final class Cached implements Lint {
+
+    /**
+     * The original lint.
+     */
+    private final Lint origin;
+
+    /**
+     * The cache.
+     */
+    private final DefectsCache cache;
+
+    /**
+     * The hash of the XMIR this lint is applied to.
+     */
+    private final String hash;
+
+    /**
+     * Ctor.
+     * @param lint The original lint
+     * @param defects The cache
+     * @param sha The hash of the XMIR this lint will be applied to
+     */
+    Cached(final Lint lint, final DefectsCache defects, final String sha) {
+        this.origin = lint;
+        this.cache = defects;
+        this.hash = sha;
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public Collection<Defect> defects(final XML xmir) throws IOException {
+        final Optional<Collection<Defect>> before =
+            this.cache.get(this.hash, this.origin.name());
+        final Collection<Defect> found;
+        if (before.isPresent()) {
+            found = before.get();
+        } else {
+            found = this.origin.defects(xmir);
+            this.cache.put(this.hash, this.origin.name(), found);
+        }
+        return found;
+    }
+
+    @Override
+    public String motive() throws Exception {
+        return this.origin.motive();
+    }
+
+}
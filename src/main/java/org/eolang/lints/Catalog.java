@@ -0,0 +1,213 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import io.github.secretx33.resourceresolver.Resource;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.cactoos.io.InputOf;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.cactoos.text.TextOf;
+
+/**
+ * What is known about rules without compiling them.
+ *
+ * <p>Every XSL stylesheet is read once per process, to find the name of
+ * its rule, its path inside {@code org/eolang/lints} (for example,
+ * {@code metas/unknown-metas}), and the severities it is able to report,
+ * which are the texts inside its {@code severity} attributes. Nothing
+ * is compiled.</p>
+ *
+ * <p>A lint implemented in Java has the path and the severities of
+ * the stylesheet with the same name, if there is one. Otherwise, its path
+ * is made of the package of its class and its name, like
+ * {@code comments/ascii-only}, and it is considered able to report defects
+ * of any severity.</p>
+ *
+ * @since 0.1.0
+ */
+final class Catalog {
+
+    /**
+     * Rules of all stylesheets, by their names, found only once.
+     */
+    private static final Unchecked<Map<String, Catalog.Rule>> XSL = new Unchecked<>(
+        new Synced<>(new Sticky<>(Catalog::scanned))
+    );
+
+    /**
+     * Texts of severity attributes in a stylesheet.
+     */
+    private static final String ATTRIBUTES =
+        "//xsl:attribute[@name='severity']//xsl:text/text()";
+
+    /**
+     * Prefix of all stylesheets and Java lints.
+     */
+    private static final String HOME = "org/eolang/lints/";
+
+    /**
+     * Rules, by their names.
+     */
+    private final Unchecked<Map<String, Catalog.Rule>> rules;
+
+    /**
+     * Ctor.
+     */
+    Catalog() {
+        this.rules = Catalog.XSL;
+    }
+
+    /**
+     * Path of the rule, like {@code metas/unknown-metas}.
+     * @param lint The lint
+     * @return Path, without extension
+     */
+    String path(final Lint lint) {
+        final Catalog.Rule rule = this.rules.value().get(lint.name());
+        final String path;
+        if (rule == null) {
+            final String pkg = lint.getClass().getName().replace('.', '/');
+            if (pkg.startsWith(Catalog.HOME)) {
+                path = String.format(
+                    "%s%s",
+                    pkg.substring(Catalog.HOME.length(), pkg.lastIndexOf('/') + 1),
+                    lint.name()
+                );
+            } else {
+                path = lint.name();
+            }
+        } else {
+            path = rule.location;
+        }
+        return path;
+    }
+
+    /**
+     * Severities, which the rule is able to report.
+     * @param name Name of the rule
+     * @return Severities, all of them if not known
+     */
+    Set<Severity> severities(final String name) {
+        final Catalog.Rule rule = this.rules.value().get(name);
+        final Set<Severity> all;
+        if (rule == null || rule.severe.isEmpty()) {
+            all = EnumSet.allOf(Severity.class);
+        } else {
+            all = rule.severe;
+        }
+        return all;
+    }
+
+    /**
+     * Names of all stylesheets able to report the severity.
+     * @param severity The severity
+     * @return Names of rules
+     */
+    Collection<String> names(final Severity severity) {
+        final Collection<String> names = new HashSet<>(0);
+        for (final Catalog.Rule rule : this.rules.value().values()) {
+            if (rule.severe.contains(severity)) {
+                names.add(rule.name);
+            }
+        }
+        return Collections.unmodifiableCollection(names);
+    }
+
+    /**
+     * Read all stylesheets.
+     * @return Rules by their names
+     * @throws Exception If fails
+     */
+    private static Map<String, Catalog.Rule> scanned() throws Exception {
+        final Map<String, Catalog.Rule> all = new HashMap<>(0);
+        for (final Resource res : new XslResources()) {
+            final XML xsl = new XMLDocument(
+                new TextOf(new InputOf(res.getInputStream())).asString()
+            );
+            final String url = res.getURL().toString();
+            final Set<Severity> severe = EnumSet.noneOf(Severity.class);
+            for (final String text : xsl.xpath(Catalog.ATTRIBUTES)) {
+                severe.add(Severity.parsed(text.trim()));
+            }
+            final String name = xsl.xpath("/xsl:stylesheet/@id").get(0);
+            all.put(
+                name,
+                new Catalog.Rule(
+                    name,
+                    url.substring(
+                        url.lastIndexOf(Catalog.HOME) + Catalog.HOME.length(),
+                        url.length() - ".xsl".length()
+                    ),
+                    severe
+                )
+            );
+        }
+        return all;
+    }
+
+    /**
+     * Rule of a stylesheet.
+     *
+     * @since 0.1.0
+     */
+    private static final class Rule {
+
+        /**
+         * Name of the rule.
+         */
+        private final String name;
+
+        /**
+         * Path of the stylesheet, without extension.
+         */
+        private final String location;
+
+        /**
+         * Severities it reports, empty if not known.
+         */
+        private final Set<Severity> severe;
+
+        /**
+         * Ctor.
+         * @param rule Name of the rule
+         * @param path Path of the stylesheet, without extension
+         * @param severities Severities it reports
+         */
+        Rule(final String rule, final String path, final Set<Severity> severities) {
+            this.name = rule;
+            this.location = path;
+            this.severe = severities;
+        }
+    }
+}
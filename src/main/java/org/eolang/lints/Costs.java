@@ -0,0 +1,282 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * How long rules take, learned from previous runs.
+ *
+ * <p>Every time a rule is applied by a concurrent {@link Program}, its wall
+ * time is recorded here, as an exponential moving average, where the
+ * last run weighs one quarter. The {@link Program} uses these costs
+ * to plan its work: the most expensive rules start first, so that there
+ * are no stragglers at the end, while cheap rules are packed into batches,
+ * each of them applied by one worker, one rule after another.</p>
+ *
+ * <p>When a file is given, costs are read from it on first use and
+ * written back by {@link #save()}, one rule per line, for example,
+ * at the end of a build:</p>
+ *
+ * <pre> final Costs costs = new Costs(Paths.get("target/lints-costs.txt"));
+ * new Program(xmir, executor, costs).defects();
+ * costs.save();</pre>
+ *
+ * <p>Costs are only a hint for planning, that's why lines of the file,
+ * which can't be parsed, are skipped, instead of failing the lint.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.1.0
+ */
+public final class Costs {
+
+    /**
+     * How many batches of cheap rules per thread.
+     */
+    private static final int BATCHES = 4;
+
+    /**
+     * Where costs are saved, if anywhere.
+     */
+    private final Optional<Path> file;
+
+    /**
+     * Average wall time of rules, in nanoseconds, by their names.
+     */
+    private final Unchecked<ConcurrentMap<String, Long>> nanos;
+
+    /**
+     * Ctor, with costs kept in memory only.
+     */
+    public Costs() {
+        this(Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     * @param path The file with costs, which may be absent
+     */
+    public Costs(final Path path) {
+        this(Optional.of(path));
+    }
+
+    /**
+     * Ctor.
+     * @param path The file with costs, if any
+     */
+    private Costs(final Optional<Path> path) {
+        this.file = path;
+        this.nanos = new Unchecked<>(
+            new Synced<>(new Sticky<>(Costs.loader(path)))
+        );
+    }
+
+    /**
+     * Save costs to the file, if it is given.
+     * @throws IOException If fails
+     */
+    public void save() throws IOException {
+        if (this.file.isPresent()) {
+            final List<String> lines = new LinkedList<>();
+            for (final Map.Entry<String, Long> entry
+                : new TreeMap<>(this.nanos.value()).entrySet()) {
+                lines.add(String.format("%s\t%d", entry.getKey(), entry.getValue()));
+            }
+            final Path path = this.file.get().toAbsolutePath();
+            Files.createDirectories(path.getParent());
+            final Path temp = Files.createTempFile(
+                path.getParent(), path.getFileName().toString(), ".tmp"
+            );
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            try {
+                Files.move(
+                    temp, path,
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING
+                );
+            } catch (final AtomicMoveNotSupportedException ex) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    /**
+     * Record one run of the rule.
+     * @param rule The name of the rule
+     * @param wall Wall time, in nanoseconds
+     */
+    void record(final String rule, final long wall) {
+        this.nanos.value().merge(
+            rule, wall, (before, now) -> (before * 3L + now) / 4L
+        );
+    }
+
+    /**
+     * Average wall time of the rule.
+     * @param rule The name of the rule
+     * @return Nanoseconds, if the rule was seen before
+     */
+    Optional<Long> cost(final String rule) {
+        return Optional.ofNullable(this.nanos.value().get(rule));
+    }
+
+    /**
+     * Plan the work of rules on the given number of threads.
+     * @param rules Names of rules
+     * @param threads How many threads there are
+     * @return Batches, each of them with positions of rules in the list
+     */
+    List<List<Integer>> plan(final List<String> rules, final int threads) {
+        return this.plan(rules, Collections.emptySet(), threads);
+    }
+
+    /**
+     * Plan the work of rules on the given number of threads, with some
+     * rules ahead of all others.
+     *
+     * <p>Rules in the {@code first} collection, usually critical ones,
+     * see {@link CriticalFirst}, are planned before all others, no matter
+     * how cheap they are. Inside each of these two groups, rules are
+     * ordered by their costs, the most expensive first. Rules never seen
+     * before go first in their group, each of them on its own, so that
+     * their costs are learned. Rules, which are cheaper than a fraction
+     * of the total cost, are packed together until their batch costs as
+     * much as the fraction, but never with rules of the other group.</p>
+     *
+     * @param rules Names of rules
+     * @param first Names of rules to start before all others
+     * @param threads How many threads there are
+     * @return Batches, each of them with positions of rules in the list
+     */
+    List<List<Integer>> plan(final List<String> rules, final Collection<String> first,
+        final int threads) {
+        final long[] costs = new long[rules.size()];
+        long total = 0L;
+        for (int idx = 0; idx < costs.length; ++idx) {
+            final Optional<Long> cost = this.cost(rules.get(idx));
+            if (cost.isPresent()) {
+                costs[idx] = cost.get();
+                total += costs[idx];
+            } else {
+                costs[idx] = Long.MAX_VALUE;
+            }
+        }
+        final long quantum = Math.max(
+            1L, total / ((long) Math.max(1, threads) * Costs.BATCHES)
+        );
+        final List<List<Integer>> batches = new ArrayList<>(costs.length);
+        List<Integer> cheap = new ArrayList<>(0);
+        long sum = 0L;
+        boolean ahead = true;
+        for (final int idx : Costs.ordered(rules, costs, first)) {
+            final boolean group = first.contains(rules.get(idx));
+            if (group != ahead && !cheap.isEmpty()) {
+                batches.add(cheap);
+                cheap = new ArrayList<>(0);
+                sum = 0L;
+            }
+            ahead = group;
+            if (costs[idx] >= quantum) {
+                batches.add(Collections.singletonList(idx));
+            } else {
+                cheap.add(idx);
+                sum += costs[idx];
+            }
+            if (sum >= quantum) {
+                batches.add(cheap);
+                cheap = new ArrayList<>(0);
+                sum = 0L;
+            }
+        }
+        if (!cheap.isEmpty()) {
+            batches.add(cheap);
+        }
+        return batches;
+    }
+
+    /**
+     * Positions of rules, in the order they should start.
+     * @param rules Names of rules
+     * @param costs Costs of rules
+     * @param first Names of rules to start before all others
+     * @return Positions, rules of the first group go first, then the most
+     *  expensive rules go first in every group
+     */
+    private static List<Integer> ordered(final List<String> rules,
+        final long[] costs, final Collection<String> first) {
+        final List<Integer> order = new ArrayList<>(costs.length);
+        for (int idx = 0; idx < costs.length; ++idx) {
+            order.add(idx);
+        }
+        order.sort(
+            Comparator.comparing((Integer idx) -> !first.contains(rules.get(idx)))
+                .thenComparing(
+                    Comparator.comparing((Integer idx) -> costs[idx]).reversed()
+                )
+        );
+        return order;
+    }
+
+    /**
+     * Load costs from the file, skipping broken lines.
+     * @param path The file, if any
+     * @return Loader of costs
+     */
+    private static Scalar<ConcurrentMap<String, Long>> loader(
+        final Optional<Path> path) {
+        return () -> {
+            final ConcurrentMap<String, Long> all = new ConcurrentHashMap<>(0);
+            if (path.isPresent() && Files.exists(path.get())) {
+                for (final String line
+                    : Files.readAllLines(path.get(), StandardCharsets.UTF_8)) {
+                    final String[] parts = line.split("\t", 2);
+                    if (parts.length == 2 && parts[1].trim().matches("[0-9]{1,18}")) {
+                        all.put(parts[0], Long.parseLong(parts[1].trim()));
+                    }
+                }
+            }
+            return all;
+        };
+    }
+}
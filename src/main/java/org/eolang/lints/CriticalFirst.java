@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.Constant;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Lints, where those able to find {@link Severity#CRITICAL} defects go first.
+ *
+ * <p>When linting stops at the first critical defect
+ * (see {@link Sink.UntilCritical}), it's better to find it as early as
+ * possible. A lint is considered critical if its XSL stylesheet is able
+ * to report the {@code critical} severity, see {@link Catalog}. The order
+ * of other lints doesn't change.</p>
+ *
+ * @since 0.1.0
+ */
+final class CriticalFirst extends IterableEnvelope<Lint> {
+
+    /**
+     * Names of critical rules, found only once.
+     */
+    private static final Unchecked<Collection<String>> CRITICAL = new Unchecked<>(
+        new Synced<>(
+            new Sticky<>(() -> new Catalog().names(Severity.CRITICAL))
+        )
+    );
+
+    /**
+     * Ctor.
+     * @param lints Lints to reorder
+     */
+    CriticalFirst(final Iterable<Lint> lints) {
+        this(lints, CriticalFirst.CRITICAL);
+    }
+
+    /**
+     * Ctor.
+     * @param lints Lints to reorder
+     * @param names Names of critical rules
+     */
+    CriticalFirst(final Iterable<Lint> lints, final Collection<String> names) {
+        this(lints, new Unchecked<>(new Constant<>(names)));
+    }
+
+    /**
+     * Ctor.
+     * @param lints Lints to reorder
+     * @param names Names of critical rules
+     */
+    private CriticalFirst(final Iterable<Lint> lints,
+        final Unchecked<Collection<String>> names) {
+        super(CriticalFirst.reordered(lints, names));
+    }
+
+    /**
+     * Names of rules able to find critical defects.
+     * @return Names
+     */
+    static Collection<String> names() {
+        return CriticalFirst.CRITICAL.value();
+    }
+
+    /**
+     * Reorder lints, lazily.
+     * @param lints Lints to reorder
+     * @param names Names of critical rules
+     * @return Critical lints first, others after them
+     */
+    private static Iterable<Lint> reordered(final Iterable<Lint> lints,
+        final Unchecked<Collection<String>> names) {
+        return new IterableOf<>(() -> CriticalFirst.sorted(lints, names).iterator());
+    }
+
+    /**
+     * Reorder lints.
+     * @param lints Lints to reorder
+     * @param names Names of critical rules
+     * @return Critical lints first, others after them
+     */
+    private static List<Lint> sorted(final Iterable<Lint> lints,
+        final Unchecked<Collection<String>> names) {
+        final Collection<String> critical = names.value();
+        final List<Lint> all = new ArrayList<>(0);
+        lints.forEach(all::add);
+        all.sort(
+            Comparator.comparing(lint -> !critical.contains(lint.name()))
+        );
+        return all;
+    }
+
+}
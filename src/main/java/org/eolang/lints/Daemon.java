@@ -0,0 +1,423 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.io.InputOf;
+import org.eolang.parser.EoSyntax;
+
+/**
+ * Lints, kept warm in a long-lived process, serving requests over
+ * a local TCP socket.
+ *
+ * <p>Starting a JVM for every file is expensive: stylesheets are found
+ * in classpath, compiled, and the code is not optimized yet. The daemon
+ * does all of this once, in {@link #start()}, and then lints programs
+ * on request, in milliseconds. It listens on the loopback interface only.
+ * The protocol is line-based, in UTF-8, and a connection may carry many
+ * requests, one after another.</p>
+ *
+ * <p>Since any local process may connect to the port, the daemon writes
+ * a random token to a file, readable only by its owner, which is
+ * {@code ~/.eolang/lints-<port>.token} by default, and deletes it when
+ * closed. The first line of every connection must be
+ * {@code AUTH <token>}, otherwise the answer is {@code ERROR} and
+ * the connection is closed. Then:</p>
+ *
+ * <ul>
+ *  <li>{@code FILE <path>} lints the XMIR file;</li>
+ *  <li>{@code XML <n>}, followed by exactly {@code n} bytes of XMIR,
+ *   lints it, if it's not larger than 64 MiB;</li>
+ *  <li>{@code PING} is answered with {@code PONG};</li>
+ *  <li>{@code STOP} is answered with {@code BYE} and stops the daemon.</li>
+ * </ul>
+ *
+ * <p>Defects go back one per line, as printed by {@link DefectLines}
+ * (with tabs between parts), followed by the {@code END} line.
+ * If something goes wrong, the answer is a single {@code ERROR <message>}
+ * line. A request line longer than 64 KiB is answered with {@code ERROR}
+ * and the connection is closed. Not more than 16 connections are served
+ * at a time, the others are answered with {@code ERROR} and closed.
+ * For example, with {@code nc}:</p>
+ *
+ * <pre> $ java -cp lints.jar org.eolang.lints.Daemon 7373 &amp;
+ * $ printf "AUTH %s\nFILE /tmp/foo.xmir\n" "$(cat ~/.eolang/lints-7373.token)" \
+ *   | nc localhost 7373
+ * duplicate-names    CRITICAL    4    The name "foo" is used twice
+ * END</pre>
+ *
+ * <p>See {@link DaemonClient} for the client and {@link DaemonSession}
+ * for the protocol itself.</p>
+ *
+ * @since 0.1.0
+ */
+public final class Daemon implements Closeable {
+
+    /**
+     * Default port.
+     */
+    public static final int DEFAULT_PORT = 7373;
+
+    /**
+     * How many times lints are applied to warm up.
+     */
+    private static final int WARMUP = 3;
+
+    /**
+     * Pause after a failed accept, in milliseconds.
+     */
+    private static final long BACKOFF = 100L;
+
+    /**
+     * How many connections are served at a time.
+     */
+    private static final int CONNECTIONS = 16;
+
+    /**
+     * The port to listen on, zero for any free one.
+     */
+    private final int wanted;
+
+    /**
+     * Where lints run.
+     */
+    private final Executor lints;
+
+    /**
+     * Where sessions run.
+     */
+    private final ExecutorService sessions;
+
+    /**
+     * The file with the token, if not the default one.
+     */
+    private final Optional<Path> token;
+
+    /**
+     * The socket, once started.
+     */
+    private final AtomicReference<ServerSocket> server;
+
+    /**
+     * Ctor, on the default port.
+     */
+    public Daemon() {
+        this(Daemon.DEFAULT_PORT);
+    }
+
+    /**
+     * Ctor.
+     * @param port The port to listen on, zero for any free one
+     */
+    public Daemon(final int port) {
+        this(port, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param port The port to listen on, zero for any free one
+     * @param executor Where lints run
+     */
+    public Daemon(final int port, final Executor executor) {
+        this(port, executor, Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     * @param port The port to listen on, zero for any free one
+     * @param executor Where lints run
+     * @param file The file to write the token to
+     */
+    public Daemon(final int port, final Executor executor, final Path file) {
+        this(port, executor, Optional.of(file));
+    }
+
+    /**
+     * Ctor.
+     * @param port The port to listen on, zero for any free one
+     * @param executor Where lints run
+     * @param file The file to write the token to, if not the default one
+     */
+    private Daemon(final int port, final Executor executor, final Optional<Path> file) {
+        this.wanted = port;
+        this.lints = executor;
+        this.token = file;
+        this.sessions = new ThreadPoolExecutor(
+            0, Daemon.CONNECTIONS, 1L, TimeUnit.MINUTES,
+            new SynchronousQueue<>(), Daemon::thread
+        );
+        this.server = new AtomicReference<>();
+    }
+
+    /**
+     * Start the daemon, on the port given in the first argument, and
+     * wait until it is stopped.
+     * @param args Arguments
+     * @throws IOException If fails
+     * @throws InterruptedException If interrupted
+     */
+    public static void main(final String... args)
+        throws IOException, InterruptedException {
+        int port = Daemon.DEFAULT_PORT;
+        if (args.length > 0) {
+            port = Integer.parseInt(args[0]);
+        }
+        try (Daemon daemon = new Daemon(port).start()) {
+            daemon.await();
+        }
+    }
+
+    /**
+     * Warm up lints and start listening.
+     * @return Itself
+     * @throws IOException If fails
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    public Daemon start() throws IOException {
+        final XML warm = new EoSyntax(
+            new InputOf("# The object.\n[] > foo\n  bar > @\n")
+        ).parsed();
+        for (int idx = 0; idx < Daemon.WARMUP; ++idx) {
+            new Program(warm, this.lints).defects();
+        }
+        final ServerSocket socket = new ServerSocket(
+            this.wanted, 0, InetAddress.getLoopbackAddress()
+        );
+        if (!this.server.compareAndSet(null, socket)) {
+            socket.close();
+            throw new IllegalStateException("The daemon is already started");
+        }
+        final String secret;
+        try {
+            secret = Daemon.written(this.file(socket));
+        } catch (final IOException ex) {
+            this.close();
+            throw ex;
+        }
+        Daemon.thread(() -> this.accept(socket, secret)).start();
+        return this;
+    }
+
+    /**
+     * The port it listens on.
+     * @return The port
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    public int port() {
+        return this.started().getLocalPort();
+    }
+
+    /**
+     * Wait until the daemon is stopped.
+     * @throws InterruptedException If interrupted
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    public void await() throws InterruptedException {
+        final ServerSocket socket = this.started();
+        synchronized (socket) {
+            while (!socket.isClosed()) {
+                socket.wait();
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("PMD.CloseResource")
+    public void close() throws IOException {
+        final ServerSocket socket = this.server.get();
+        if (socket != null) {
+            synchronized (socket) {
+                socket.close();
+                socket.notifyAll();
+            }
+            Files.deleteIfExists(this.file(socket));
+        }
+        this.sessions.shutdownNow();
+    }
+
+    /**
+     * The default file with the token of the daemon on the port.
+     * @param port The port
+     * @return The file
+     */
+    static Path keyfile(final int port) {
+        return Paths.get(
+            System.getProperty("user.home"), ".eolang",
+            String.format("lints-%d.token", port)
+        );
+    }
+
+    /**
+     * The socket, if started.
+     * @return The socket
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    private ServerSocket started() {
+        final ServerSocket socket = this.server.get();
+        if (socket == null) {
+            throw new IllegalStateException("The daemon is not started");
+        }
+        return socket;
+    }
+
+    /**
+     * The file with the token of the daemon.
+     * @param socket The socket it listens on
+     * @return The file
+     */
+    private Path file(final ServerSocket socket) {
+        return this.token.orElseGet(() -> Daemon.keyfile(socket.getLocalPort()));
+    }
+
+    /**
+     * Accept connections, until the socket is closed.
+     *
+     * <p>A failure to accept a connection on the open socket doesn't stop
+     * the loop, otherwise the socket would stay open and clients would
+     * hang in its backlog. A connection, which doesn't fit into the pool
+     * of sessions, is refused.</p>
+     *
+     * @param socket The socket
+     * @param secret The token, expected from clients
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    private void accept(final ServerSocket socket, final String secret) {
+        while (!socket.isClosed()) {
+            try {
+                final Socket client = socket.accept();
+                try {
+                    this.sessions.execute(
+                        new DaemonSession(client, secret, this.lints, this::stopped)
+                    );
+                } catch (final RejectedExecutionException ex) {
+                    Daemon.refuse(client);
+                }
+            } catch (final IOException ex) {
+                if (!socket.isClosed()) {
+                    this.pause();
+                }
+            }
+        }
+    }
+
+    /**
+     * Wait a bit after a failed accept, for example when there are too
+     * many open files, before trying again; stop the daemon if interrupted.
+     */
+    private void pause() {
+        try {
+            Thread.sleep(Daemon.BACKOFF);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.stopped();
+        }
+    }
+
+    /**
+     * Tell the client that there are too many connections, and close it.
+     * @param client The client
+     * @throws IOException If fails
+     */
+    private static void refuse(final Socket client) throws IOException {
+        try (Socket socket = client) {
+            socket.getOutputStream().write(
+                String.format(
+                    "ERROR There are more than %d connections\n", Daemon.CONNECTIONS
+                ).getBytes(StandardCharsets.UTF_8)
+            );
+        }
+    }
+
+    /**
+     * Write a new random token to the file, readable only by its owner,
+     * if the file system knows about owners.
+     * @param file The file
+     * @return The token
+     * @throws IOException If fails
+     */
+    private static String written(final Path file) throws IOException {
+        final byte[] random = new byte[16];
+        new SecureRandom().nextBytes(random);
+        final String secret = new BigInteger(1, random).toString(16);
+        final Path path = file.toAbsolutePath();
+        Files.createDirectories(path.getParent());
+        Files.deleteIfExists(path);
+        if (path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(
+                path,
+                PosixFilePermissions.asFileAttribute(
+                    PosixFilePermissions.fromString("rw-------")
+                )
+            );
+        } else {
+            Files.createFile(path);
+        }
+        Files.write(path, secret.getBytes(StandardCharsets.UTF_8));
+        return secret;
+    }
+
+    /**
+     * A daemon thread of the daemon.
+     * @param task What it runs
+     * @return The thread, not started
+     */
+    private static Thread thread(final Runnable task) {
+        final Thread thread = new Thread(task, "lints-daemon");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Stop the daemon, on request of a client.
+     */
+    private void stopped() {
+        try {
+            this.close();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Client of the {@link Daemon}.
+ *
+ * <p>Every request goes through its own connection:</p>
+ *
+ * <pre> final Collection&lt;Defect&gt; defects = new DaemonClient()
+ *   .defects(Paths.get("target/foo.xmir"));</pre>
+ *
+ * <p>It also works from the command line, printing defects of all files
+ * given and exiting with a non-zero code if any of them are errors or
+ * critical. The port is taken from the {@code lints.port} system
+ * property:</p>
+ *
+ * <pre> $ java -cp lints.jar org.eolang.lints.DaemonClient a.xmir b.xmir</pre>
+ *
+ * <p>If the daemon doesn't answer in a minute, or in the time given to
+ * the constructor, the request fails with
+ * {@link java.net.SocketTimeoutException}.</p>
+ *
+ * <p>Every connection starts with the token of the daemon, read from
+ * the file it was written to, see {@link Daemon}.</p>
+ *
+ * @since 0.1.0
+ */
+public final class DaemonClient {
+
+    /**
+     * Default time to wait for an answer, in milliseconds.
+     */
+    private static final int TIMEOUT = 60_000;
+
+    /**
+     * The port of the daemon.
+     */
+    private final int port;
+
+    /**
+     * Time to wait for an answer, in milliseconds.
+     */
+    private final int timeout;
+
+    /**
+     * The file with the token of the daemon.
+     */
+    private final Path token;
+
+    /**
+     * Ctor, for the daemon on the default port.
+     */
+    public DaemonClient() {
+        this(Daemon.DEFAULT_PORT);
+    }
+
+    /**
+     * Ctor.
+     * @param number The port of the daemon
+     */
+    public DaemonClient(final int number) {
+        this(number, DaemonClient.TIMEOUT);
+    }
+
+    /**
+     * Ctor.
+     * @param number The port of the daemon
+     * @param millis Time to wait for an answer, in milliseconds
+     */
+    public DaemonClient(final int number, final int millis) {
+        this(number, millis, Daemon.keyfile(number));
+    }
+
+    /**
+     * Ctor.
+     * @param number The port of the daemon
+     * @param millis Time to wait for an answer, in milliseconds
+     * @param file The file with the token of the daemon
+     */
+    public DaemonClient(final int number, final int millis, final Path file) {
+        this.port = number;
+        this.timeout = millis;
+        this.token = file;
+    }
+
+    /**
+     * Lint files with the daemon and print their defects.
+     * @param args Paths of XMIR files
+     * @throws IOException If fails
+     */
+    @SuppressWarnings({"PMD.SystemPrintln", "PMD.DoNotTerminateVM"})
+    public static void main(final String... args) throws IOException {
+        final DaemonClient client = new DaemonClient(
+            Integer.getInteger("lints.port", Daemon.DEFAULT_PORT)
+        );
+        boolean failed = false;
+        for (final String arg : args) {
+            for (final Defect defect : client.defects(Paths.get(arg))) {
+                System.out.printf(
+                    "%s:%d: [%s] %s (%s)%n",
+                    arg, defect.line(), defect.severity(), defect.text(),
+                    defect.rule()
+                );
+                failed |= defect.severity() != Severity.WARNING;
+            }
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Lint the file.
+     * @param file The XMIR file, as seen by the daemon
+     * @return Defects found
+     * @throws IOException If fails
+     */
+    public Collection<Defect> defects(final Path file) throws IOException {
+        return DaemonClient.parsed(
+            this.exchange(
+                String.format("FILE %s\n", file.toAbsolutePath()).getBytes(StandardCharsets.UTF_8)
+            )
+        );
+    }
+
+    /**
+     * Lint the program.
+     * @param xmir The XMIR
+     * @return Defects found
+     * @throws IOException If fails
+     */
+    public Collection<Defect> defects(final XML xmir) throws IOException {
+        final byte[] body = xmir.toString().getBytes(StandardCharsets.UTF_8);
+        final byte[] head = String.format("XML %d\n", body.length)
+            .getBytes(StandardCharsets.UTF_8);
+        final byte[] all = new byte[head.length + body.length];
+        System.arraycopy(head, 0, all, 0, head.length);
+        System.arraycopy(body, 0, all, head.length, body.length);
+        return DaemonClient.parsed(this.exchange(all));
+    }
+
+    /**
+     * Is the daemon alive?
+     * @return TRUE if it answers
+     */
+    public boolean alive() {
+        boolean alive;
+        try {
+            alive = this.exchange("PING\n".getBytes(StandardCharsets.UTF_8))
+                .contains("PONG");
+        } catch (final IOException ex) {
+            alive = false;
+        }
+        return alive;
+    }
+
+    /**
+     * Stop the daemon.
+     * @throws IOException If fails
+     */
+    public void stop() throws IOException {
+        this.exchange("STOP\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Send the request and read the answer, until its last line.
+     * @param request The request
+     * @return Lines of the answer
+     * @throws IOException If fails
+     */
+    private List<String> exchange(final byte[] request) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), this.port);
+            OutputStream output = socket.getOutputStream();
+            BufferedReader input = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)
+            )) {
+            if (socket.getLocalPort() == this.port) {
+                throw new IOException(
+                    String.format("No daemon at port %d, connected to itself", this.port)
+                );
+            }
+            socket.setSoTimeout(this.timeout);
+            output.write(
+                String.format(
+                    "AUTH %s\n",
+                    new String(Files.readAllBytes(this.token), StandardCharsets.UTF_8).trim()
+                ).getBytes(StandardCharsets.UTF_8)
+            );
+            output.write(request);
+            output.flush();
+            final List<String> lines = new LinkedList<>();
+            while (true) {
+                final String line = input.readLine();
+                if (line == null) {
+                    throw new IOException("The daemon closed the connection");
+                }
+                lines.add(line);
+                if (DaemonClient.last(line)) {
+                    break;
+                }
+            }
+            return lines;
+        }
+    }
+
+    /**
+     * Is it the last line of an answer?
+     * @param line The line
+     * @return TRUE if so
+     */
+    private static boolean last(final String line) {
+        return "END".equals(line) || "PONG".equals(line) || "BYE".equals(line)
+            || line.startsWith("ERROR ");
+    }
+
+    /**
+     * Parse defects from the answer.
+     * @param lines Lines of the answer
+     * @return Defects
+     * @throws IOException If the answer is an error
+     */
+    private static Collection<Defect> parsed(final List<String> lines)
+        throws IOException {
+        final Collection<Defect> defects = new LinkedList<>();
+        for (final String line : lines) {
+            if (line.startsWith("ERROR ")) {
+                throw new IOException(
+                    DefectLines.unescaped(line.substring("ERROR ".length()))
+                );
+            }
+            if (!"END".equals(line)) {
+                defects.add(DefectLines.parsed(line));
+            }
+        }
+        return defects;
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.log.Logger;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.ProtocolException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.IoChecked;
+
+/**
+ * All requests of one connection to the {@link Daemon}.
+ *
+ * <p>The first request must be {@code AUTH <token>}, with the token of
+ * the daemon, otherwise the session is closed right after the error
+ * answer. A broken connection is logged and closed.</p>
+ *
+ * @since 0.1.0
+ */
+final class DaemonSession implements Runnable {
+
+    /**
+     * The largest XMIR accepted by {@code XML <n>}, in bytes.
+     */
+    private static final long LIMIT = 64L << 20;
+
+    /**
+     * The longest request line, in bytes.
+     */
+    private static final int LONGEST = 64 << 10;
+
+    /**
+     * The connection.
+     */
+    private final Socket client;
+
+    /**
+     * The token, expected from the client.
+     */
+    private final String secret;
+
+    /**
+     * Where lints run.
+     */
+    private final Executor lints;
+
+    /**
+     * What to do when the daemon is asked to stop.
+     */
+    private final Runnable stop;
+
+    /**
+     * Ctor.
+     * @param socket The connection
+     * @param token The token, expected from the client
+     * @param executor Where lints run
+     * @param stopped What to do when the daemon is asked to stop
+     */
+    DaemonSession(final Socket socket, final String token,
+        final Executor executor, final Runnable stopped) {
+        this.client = socket;
+        this.secret = token;
+        this.lints = executor;
+        this.stop = stopped;
+    }
+
+    @Override
+    public void run() {
+        try (Socket socket = this.client;
+            InputStream input = new BufferedInputStream(socket.getInputStream());
+            OutputStream output = new BufferedOutputStream(socket.getOutputStream())) {
+            try {
+                Optional<String> request = DaemonSession.line(input);
+                if (request.isPresent()) {
+                    this.authorize(request.get());
+                    request = DaemonSession.line(input);
+                }
+                while (request.isPresent()) {
+                    output.write(
+                        this.answer(request.get(), input).getBytes(StandardCharsets.UTF_8)
+                    );
+                    output.flush();
+                    if ("STOP".equals(request.get())) {
+                        break;
+                    }
+                    request = DaemonSession.line(input);
+                }
+            } catch (final ProtocolException ex) {
+                output.write(
+                    DaemonSession.error(ex.getMessage()).getBytes(StandardCharsets.UTF_8)
+                );
+                output.flush();
+            }
+        } catch (final IOException ex) {
+            Logger.warn(
+                this, "The connection from %s is broken: %[exception]s",
+                this.client.getRemoteSocketAddress(), ex
+            );
+        }
+    }
+
+    /**
+     * Make sure the request is {@code AUTH} with the right token.
+     * @param request The first request line
+     * @throws ProtocolException If it's not
+     */
+    private void authorize(final String request) throws ProtocolException {
+        final String[] parts = request.split(" ", 2);
+        if (!"AUTH".equals(parts[0]) || parts.length < 2
+            || !MessageDigest.isEqual(
+                parts[1].getBytes(StandardCharsets.UTF_8),
+                this.secret.getBytes(StandardCharsets.UTF_8)
+            )) {
+            throw new ProtocolException(
+                "Not authorized, the first request must be 'AUTH <token>'"
+            );
+        }
+    }
+
+    /**
+     * Answer the request.
+     * @param request The request line
+     * @param input Where the rest of the request comes from
+     * @return The answer, with line breaks
+     * @throws IOException If the connection is broken
+     */
+    private String answer(final String request, final InputStream input)
+        throws IOException {
+        final String[] parts = request.split(" ", 2);
+        final String answer;
+        if ("PING".equals(parts[0])) {
+            answer = "PONG\n";
+        } else if ("STOP".equals(parts[0])) {
+            this.stop.run();
+            answer = "BYE\n";
+        } else if ("FILE".equals(parts[0]) && parts.length == 2) {
+            answer = this.linted(
+                () -> new XmirFile(Paths.get(parts[1])).parsed()
+            );
+        } else if ("XML".equals(parts[0]) && parts.length == 2) {
+            answer = this.inline(parts[1], input);
+        } else {
+            answer = DaemonSession.error(
+                String.format("Unknown request '%s'", request)
+            );
+        }
+        return answer;
+    }
+
+    /**
+     * Read the XMIR of the {@code XML <n>} request and lint it.
+     *
+     * <p>The size must be a non-negative number, not larger than
+     * {@link #LIMIT}, otherwise the answer is an error and the session
+     * goes on. The body of a request, which is too large, is skipped,
+     * without keeping it in memory, to read the next request right
+     * after it.</p>
+     *
+     * @param size The size of the XMIR, in bytes, as in the request
+     * @param input Where the XMIR comes from
+     * @return Defects or the error
+     * @throws IOException If the connection is broken
+     */
+    private String inline(final String size, final InputStream input)
+        throws IOException {
+        final boolean number = size.matches("[0-9]{1,18}");
+        final String answer;
+        if (number && Long.parseLong(size) <= DaemonSession.LIMIT) {
+            final String body = DaemonSession.body(input, Integer.parseInt(size));
+            answer = this.linted(() -> new XMLDocument(body));
+        } else if (number) {
+            DaemonSession.skip(input, Long.parseLong(size));
+            answer = DaemonSession.error(
+                String.format(
+                    "The XMIR of %s bytes is larger than %d bytes", size,
+                    DaemonSession.LIMIT
+                )
+            );
+        } else {
+            answer = DaemonSession.error(
+                String.format("Wrong size of the XMIR '%s'", size)
+            );
+        }
+        return answer;
+    }
+
+    /**
+     * Lint the program.
+     * @param xmir The XMIR
+     * @return Defects, one per line, followed by the {@code END} line,
+     *  or the error
+     */
+    private String linted(final Scalar<XML> xmir) {
+        String answer;
+        try {
+            final Collection<Defect> defects = new Program(
+                new IoChecked<>(xmir).value(), this.lints
+            ).defects();
+            final StringBuilder out = new StringBuilder(defects.size() * 80 + 4);
+            for (final Defect defect : defects) {
+                out.append(DefectLines.printed(defect)).append('\n');
+            }
+            answer = out.append("END\n").toString();
+        } catch (final IOException | UncheckedIOException
+            | IllegalArgumentException | IllegalStateException ex) {
+            answer = DaemonSession.error(String.valueOf(ex.getMessage()));
+        }
+        return answer;
+    }
+
+    /**
+     * The error answer.
+     * @param message The message
+     * @return The answer
+     */
+    private static String error(final String message) {
+        return String.format("ERROR %s\n", DefectLines.escaped(message));
+    }
+
+    /**
+     * Read the body of a request.
+     * @param input The stream
+     * @param size How many bytes
+     * @return The body
+     * @throws IOException If fails
+     */
+    private static String body(final InputStream input, final int size)
+        throws IOException {
+        final byte[] bytes = new byte[size];
+        int done = 0;
+        while (done < size) {
+            final int read = input.read(bytes, done, size - done);
+            if (read < 0) {
+                throw new EOFException("The body of the request is too short");
+            }
+            done += read;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Skip the body of a request.
+     * @param input The stream
+     * @param size How many bytes
+     * @throws IOException If fails
+     */
+    private static void skip(final InputStream input, final long size)
+        throws IOException {
+        long left = size;
+        while (left > 0L) {
+            long skipped = input.skip(left);
+            if (skipped == 0L && input.read() >= 0) {
+                skipped = 1L;
+            }
+            if (skipped <= 0L) {
+                throw new EOFException("The body of the request is too short");
+            }
+            left -= skipped;
+        }
+    }
+
+    /**
+     * Read one line.
+     *
+     * <p>A line longer than {@link #LONGEST} bytes is not read till its end,
+     * since there may be no end at all: the session can't go on after it,
+     * and is closed after the error answer.</p>
+     *
+     * @param input The stream
+     * @return The line, without the line break, if not at the end
+     * @throws IOException If fails
+     */
+    private static Optional<String> line(final InputStream input)
+        throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        int next = input.read();
+        while (next >= 0 && next != '\n') {
+            if (bytes.size() == DaemonSession.LONGEST) {
+                throw new ProtocolException(
+                    String.format(
+                        "The request line is longer than %d bytes", DaemonSession.LONGEST
+                    )
+                );
+            }
+            bytes.write(next);
+            next = input.read();
+        }
+        final Optional<String> line;
+        if (next < 0 && bytes.size() == 0) {
+            line = Optional.empty();
+        } else {
+            line = Optional.of(
+                new String(bytes.toByteArray(), StandardCharsets.UTF_8).trim()
+            );
+        }
+        return line;
+    }
+}
@@ -23,7 +23,7 @@
  */
 package org.eolang.lints;
 
-import com.jcabi.manifests.Manifests;
+import java.util.Optional;
 
 /**
  * A single defect found.
@@ -88,6 +88,11 @@ public interface Defect {
          */
         private final String txt;
 
+        /**
+         * The version of lints, if given explicitly.
+         */
+        private final Optional<String> ver;
+
         /**
          * Ctor.
          * @param rule Rule
@@ -98,10 +103,40 @@ public interface Defect {
          */
         public Default(final String rule, final Severity severity,
             final int line, final String text) {
+            this(rule, severity, line, text, Optional.empty());
+        }
+
+        /**
+         * Ctor, with the version given explicitly, which is faster
+         * and works even without the {@code Lints-Version} in the manifest.
+         * @param rule Rule
+         * @param severity Severity
+         * @param line Line number
+         * @param text Description of the defect
+         * @param version The version of lints
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        public Default(final String rule, final Severity severity,
+            final int line, final String text, final String version) {
+            this(rule, severity, line, text, Optional.of(version));
+        }
+
+        /**
+         * Ctor.
+         * @param rule Rule
+         * @param severity Severity
+         * @param line Line number
+         * @param text Description of the defect
+         * @param version The version of lints, if given explicitly
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        private Default(final String rule, final Severity severity,
+            final int line, final String text, final Optional<String> version) {
             this.rle = rule;
             this.sev = severity;
             this.lineno = line;
             this.txt = text;
+            this.ver = version;
         }
 
         @Override
@@ -133,7 +168,15 @@ public interface Defect {
 
         @Override
         public String version() {
-            return Manifests.read("Lints-Version");
+            return this.ver.orElseGet(LintsVersion::value);
+        }
+
+        /**
+         * The version of lints, if it was given explicitly.
+         * @return The version, empty if it's taken from the manifest
+         */
+        Optional<String> explicit() {
+            return this.ver;
         }
     }
 
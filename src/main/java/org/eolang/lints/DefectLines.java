@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+/**
+ * Defects as single lines of text.
+ *
+ * <p>A defect takes one line: the rule, the severity, the line number and
+ * the text, separated by tabs, where tabs, line breaks and backslashes of
+ * the text are escaped. This is how defects are kept in
+ * {@link DefectsCache} and sent by {@link Daemon}.</p>
+ *
+ * @since 0.1.0
+ */
+final class DefectLines {
+
+    /**
+     * Ctor.
+     */
+    private DefectLines() {
+        // utility class
+    }
+
+    /**
+     * Print the defect as a line.
+     * @param defect The defect
+     * @return The line, without a line break
+     */
+    static String printed(final Defect defect) {
+        return String.format(
+            "%s\t%s\t%d\t%s",
+            defect.rule(),
+            defect.severity().name(),
+            defect.line(),
+            DefectLines.escaped(defect.text())
+        );
+    }
+
+    /**
+     * Parse the defect from a line.
+     * @param line The line, made by {@link #printed(Defect)}
+     * @return The defect
+     */
+    static Defect parsed(final String line) {
+        final String[] parts = line.split("\t", 4);
+        if (parts.length < 4) {
+            throw new IllegalArgumentException(
+                String.format("Can't parse defect from '%s'", line)
+            );
+        }
+        return new Defect.Default(
+            parts[0],
+            Severity.valueOf(parts[1]),
+            Integer.parseInt(parts[2]),
+            DefectLines.unescaped(parts[3])
+        );
+    }
+
+    /**
+     * Escape the text to fit into one line.
+     * @param text The text
+     * @return Escaped text
+     */
+    static String escaped(final String text) {
+        return text.replace("\\", "\\\\").replace("\n", "\\n")
+            .replace("\r", "\\r").replace("\t", "\\t");
+    }
+
+    /**
+     * Reverse {@link #escaped(String)}.
+     * @param text Escaped text
+     * @return The original text
+     */
+    static String unescaped(final String text) {
+        final StringBuilder out = new StringBuilder(text.length());
+        boolean escape = false;
+        for (final char chr : text.toCharArray()) {
+            if (escape) {
+                if (chr == 'n') {
+                    out.append('\n');
+                } else if (chr == 'r') {
+                    out.append('\r');
+                } else if (chr == 't') {
+                    out.append('\t');
+                } else {
+                    out.append(chr);
+                }
+                escape = false;
+            } else if (chr == '\\') {
+                escape = true;
+            } else {
+                out.append(chr);
+            }
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Defects, stored compactly, column by column.
+ *
+ * <p>Instead of keeping an object per defect, with its own strings, this
+ * collection keeps a few arrays: indexes of rules, messages and versions,
+ * as {@code int}s, severities as {@code byte}s, and lines as {@code int}s.
+ * Every distinct rule name, message and version is stored only once. A
+ * version that wasn't given to {@link Defect.Default} explicitly is not
+ * stored at all, it's taken from the manifest again, when needed. A
+ * {@link Defect} object is made only when the collection is iterated, and
+ * is not retained by it.</p>
+ *
+ * <p>Messages are stored as they are, since XSL lints produce them
+ * already formatted, but lints usually repeat the same messages a lot,
+ * so only distinct ones take memory.</p>
+ *
+ * <p>The collection is opt-in, for bulk linting, where memory matters:
+ * {@link Program#defects()} and {@link Programs#defects()} return
+ * ordinary mutable lists, which keep the defects they were given. A table
+ * is filled through a sink instead:</p>
+ *
+ * <pre> final Collection&lt;Defect&gt; table = new DefectTable();
+ * new Program(xmir).defects(new Sink.Default(table::add));</pre>
+ *
+ * <p>Defects can only be added, not removed, and the table doesn't keep
+ * them: every iteration makes new {@link Defect.Default} objects, so
+ * defects of other types lose their type and identity.</p>
+ *
+ * <p>The class is not thread-safe: defects must be added from one thread
+ * at a time, as {@link Program} does.</p>
+ *
+ * @since 0.1.0
+ */
+public final class DefectTable extends AbstractCollection<Defect> {
+
+    /**
+     * All severities, by their ordinals.
+     */
+    private static final Severity[] SEVERITIES = Severity.values();
+
+    /**
+     * Distinct rules.
+     */
+    private final Pool rules;
+
+    /**
+     * Distinct messages.
+     */
+    private final Pool messages;
+
+    /**
+     * Distinct versions.
+     */
+    private final Pool versions;
+
+    /**
+     * Index of rule, for every defect.
+     */
+    private int[] rule;
+
+    /**
+     * Ordinal of severity, for every defect.
+     */
+    private byte[] severity;
+
+    /**
+     * Line, for every defect.
+     */
+    private int[] line;
+
+    /**
+     * Index of message, for every defect.
+     */
+    private int[] message;
+
+    /**
+     * Index of version, for every defect, negative if it's not given.
+     */
+    private int[] version;
+
+    /**
+     * How many defects are here.
+     */
+    private int total;
+
+    /**
+     * Ctor.
+     */
+    public DefectTable() {
+        this.rules = new Pool();
+        this.messages = new Pool();
+        this.versions = new Pool();
+        this.rule = new int[16];
+        this.severity = new byte[16];
+        this.line = new int[16];
+        this.message = new int[16];
+        this.version = new int[16];
+    }
+
+    @Override
+    public boolean add(final Defect defect) {
+        if (this.total == this.line.length) {
+            final int size = this.total * 2;
+            this.rule = Arrays.copyOf(this.rule, size);
+            this.severity = Arrays.copyOf(this.severity, size);
+            this.line = Arrays.copyOf(this.line, size);
+            this.message = Arrays.copyOf(this.message, size);
+            this.version = Arrays.copyOf(this.version, size);
+        }
+        this.rule[this.total] = this.rules.index(defect.rule());
+        this.severity[this.total] = (byte) defect.severity().ordinal();
+        this.line[this.total] = defect.line();
+        this.message[this.total] = this.messages.index(defect.text());
+        this.version[this.total] = this.release(defect);
+        ++this.total;
+        return true;
+    }
+
+    @Override
+    public Iterator<Defect> iterator() {
+        return IntStream.range(0, this.total).mapToObj(this::row).iterator();
+    }
+
+    @Override
+    public int size() {
+        return this.total;
+    }
+
+    /**
+     * Make the defect.
+     * @param idx Index of the defect
+     * @return The defect
+     */
+    private Defect row(final int idx) {
+        final Defect defect;
+        if (this.version[idx] < 0) {
+            defect = new Defect.Default(
+                this.rules.value(this.rule[idx]),
+                DefectTable.SEVERITIES[this.severity[idx]],
+                this.line[idx],
+                this.messages.value(this.message[idx])
+            );
+        } else {
+            defect = new Defect.Default(
+                this.rules.value(this.rule[idx]),
+                DefectTable.SEVERITIES[this.severity[idx]],
+                this.line[idx],
+                this.messages.value(this.message[idx]),
+                this.versions.value(this.version[idx])
+            );
+        }
+        return defect;
+    }
+
+    /**
+     * Index of the version of the defect.
+     * @param defect The defect
+     * @return Index, or minus one, if the version is taken from the manifest
+     */
+    private int release(final Defect defect) {
+        final Optional<String> ver;
+        if (defect instanceof Defect.Default) {
+            ver = ((Defect.Default) defect).explicit();
+        } else {
+            ver = Optional.of(defect.version());
+        }
+        return ver.map(this.versions::index).orElse(-1);
+    }
+
+    /**
+     * Distinct strings, by their indexes.
+     *
+     * <p>Strings are found by an open-addressing hash table of {@code int}s,
+     * to not have an entry object and a boxed index per string, which would
+     * take more memory than the string itself, if strings are short
+     * and don't repeat.</p>
+     *
+     * @since 0.1.0
+     */
+    private static final class Pool {
+
+        /**
+         * Strings, by index.
+         */
+        private final List<String> all;
+
+        /**
+         * Hash table of indexes plus one, zero means an empty slot.
+         */
+        private int[] slots;
+
+        /**
+         * Ctor.
+         */
+        Pool() {
+            this.all = new ArrayList<>(0);
+            this.slots = new int[16];
+        }
+
+        /**
+         * Index of the string, adding it if necessary.
+         * @param text The string
+         * @return Index
+         */
+        int index(final String text) {
+            int slot = Pool.slot(text, this.slots.length);
+            while (this.slots[slot] != 0
+                && !this.all.get(this.slots[slot] - 1).equals(text)) {
+                slot = (slot + 1) & (this.slots.length - 1);
+            }
+            final int idx;
+            if (this.slots[slot] == 0) {
+                this.all.add(text);
+                idx = this.all.size() - 1;
+                this.slots[slot] = idx + 1;
+                if (this.all.size() * 2 > this.slots.length) {
+                    this.grow();
+                }
+            } else {
+                idx = this.slots[slot] - 1;
+            }
+            return idx;
+        }
+
+        /**
+         * String by index.
+         * @param idx Index
+         * @return The string
+         */
+        String value(final int idx) {
+            return this.all.get(idx);
+        }
+
+        /**
+         * Make the hash table twice bigger.
+         */
+        private void grow() {
+            final int[] bigger = new int[this.slots.length * 2];
+            for (int idx = 0; idx < this.all.size(); ++idx) {
+                int slot = Pool.slot(this.all.get(idx), bigger.length);
+                while (bigger[slot] != 0) {
+                    slot = (slot + 1) & (bigger.length - 1);
+                }
+                bigger[slot] = idx + 1;
+            }
+            this.slots = bigger;
+        }
+
+        /**
+         * The first slot to look the string in.
+         * @param text The string
+         * @param size Size of the hash table, a power of two
+         * @return Slot
+         */
+        private static int slot(final String text, final int size) {
+            final int hash = text.hashCode();
+            return (hash ^ (hash >>> 16)) & (size - 1);
+        }
+    }
+
+}
@@ -0,0 +1,305 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import io.github.secretx33.resourceresolver.Resource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.cactoos.io.InputOf;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.cactoos.text.TextOf;
+
+/**
+ * Defects found earlier, saved on disk.
+ *
+ * <p>Every entry keeps defects of one rule in one XMIR and lives in
+ * {@code <dir>/<rule>/<fingerprint>/<hash>}, where the hash is
+ * the SHA-256 of the XMIR and the fingerprint is the SHA-256 of the
+ * version of lints ({@code Lints-Version} from the manifest) and of
+ * the bytecode of helpers, which all rules depend on, like
+ * {@link ProgramIndex} or {@link XslReport}, together with
+ * the stylesheet of the rule, if the rule is an XSL one, or with
+ * the bytecode of its class and its nested classes, if the rule is one
+ * of {@link JavaLints}. When the XMIR changes, all its entries are
+ * missed. When a stylesheet or a class of a rule changes, only the
+ * entries of its rule are missed. When the version or a helper changes,
+ * everything is missed. Fingerprints are calculated once per rule.</p>
+ *
+ * <p>The class is thread-safe: entries are written to a temporary file
+ * first and then atomically moved into place.</p>
+ *
+ * @see Programs
+ * @since 0.1.0
+ */
+public final class DefectsCache {
+
+    /**
+     * Classes, which rules depend on, besides their own ones: they read
+     * XMIR for Java lints, run stylesheets, turn their output into
+     * defects and print defects into the cache.
+     */
+    private static final Class<?>[] HELPERS = {
+        ProgramIndex.class, XmirStream.class, StreamLint.class,
+        Stylesheets.class, XslReport.class, DefectLines.class
+    };
+
+    /**
+     * The version of lints and the hash of helpers.
+     */
+    private static final Unchecked<String> BASE = new Unchecked<>(
+        new Synced<>(
+            new Sticky<>(
+                () -> String.format(
+                    "%s %s", LintsVersion.value(""), DefectsCache.bytecode(DefectsCache.HELPERS)
+                )
+            )
+        )
+    );
+
+    /**
+     * Fingerprints of all rules, by their names.
+     */
+    private static final Unchecked<Map<String, String>> PRINTS = new Unchecked<>(
+        new Synced<>(new Sticky<>(DefectsCache::fingerprints))
+    );
+
+    /**
+     * Fingerprint of a rule, which is not known.
+     */
+    private static final Unchecked<String> UNKNOWN = new Unchecked<>(
+        new Synced<>(new Sticky<>(() -> DefectsCache.fingerprint(DefectsCache.BASE.value(), "")))
+    );
+
+    /**
+     * The directory.
+     */
+    private final Path dir;
+
+    /**
+     * Ctor, with the cache in {@code target/lints-cache}.
+     */
+    public DefectsCache() {
+        this(Paths.get("target/lints-cache"));
+    }
+
+    /**
+     * Ctor.
+     * @param path The directory with the cache
+     */
+    public DefectsCache(final Path path) {
+        this.dir = path;
+    }
+
+    /**
+     * Defects of the rule, found earlier in the XMIR.
+     * @param hash The hash of the XMIR
+     * @param rule The name of the rule
+     * @return Defects, if they are in the cache
+     * @throws IOException If fails
+     */
+    Optional<Collection<Defect>> get(final String hash, final String rule)
+        throws IOException {
+        final Path entry = this.entry(hash, rule);
+        Optional<Collection<Defect>> found = Optional.empty();
+        if (Files.exists(entry)) {
+            final Collection<Defect> defects = new LinkedList<>();
+            for (final String line : Files.readAllLines(entry, StandardCharsets.UTF_8)) {
+                defects.add(DefectLines.parsed(line));
+            }
+            found = Optional.of(defects);
+        }
+        return found;
+    }
+
+    /**
+     * Save defects of the rule, found in the XMIR.
+     * @param hash The hash of the XMIR
+     * @param rule The name of the rule
+     * @param defects Defects found
+     * @throws IOException If fails
+     */
+    void put(final String hash, final String rule,
+        final Collection<Defect> defects) throws IOException {
+        final List<String> lines = new LinkedList<>();
+        for (final Defect defect : defects) {
+            lines.add(DefectLines.printed(defect));
+        }
+        final Path entry = this.entry(hash, rule);
+        Files.createDirectories(entry.getParent());
+        final Path temp = Files.createTempFile(entry.getParent(), hash, ".tmp");
+        Files.write(temp, lines, StandardCharsets.UTF_8);
+        try {
+            Files.move(
+                temp, entry,
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING
+            );
+        } catch (final AtomicMoveNotSupportedException ex) {
+            Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Location of the entry.
+     * @param hash The hash of the XMIR
+     * @param rule The name of the rule
+     * @return Path of the file
+     */
+    private Path entry(final String hash, final String rule) {
+        return this.dir.resolve(rule).resolve(DefectsCache.fingerprint(rule))
+            .resolve(hash);
+    }
+
+    /**
+     * Fingerprint of the rule.
+     * @param rule The name of the rule
+     * @return SHA-256 of version and the source of the rule
+     */
+    private static String fingerprint(final String rule) {
+        String print = DefectsCache.PRINTS.value().get(rule);
+        if (print == null) {
+            print = DefectsCache.UNKNOWN.value();
+        }
+        return print;
+    }
+
+    /**
+     * Fingerprint of the source of a rule.
+     * @param base Version of lints and the hash of helpers
+     * @param source The source
+     * @return SHA-256 of the base and the source
+     */
+    private static String fingerprint(final String base, final String source) {
+        return Stylesheets.sha(String.format("%s %s", base, source));
+    }
+
+    /**
+     * Fingerprints of all rules: of hashes of XSL stylesheets and of
+     * bytecode of lints, which replace some of the stylesheets.
+     * @return Fingerprints by the names of rules
+     * @throws Exception If fails
+     */
+    private static Map<String, String> fingerprints() throws Exception {
+        final String base = DefectsCache.BASE.value();
+        final Map<String, String> all = new HashMap<>(0);
+        for (final Resource res : new XslResources()) {
+            all.put(
+                res.getFilename().replaceAll("\\.xsl$", ""),
+                DefectsCache.fingerprint(
+                    base,
+                    Stylesheets.sha(new TextOf(new InputOf(res.getInputStream())).asString())
+                )
+            );
+        }
+        for (final Lint lint : new JavaLints()) {
+            all.put(
+                lint.name(),
+                DefectsCache.fingerprint(base, DefectsCache.bytecode(lint.getClass()))
+            );
+        }
+        return all;
+    }
+
+    /**
+     * Hash of the bytecode of the classes, together with their nested and
+     * anonymous classes.
+     * @param classes The classes
+     * @return SHA-256 of the bytecode
+     * @throws IOException If fails
+     */
+    static String bytecode(final Class<?>... classes) throws IOException {
+        final ByteArrayOutputStream all = new ByteArrayOutputStream();
+        for (final Class<?> cls : classes) {
+            DefectsCache.bytecode(cls, all);
+        }
+        return Stylesheets.sha(all.toByteArray());
+    }
+
+    /**
+     * Append the bytecode of the class and of its nested and anonymous
+     * classes, in the order of their names.
+     * @param cls The class
+     * @param all Where to append
+     * @throws IOException If fails
+     */
+    private static void bytecode(final Class<?> cls, final ByteArrayOutputStream all)
+        throws IOException {
+        final String path = String.format("/%s", cls.getName().replace('.', '/'));
+        DefectsCache.append(cls, String.format("%s.class", path), all);
+        int idx = 1;
+        String anonymous = String.format("%s$%d.class", path, idx);
+        while (cls.getResource(anonymous) != null) {
+            DefectsCache.append(cls, anonymous, all);
+            ++idx;
+            anonymous = String.format("%s$%d.class", path, idx);
+        }
+        final List<Class<?>> nested = new ArrayList<>(Arrays.asList(cls.getDeclaredClasses()));
+        nested.sort(Comparator.comparing(Class::getName));
+        for (final Class<?> inner : nested) {
+            DefectsCache.bytecode(inner, all);
+        }
+    }
+
+    /**
+     * Append the bytes of the resource.
+     * @param cls The class, which is loaded where the resource is
+     * @param path Absolute path of the resource
+     * @param all Where to append
+     * @throws IOException If fails
+     */
+    private static void append(final Class<?> cls, final String path,
+        final ByteArrayOutputStream all) throws IOException {
+        try (InputStream input = cls.getResourceAsStream(path)) {
+            if (input == null) {
+                throw new IOException(String.format("Can't find the class in %s", path));
+            }
+            final byte[] chunk = new byte[8192];
+            while (true) {
+                final int len = input.read(chunk);
+                if (len < 0) {
+                    break;
+                }
+                all.write(chunk, 0, len);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.jcabi.xml.XSLDocument;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import net.sf.saxon.s9api.QName;
+import net.sf.saxon.s9api.XdmNode;
+import net.sf.saxon.s9api.XdmValue;
+import net.sf.saxon.s9api.XsltExecutable;
+import org.cactoos.Input;
+import org.cactoos.Scalar;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.scalar.IoChecked;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.text.Joined;
+import org.cactoos.text.TextOf;
+
+/**
+ * All XSL lints, fused into one stylesheet.
+ *
+ * <p>Instead of running every {@link LintByXsl} separately, which means
+ * one transformation of the XMIR per rule, here all stylesheets are
+ * compiled together into one, where every rule lives in its own mode
+ * (see {@code org/eolang/fused.xsl}). The XMIR is then transformed only
+ * once and the report is split back into defects of every rule.</p>
+ *
+ * <p>Global parameters of every rule are renamed in the fused
+ * stylesheet, prefixed by the ID of the rule, so parameters given by
+ * {@link ProgramIndex#parameters()} are renamed the same way, before
+ * they go to the transformation.</p>
+ *
+ * <p>The stylesheet is compiled on first use, through
+ * {@link Stylesheets#SHARED}, so that all instances of the class share
+ * the same compiled stylesheet.</p>
+ *
+ * @since 0.1.0
+ */
+public final class FusedLint implements Lint {
+
+    /**
+     * Name of the attribute with the ID of the lint.
+     */
+    private static final QName ID = new QName("id");
+
+    /**
+     * The fused stylesheet, before compilation.
+     */
+    private final Scalar<XML> raw;
+
+    /**
+     * The fused stylesheet, compiled.
+     */
+    private final Scalar<XsltExecutable> sheet;
+
+    /**
+     * Names of global parameters in the fused stylesheet, by their
+     * original names.
+     */
+    private final Scalar<Map<String, List<QName>>> params;
+
+    /**
+     * Ctor.
+     */
+    public FusedLint() {
+        this(
+            new Mapped<>(
+                res -> new InputOf(res.getInputStream()),
+                new XslResources()
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param xsls Stylesheets of lints to fuse
+     */
+    FusedLint(final Iterable<Input> xsls) {
+        this(new Synced<>(new Sticky<>(() -> FusedLint.fused(xsls))));
+    }
+
+    /**
+     * Ctor.
+     * @param xsl The fused stylesheet
+     */
+    private FusedLint(final Scalar<XML> xsl) {
+        this.raw = xsl;
+        this.sheet = new Synced<>(
+            new Sticky<>(
+                () -> Stylesheets.SHARED.compiled(
+                    "org/eolang/fused.xsl", xsl.value().toString()
+                )
+            )
+        );
+        this.params = new Synced<>(new Sticky<>(() -> FusedLint.globals(xsl.value())));
+    }
+
+    @Override
+    public String name() {
+        return "fused";
+    }
+
+    @Override
+    public Collection<Defect> defects(final XML xmir) throws IOException {
+        final Collection<Defect> defects = new LinkedList<>();
+        for (final XdmNode lints : this.report(xmir).children("lints")) {
+            for (final XdmNode lint : lints.children("lint")) {
+                defects.addAll(
+                    new XslReport(
+                        lint.getAttributeValue(FusedLint.ID),
+                        lint.children("defects").iterator().next()
+                    ).defects()
+                );
+            }
+        }
+        return defects;
+    }
+
+    @Override
+    public String motive() throws Exception {
+        return new Joined(
+            "\n",
+            new Mapped<>(
+                id -> String.format("* `%s`", id),
+                this.raw.value().xpath("/xsl:stylesheet/xsl:template[@match='/']//lint/@id")
+            )
+        ).asString();
+    }
+
+    /**
+     * Apply the fused stylesheet to the XMIR.
+     * @param xmir The XMIR
+     * @return The report with a {@code lint} element per every rule
+     * @throws IOException If fails
+     */
+    private XdmNode report(final XML xmir) throws IOException {
+        final Map<QName, XdmValue> given = new HashMap<>(0);
+        if (xmir instanceof ProgramIndex) {
+            final Map<String, List<QName>> names = new IoChecked<>(this.params).value();
+            for (final Map.Entry<QName, XdmValue> param
+                : ((ProgramIndex) xmir).parameters().entrySet()) {
+                for (final QName name : names.getOrDefault(
+                    param.getKey().getLocalName(), Collections.emptyList()
+                )) {
+                    given.put(name, param.getValue());
+                }
+            }
+        }
+        return Stylesheets.SHARED.transform(
+            new IoChecked<>(this.sheet).value(), xmir, given
+        );
+    }
+
+    /**
+     * Global parameters of the fused stylesheet.
+     * @param xsl The fused stylesheet
+     * @return Their names, by the names they had in stylesheets of rules
+     */
+    private static Map<String, List<QName>> globals(final XML xsl) {
+        final Map<String, List<QName>> names = new HashMap<>(0);
+        final List<String> declared = xsl.xpath("/xsl:stylesheet/xsl:param/@name");
+        for (final String id
+            : xsl.xpath("/xsl:stylesheet/xsl:template[@match='/']//lint/@id")) {
+            final String prefix = String.format("%s-", id);
+            for (final String name : declared) {
+                if (name.startsWith(prefix)) {
+                    names.computeIfAbsent(
+                        name.substring(prefix.length()), key -> new LinkedList<>()
+                    ).add(new QName(name));
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Fuse all stylesheets into one.
+     * @param xsls Stylesheets of lints
+     * @return The fused stylesheet
+     * @throws Exception If fails
+     */
+    private static XML fused(final Iterable<Input> xsls) throws Exception {
+        final StringBuilder rules = new StringBuilder("<rules>");
+        for (final Input xsl : xsls) {
+            rules.append(
+                new TextOf(xsl).asString().replaceFirst("^<\\?xml[^>]*\\?>", "")
+            );
+        }
+        rules.append("</rules>");
+        return new XSLDocument(
+            new TextOf(new ResourceOf("org/eolang/fused.xsl")).asString()
+        ).transform(new XMLDocument(rules.toString()));
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Lint that works with its own copy of the XMIR.
+ *
+ * <p>A DOM is not thread-safe, even for reading. That's why the XMIR,
+ * which is shared with other lints running in parallel, is touched only
+ * while its copy is being made, holding the monitor of the XMIR.
+ * If the XMIR is a {@link ProgramIndex}, the index and its Saxon tree
+ * are shared, since they are immutable, and the copy of the DOM is made
+ * only if the lint asks for it.</p>
+ *
+ * @since 0.1.0
+ */
+final class Isolated implements Lint {
+
+    /**
+     * The original lint.
+     */
+    private final Lint origin;
+
+    /**
+     * Ctor.
+     * @param lint The original lint
+     */
+    Isolated(final Lint lint) {
+        this.origin = lint;
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public Collection<Defect> defects(final XML xmir) throws IOException {
+        final XML copy;
+        if (xmir instanceof ProgramIndex) {
+            copy = ((ProgramIndex) xmir).isolated();
+        } else {
+            synchronized (xmir) {
+                copy = new XMLDocument(xmir.node());
+            }
+        }
+        return this.origin.defects(copy);
+    }
+
+    @Override
+    public String motive() throws Exception {
+        return this.origin.motive();
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.util.Arrays;
+import org.cactoos.iterable.IterableEnvelope;
+import org.eolang.lints.comments.AsciiOnly;
+import org.eolang.lints.critical.DuplicateNames;
+import org.eolang.lints.errors.UnknownName;
+import org.eolang.lints.lines.LineOutOfListing;
+import org.eolang.lints.refs.BrokenRef;
+
+/**
+ * All lints implemented in Java.
+ *
+ * <p>Some of them replace XSL lints with the same names, which are too
+ * slow on large programs, see {@link XslLints#XslLints(Iterable)}.</p>
+ *
+ * @since 0.1.0
+ */
+public final class JavaLints extends IterableEnvelope<Lint> {
+
+    /**
+     * Ctor.
+     */
+    public JavaLints() {
+        super(
+            Arrays.asList(
+                new AsciiOnly(),
+                new BrokenRef(),
+                new UnknownName(),
+                new DuplicateNames(),
+                new LineOutOfListing("object"),
+                new LineOutOfListing("meta"),
+                new LineOutOfListing("error")
+            )
+        );
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Report in <a href="https://jsonlines.org">JSON Lines</a>, a defect per line.
+ *
+ * <p>Every line is a JSON object, like this one:</p>
+ *
+ * <pre> {"program":"foo.xmir","rule":"unknown-name","severity":"error",
+ *  "line":12,"text":"The name \"x\" is unknown","version":"0.0.1"}</pre>
+ *
+ * @since 0.1.0
+ */
+public final class JsonLinesReport implements Report {
+
+    /**
+     * Severities, in JSON, by their ordinals.
+     */
+    private static final byte[][] LEVELS = JsonLinesReport.severities();
+
+    /**
+     * The output.
+     */
+    private final ReportOutput out;
+
+    /**
+     * Ctor.
+     * @param stream Where to write
+     */
+    public JsonLinesReport(final OutputStream stream) {
+        this(Channels.newChannel(stream));
+    }
+
+    /**
+     * Ctor.
+     * @param channel Where to write
+     */
+    public JsonLinesReport(final WritableByteChannel channel) {
+        this.out = new ReportOutput(channel);
+    }
+
+    @Override
+    public void write(final String program, final Defect defect) throws IOException {
+        this.out.utf("{\"program\":\"").json(program)
+            .utf("\",\"rule\":\"").json(defect.rule())
+            .utf("\",\"severity\":\"")
+            .bytes(JsonLinesReport.LEVELS[defect.severity().ordinal()])
+            .utf("\",\"line\":").decimal(defect.line())
+            .utf(",\"text\":\"").json(defect.text())
+            .utf("\",\"version\":\"").json(defect.version())
+            .utf("\"}\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.out.close();
+    }
+
+    /**
+     * Names of severities, in lower case.
+     * @return Bytes of names by ordinals
+     */
+    private static byte[][] severities() {
+        final Severity[] all = Severity.values();
+        final byte[][] names = new byte[all.length][];
+        for (final Severity severity : all) {
+            names[severity.ordinal()] = severity.name().toLowerCase(Locale.ENGLISH)
+                .getBytes(StandardCharsets.UTF_8);
+        }
+        return names;
+    }
+}
@@ -34,6 +34,17 @@ import java.util.Collection;
  */
 public interface Lint {
 
+    /**
+     * Name of the lint, which is the name of the rule it checks.
+     *
+     * <p>By default, it is the simple name of the class.</p>
+     *
+     * @return Unique name
+     */
+    default String name() {
+        return this.getClass().getSimpleName();
+    }
+
     /**
      * Find and return defects.
      * @param xmir The XMIR document to analyze
@@ -23,23 +23,27 @@
  */
 package org.eolang.lints;
 
-import com.jcabi.xml.ClasspathSources;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
-import com.jcabi.xml.XSL;
-import com.jcabi.xml.XSLDocument;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
+import net.sf.saxon.s9api.XsltExecutable;
 import org.cactoos.Input;
+import org.cactoos.Scalar;
 import org.cactoos.io.ResourceOf;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
 import org.cactoos.text.IoCheckedText;
 import org.cactoos.text.TextOf;
 
 /**
  * Lint by XSL.
  *
+ * <p>The stylesheet is compiled on first use, through
+ * {@link Stylesheets#SHARED}, which means that it is compiled only once per
+ * process, no matter how many times the lint is constructed.</p>
+ *
  * @since 0.0.1
  */
 final class LintByXsl implements Lint {
@@ -47,12 +51,12 @@ final class LintByXsl implements Lint {
     /**
      * The name of the rule.
      */
-    private final String rule;
+    private final Unchecked<String> rule;
 
     /**
      * The stylesheet.
      */
-    private final XSL sheet;
+    private final Unchecked<XsltExecutable> sheet;
 
     /**
      * Motive document.
@@ -61,20 +65,14 @@ final class LintByXsl implements Lint {
 
     /**
      * Ctor.
+     * @param url Where the XSL comes from
      * @param xsl Relative path of XSL
      * @param motive Relative path of motive document
      * @throws IOException If fails
      */
-    @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
-    LintByXsl(final Input xsl, final Input motive) throws IOException {
-        final XML xml = new XMLDocument(
-            new IoCheckedText(
-                new TextOf(xsl)
-            ).asString()
-        );
-        this.rule = xml.xpath("/xsl:stylesheet/@id").get(0);
-        this.sheet = new XSLDocument(xml).with(new ClasspathSources());
-        this.motivedoc = motive;
+    LintByXsl(final String url, final Input xsl, final Input motive)
+        throws IOException {
+        this(url, new IoCheckedText(new TextOf(xsl)).asString(), motive);
     }
 
     /**
@@ -84,6 +82,7 @@ final class LintByXsl implements Lint {
      */
     LintByXsl(final String xsl) throws IOException {
         this(
+            String.format("org/eolang/lints/%s.xsl", xsl),
             new ResourceOf(
                 String.format("org/eolang/lints/%s.xsl", xsl)
             ),
@@ -93,27 +92,47 @@ final class LintByXsl implements Lint {
         );
     }
 
+    /**
+     * Ctor.
+     * @param url Where the XSL comes from
+     * @param xsl Text of XSL
+     * @param motive Relative path of motive document
+     */
+    private LintByXsl(final String url, final String xsl, final Input motive) {
+        this(
+            LintByXsl.named(xsl),
+            new Synced<>(
+                new Sticky<>(() -> Stylesheets.SHARED.compiled(url, xsl))
+            ),
+            motive
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param name The name of the rule
+     * @param xsl Compiled XSL
+     * @param motive Relative path of motive document
+     */
+    private LintByXsl(final Scalar<String> name,
+        final Scalar<XsltExecutable> xsl, final Input motive) {
+        this.rule = new Unchecked<>(name);
+        this.sheet = new Unchecked<>(xsl);
+        this.motivedoc = motive;
+    }
+
+    @Override
+    public String name() {
+        return this.rule.value();
+    }
+
     @Override
     public Collection<Defect> defects(final XML xmir) {
-        final XML report = this.sheet.transform(LintByXsl.sanitized(xmir));
-        final Collection<Defect> defects = new LinkedList<>();
-        for (final XML defect : report.nodes("/defects/defect")) {
-            final List<String> severity = defect.xpath("@severity");
-            if (severity.isEmpty()) {
-                throw new IllegalStateException(
-                    String.format("No severity reported by %s", this.rule)
-                );
-            }
-            defects.add(
-                new Defect.Default(
-                    this.rule,
-                    Severity.parsed(severity.get(0)),
-                    this.lineno(defect),
-                    defect.xpath("text()").get(0)
-                )
-            );
-        }
-        return defects;
+        return new XslReport(
+            this.rule.value(),
+            Stylesheets.SHARED.transform(this.sheet.value(), xmir)
+                .children("defects").iterator().next()
+        ).defects();
     }
 
     @Override
@@ -122,58 +141,20 @@ final class LintByXsl implements Lint {
     }
 
     /**
-     * Do a quick sanity check of the provided XML.
-     * @param xmir The XMIR
-     * @return The same XMIR
+     * The name of the rule, which is the ID of the stylesheet.
+     *
+     * <p>The stylesheet is parsed only when the name is needed
+     * for the first time.</p>
+     *
+     * @param xsl Text of XSL
+     * @return The name
      */
-    private static XML sanitized(final XML xmir) {
-        final String[] paths = {
-            "/program/metas/meta[not(@line) or @line='']",
-        };
-        for (final String xpath : paths) {
-            if (!xmir.nodes(xpath).isEmpty()) {
-                throw new IllegalArgumentException(
-                    String.format(
-                        "There is something wrong with the XMIR, found '%s':%n%s",
-                        xpath, xmir
-                    )
-                );
-            }
-        }
-        return xmir;
-    }
-
-    /**
-     * Get line number of the defect.
-     * @param defect XML defect
-     * @return Line number
-     */
-    private int lineno(final XML defect) {
-        final List<String> lines = defect.xpath("@line");
-        if (lines.isEmpty()) {
-            throw new IllegalStateException(
-                String.format("No line number reported by %s", this.rule)
-            );
-        }
-        final String line = lines.get(0);
-        if (line.isEmpty()) {
-            throw new IllegalStateException(
-                String.format("Empty line number reported by %s", this.rule)
-            );
-        }
-        final int lineno;
-        try {
-            lineno = Integer.parseInt(line);
-        } catch (final NumberFormatException ex) {
-            throw new IllegalStateException(
-                String.format(
-                    "Wrong line number reported by %s: '%s'",
-                    this.rule, lines.get(0)
-                ),
-                ex
-            );
-        }
-        return lineno;
+    private static Scalar<String> named(final String xsl) {
+        return new Synced<>(
+            new Sticky<>(
+                () -> new XMLDocument(xsl).xpath("/xsl:stylesheet/@id").get(0)
+            )
+        );
     }
 
 }
@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.manifests.Manifests;
+import java.util.Optional;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Version of lints, from the {@code Lints-Version} attribute of
+ * the manifest.
+ *
+ * <p>The manifests are read only once per process, on the first request,
+ * and the version is shared by all defects after that.</p>
+ *
+ * @since 0.1.0
+ */
+final class LintsVersion {
+
+    /**
+     * The version, if it's in the manifests.
+     */
+    private static final Unchecked<Optional<String>> FOUND = new Unchecked<>(
+        new Synced<>(new Sticky<>(LintsVersion::read))
+    );
+
+    /**
+     * Ctor.
+     */
+    private LintsVersion() {
+        // utility class
+    }
+
+    /**
+     * The version.
+     * @return The version
+     */
+    static String value() {
+        return LintsVersion.FOUND.value().orElseThrow(
+            () -> new IllegalStateException(
+                "There is no 'Lints-Version' attribute in the manifests"
+            )
+        );
+    }
+
+    /**
+     * The version, or the default one, if there is no version in manifests.
+     * @param def The default version
+     * @return The version
+     */
+    static String value(final String def) {
+        return LintsVersion.FOUND.value().orElse(def);
+    }
+
+    /**
+     * Read the version from the manifests.
+     * @return The version, if any
+     */
+    private static Optional<String> read() {
+        final Optional<String> version;
+        if (Manifests.exists("Lints-Version")) {
+            version = Optional.of(Manifests.read("Lints-Version"));
+        } else {
+            version = Optional.empty();
+        }
+        return version;
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collection;
+
+/**
+ * Lint that records resources it uses into {@link Metrics}.
+ *
+ * <p>Wall time, CPU time of the current thread, bytes allocated by
+ * the current thread and the number of defects found are recorded, for
+ * the rule and for the program, which is identified by the name the
+ * caller provides, usually the name of the file. The XMIR itself is
+ * not queried, to let {@link Isolated} lints avoid copying it.
+ * CPU time and allocated bytes are zero if the JVM can't measure
+ * them.</p>
+ *
+ * @since 0.1.0
+ */
+public final class Measured implements Lint {
+
+    /**
+     * The original lint.
+     */
+    private final Lint origin;
+
+    /**
+     * Where to record.
+     */
+    private final Metrics metrics;
+
+    /**
+     * The name of the program.
+     */
+    private final String program;
+
+    /**
+     * Ctor.
+     * @param lint The original lint
+     * @param mtx Where to record
+     */
+    public Measured(final Lint lint, final Metrics mtx) {
+        this(lint, mtx, "");
+    }
+
+    /**
+     * Ctor.
+     * @param lint The original lint
+     * @param mtx Where to record
+     * @param name The name of the program, or of its file
+     */
+    public Measured(final Lint lint, final Metrics mtx, final String name) {
+        this.origin = lint;
+        this.metrics = mtx;
+        this.program = name;
+    }
+
+    @Override
+    public String name() {
+        return this.origin.name();
+    }
+
+    @Override
+    public Collection<Defect> defects(final XML xmir) throws IOException {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        final long cpu = Measured.cpu(threads);
+        final long allocated = Measured.allocated(threads);
+        final long start = System.nanoTime();
+        final Collection<Defect> defects = this.origin.defects(xmir);
+        final long wall = System.nanoTime() - start;
+        this.metrics.record(
+            this.program,
+            this.origin.name(),
+            wall,
+            Measured.cpu(threads) - cpu,
+            Measured.allocated(threads) - allocated,
+            defects.size()
+        );
+        return defects;
+    }
+
+    @Override
+    public String motive() throws Exception {
+        return this.origin.motive();
+    }
+
+    /**
+     * CPU time of the current thread.
+     * @param threads Thread MX bean
+     * @return Nanoseconds, or zero if unknown
+     */
+    private static long cpu(final ThreadMXBean threads) {
+        long nanos = 0L;
+        if (threads.isCurrentThreadCpuTimeSupported()) {
+            nanos = threads.getCurrentThreadCpuTime();
+        }
+        return nanos;
+    }
+
+    /**
+     * Bytes allocated by the current thread so far.
+     * @param threads Thread MX bean
+     * @return Bytes, or zero if unknown
+     */
+    private static long allocated(final ThreadMXBean threads) {
+        long bytes = 0L;
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            final com.sun.management.ThreadMXBean sun =
+                (com.sun.management.ThreadMXBean) threads;
+            if (sun.isThreadAllocatedMemorySupported()
+                && sun.isThreadAllocatedMemoryEnabled()) {
+                bytes = sun.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,266 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+/**
+ * Resources used by lints, per rule and per program.
+ *
+ * <p>It is filled by {@link Measured} lints, for example:</p>
+ *
+ * <pre> final Metrics metrics = new Metrics();
+ * new Program(
+ *   xmir,
+ *   new Mapped&lt;&gt;(
+ *     lint -&gt; new Measured(lint, metrics, "foo.xmir"), new XslLints()
+ *   )
+ * ).defects();
+ * metrics.rules(); // slowest rules go first</pre>
+ *
+ * <p>When an {@link MBeanServer} is provided, the usage of every rule
+ * is also registered there, as
+ * {@code org.eolang.lints:type=Lint,name=<rule>}, as soon as the rule
+ * is applied for the first time. If an MBean with the same name is
+ * already registered there, for example by another instance of
+ * {@link Metrics}, the rule is not registered again. MBeans registered
+ * by this instance are unregistered by {@link #close()}.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.1.0
+ */
+public final class Metrics implements Closeable {
+
+    /**
+     * Where to register MBeans, if anywhere.
+     */
+    private final Optional<MBeanServer> server;
+
+    /**
+     * MBeans registered by this instance.
+     */
+    private final Set<ObjectName> beans;
+
+    /**
+     * Usage per rule.
+     */
+    private final ConcurrentMap<String, Usage> total;
+
+    /**
+     * Usage per program and per rule.
+     */
+    private final ConcurrentMap<String, ConcurrentMap<String, Usage>> each;
+
+    /**
+     * Ctor.
+     */
+    public Metrics() {
+        this(Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     * @param mbeans Where to register MBeans
+     */
+    public Metrics(final MBeanServer mbeans) {
+        this(Optional.of(mbeans));
+    }
+
+    /**
+     * Ctor.
+     * @param mbeans Where to register MBeans, if anywhere
+     */
+    private Metrics(final Optional<MBeanServer> mbeans) {
+        this.server = mbeans;
+        this.beans = ConcurrentHashMap.newKeySet();
+        this.total = new ConcurrentHashMap<>(0);
+        this.each = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (final ObjectName bean : this.beans) {
+            this.beans.remove(bean);
+            try {
+                if (this.server.get().isRegistered(bean)) {
+                    this.server.get().unregisterMBean(bean);
+                }
+            } catch (final JMException ex) {
+                throw new IOException(
+                    String.format("Can't unregister MBean '%s'", bean), ex
+                );
+            }
+        }
+    }
+
+    /**
+     * Usage per rule, the slowest rules first.
+     * @return Snapshot of usage by the name of the rule
+     */
+    public Map<String, Usage> rules() {
+        return Metrics.snapshot(this.total);
+    }
+
+    /**
+     * Usage per rule in the given program, the slowest rules first.
+     * @param program The name of the program
+     * @return Snapshot of usage by the name of the rule
+     */
+    public Map<String, Usage> rules(final String program) {
+        return Metrics.snapshot(
+            this.each.getOrDefault(program, new ConcurrentHashMap<>(0))
+        );
+    }
+
+    /**
+     * Names of all programs seen.
+     * @return Names
+     */
+    public List<String> programs() {
+        final List<String> names = new ArrayList<>(this.each.keySet());
+        Collections.sort(names);
+        return names;
+    }
+
+    /**
+     * Record one call of a lint.
+     * @param program The name of the program
+     * @param rule The name of the rule
+     * @param nanos Wall time, in nanoseconds
+     * @param cycles CPU time, in nanoseconds
+     * @param bytes Allocated bytes
+     * @param defects Defects found
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    void record(final String program, final String rule, final long nanos,
+        final long cycles, final long bytes, final int defects) {
+        this.total.computeIfAbsent(rule, this::registered)
+            .add(nanos, cycles, bytes, defects);
+        this.each.computeIfAbsent(program, key -> new ConcurrentHashMap<>(0))
+            .computeIfAbsent(rule, key -> new Usage())
+            .add(nanos, cycles, bytes, defects);
+    }
+
+    /**
+     * New usage of a rule, registered in JMX, if necessary.
+     * @param rule The name of the rule
+     * @return Usage
+     */
+    private Usage registered(final String rule) {
+        final Usage usage = new Usage();
+        final ObjectName bean = Metrics.bean(rule);
+        if (this.server.isPresent() && Metrics.added(this.server.get(), usage, bean)) {
+            this.beans.add(bean);
+        }
+        return usage;
+    }
+
+    /**
+     * Register an MBean, unless one with the same name is there already.
+     * @param mbeans Where to register
+     * @param usage The MBean
+     * @param bean Its name
+     * @return TRUE if registered, FALSE if the name is taken
+     */
+    private static boolean added(final MBeanServer mbeans, final Usage usage,
+        final ObjectName bean) {
+        boolean added;
+        try {
+            mbeans.registerMBean(usage, bean);
+            added = true;
+        } catch (final InstanceAlreadyExistsException ex) {
+            added = false;
+        } catch (final JMException ex) {
+            throw new IllegalStateException(
+                String.format("Can't register MBean '%s'", bean), ex
+            );
+        }
+        return added;
+    }
+
+    /**
+     * Name of the MBean of a rule.
+     * @param rule The name of the rule
+     * @return Object name
+     */
+    private static ObjectName bean(final String rule) {
+        try {
+            return new ObjectName(
+                String.format(
+                    "org.eolang.lints:type=Lint,name=%s",
+                    ObjectName.quote(rule)
+                )
+            );
+        } catch (final MalformedObjectNameException ex) {
+            throw new IllegalArgumentException(
+                String.format("Wrong name of the rule '%s'", rule), ex
+            );
+        }
+    }
+
+    /**
+     * Snapshot of usages, the slowest first.
+     * @param usages Usages by rule
+     * @return Frozen copies of them
+     */
+    private static Map<String, Usage> snapshot(final Map<String, Usage> usages) {
+        final List<Map.Entry<String, Usage>> entries = new ArrayList<>(usages.size());
+        for (final Map.Entry<String, Usage> entry : usages.entrySet()) {
+            entries.add(
+                new AbstractMap.SimpleImmutableEntry<>(
+                    entry.getKey(), entry.getValue().copy()
+                )
+            );
+        }
+        entries.sort(
+            Comparator.comparingLong(
+                (Map.Entry<String, Usage> entry) -> entry.getValue().getWallTime()
+            ).reversed()
+        );
+        final Map<String, Usage> sorted = new LinkedHashMap<>(entries.size());
+        for (final Map.Entry<String, Usage> entry : entries) {
+            sorted.put(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(sorted);
+    }
+
+}
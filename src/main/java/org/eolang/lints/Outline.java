@@ -0,0 +1,406 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+/**
+ * Top-level objects of the XMIR, with lines they take in the listing.
+ *
+ * <p>A top-level object owns lines from its {@code @line} till the line
+ * before the next top-level object. Lines before the first object and
+ * after the last meta, where comments of the first object are, belong
+ * to the first object too. The lines of metas belong to no object.</p>
+ *
+ * @since 0.1.0
+ */
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.GodClass"})
+final class Outline {
+
+    /**
+     * The DOM.
+     */
+    private final Document dom;
+
+    /**
+     * Top-level objects.
+     */
+    private final List<Element> objects;
+
+    /**
+     * Lines of top-level objects.
+     */
+    private final int[] starts;
+
+    /**
+     * Last lines of anything inside top-level objects.
+     */
+    private final int[] ends;
+
+    /**
+     * The last line of metas, or zero.
+     */
+    private final int head;
+
+    /**
+     * Ctor.
+     * @param xml The XMIR
+     */
+    Outline(final XML xml) {
+        this((Document) xml.node());
+    }
+
+    /**
+     * Ctor.
+     * @param doc The DOM
+     */
+    private Outline(final Document doc) {
+        this(doc, Outline.tops(doc));
+    }
+
+    /**
+     * Ctor.
+     * @param doc The DOM
+     * @param tops Top-level objects
+     */
+    private Outline(final Document doc, final List<Element> tops) {
+        this.dom = doc;
+        this.objects = tops;
+        this.starts = Outline.firsts(tops);
+        this.ends = Outline.lasts(tops);
+        this.head = Outline.last(Outline.children(doc.getDocumentElement(), "metas"));
+    }
+
+    /**
+     * How many top-level objects are there.
+     * @return Total
+     */
+    int size() {
+        return this.objects.size();
+    }
+
+    /**
+     * Line of the top-level object.
+     * @param idx Position of the object
+     * @return Its line
+     */
+    int start(final int idx) {
+        return this.starts[idx];
+    }
+
+    /**
+     * The object, which owns the line.
+     * @param line The line
+     * @return Position of the object, or -1 if no object owns it
+     */
+    int owner(final int line) {
+        int owner = -1;
+        if (line > this.head && this.size() > 0) {
+            int low = 0;
+            int high = this.starts.length - 1;
+            while (low < high) {
+                final int mid = (low + high + 1) >>> 1;
+                if (this.starts[mid] <= line) {
+                    low = mid;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            owner = low;
+        }
+        return owner;
+    }
+
+    /**
+     * Objects, which own some of the lines.
+     * @param lines Ranges of lines
+     * @return Positions of objects
+     */
+    Set<Integer> touched(final Iterable<PartialProgram.Lines> lines) {
+        final Set<Integer> touched = new TreeSet<>();
+        for (int idx = 0; idx < this.size(); ++idx) {
+            int low = this.head + 1;
+            if (idx > 0) {
+                low = Math.min(this.ends[idx - 1] + 1, this.starts[idx]);
+            }
+            int high = Integer.MAX_VALUE;
+            if (idx < this.size() - 1) {
+                high = this.starts[idx + 1] - 1;
+            }
+            for (final PartialProgram.Lines range : lines) {
+                if (range.first() <= high && Math.max(range.first(), range.last()) >= low) {
+                    touched.add(idx);
+                }
+            }
+        }
+        return touched;
+    }
+
+    /**
+     * Do the lines touch metas?
+     * @param lines Ranges of lines
+     * @return TRUE if some of them are not after the last meta
+     */
+    boolean heading(final Iterable<PartialProgram.Lines> lines) {
+        boolean heading = false;
+        for (final PartialProgram.Lines range : lines) {
+            heading |= range.first() <= this.head;
+        }
+        return heading;
+    }
+
+    /**
+     * Print of the metas, without their lines.
+     * @return Text, which is the same for the same metas
+     */
+    String metas() {
+        final StringBuilder print = new StringBuilder(0).append(this.head).append(':');
+        for (final Element metas : Outline.children(this.dom.getDocumentElement(), "metas")) {
+            Outline.print(metas, print);
+        }
+        return print.toString();
+    }
+
+    /**
+     * Prints of top-level objects, without lines, with their comments.
+     * @return Texts, which are the same for the same objects
+     */
+    List<String> prints() {
+        final List<StringBuilder> prints = new ArrayList<>(this.size());
+        for (final Element obj : this.objects) {
+            final StringBuilder print = new StringBuilder(0);
+            Outline.print(obj, print);
+            prints.add(print);
+        }
+        for (final Element comments : Outline.children(this.dom.getDocumentElement(), "comments")) {
+            for (final Element comment : Outline.children(comments, null)) {
+                final int owner = this.owner(Outline.line(comment));
+                if (owner >= 0) {
+                    Outline.print(comment, prints.get(owner));
+                }
+            }
+        }
+        return prints.stream().map(StringBuilder::toString).collect(Collectors.toList());
+    }
+
+    /**
+     * The XMIR, with some top-level objects only: the others are left
+     * without their insides, and their comments and errors are removed.
+     * @param kept Positions of objects to keep
+     * @return New DOM
+     */
+    Document reduced(final Set<Integer> kept) {
+        final Document doc = Outline.empty();
+        final Element root = this.dom.getDocumentElement();
+        final Node top = doc.importNode(root, false);
+        doc.appendChild(top);
+        for (Node child = root.getFirstChild(); child != null;
+            child = child.getNextSibling()) {
+            final String name = child.getNodeName();
+            if ("objects".equals(name)) {
+                final Node objs = top.appendChild(doc.importNode(child, false));
+                for (int idx = 0; idx < this.size(); ++idx) {
+                    objs.appendChild(
+                        doc.importNode(this.objects.get(idx), kept.contains(idx))
+                    );
+                }
+            } else if ("comments".equals(name) || "errors".equals(name)) {
+                final Node items = top.appendChild(doc.importNode(child, false));
+                for (final Element item : this.owned(name, kept)) {
+                    items.appendChild(doc.importNode(item, true));
+                }
+            } else {
+                top.appendChild(doc.importNode(child, true));
+            }
+        }
+        return doc;
+    }
+
+    /**
+     * Items of {@code comments} or {@code errors}, owned by the objects.
+     * @param group Name of the group, like {@code comments}
+     * @param owners Positions of objects
+     * @return Items
+     */
+    private Collection<Element> owned(final String group, final Set<Integer> owners) {
+        final Collection<Element> owned = new ArrayList<>(0);
+        for (final Element items : Outline.children(this.dom.getDocumentElement(), group)) {
+            for (final Element item : Outline.children(items, null)) {
+                if (owners.contains(this.owner(Outline.line(item)))) {
+                    owned.add(item);
+                }
+            }
+        }
+        return owned;
+    }
+
+    /**
+     * Top-level objects.
+     * @param doc The DOM
+     * @return Objects
+     */
+    private static List<Element> tops(final Document doc) {
+        final List<Element> tops = new ArrayList<>(0);
+        for (final Element objs : Outline.children(doc.getDocumentElement(), "objects")) {
+            tops.addAll(Outline.children(objs, "o"));
+        }
+        return tops;
+    }
+
+    /**
+     * Lines of objects, where an object without a line takes the line
+     * of the previous one.
+     * @param tops Objects
+     * @return Lines
+     */
+    private static int[] firsts(final List<Element> tops) {
+        final int[] starts = new int[tops.size()];
+        int line = 0;
+        for (int idx = 0; idx < starts.length; ++idx) {
+            line = Math.max(line, Outline.line(tops.get(idx)));
+            starts[idx] = line;
+        }
+        return starts;
+    }
+
+    /**
+     * Last lines of objects, with everything inside them.
+     * @param tops Objects
+     * @return Lines
+     */
+    private static int[] lasts(final List<Element> tops) {
+        final int[] ends = new int[tops.size()];
+        for (int idx = 0; idx < ends.length; ++idx) {
+            ends[idx] = Outline.last(Collections.singletonList(tops.get(idx)));
+        }
+        return ends;
+    }
+
+    /**
+     * The largest {@code @line} in the elements and everything inside them.
+     * @param elements Elements
+     * @return Line, or zero
+     */
+    private static int last(final Collection<Element> elements) {
+        int last = 0;
+        for (final Element element : elements) {
+            last = Math.max(last, Outline.line(element));
+            for (final Element child : Outline.children(element, null)) {
+                last = Math.max(last, Outline.last(Collections.singletonList(child)));
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Line of the element.
+     * @param element The element
+     * @return Its {@code @line} or zero
+     */
+    private static int line(final Element element) {
+        final String attr = element.getAttribute("line");
+        int line = 0;
+        if (attr.matches("[0-9]+")) {
+            line = Integer.parseInt(attr);
+        }
+        return line;
+    }
+
+    /**
+     * Child elements with the name.
+     * @param parent The parent
+     * @param name The name, or NULL for any
+     * @return Elements
+     */
+    private static List<Element> children(final Node parent, final String name) {
+        final List<Element> children = new ArrayList<>(0);
+        for (Node child = parent.getFirstChild(); child != null;
+            child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE
+                && (name == null || name.equals(child.getNodeName()))) {
+                children.add((Element) child);
+            }
+        }
+        return children;
+    }
+
+    /**
+     * Print the element, without {@code @line} attributes.
+     * @param node The node
+     * @param print Where to print
+     */
+    private static void print(final Node node, final StringBuilder print) {
+        if (node.getNodeType() == Node.ELEMENT_NODE) {
+            print.append('<').append(node.getNodeName());
+            final NamedNodeMap attrs = node.getAttributes();
+            final Map<String, String> sorted = new TreeMap<>();
+            for (int idx = 0; idx < attrs.getLength(); ++idx) {
+                final Node attr = attrs.item(idx);
+                if (!"line".equals(attr.getNodeName())) {
+                    sorted.put(attr.getNodeName(), attr.getNodeValue());
+                }
+            }
+            sorted.forEach(
+                (attr, value) -> print.append(' ').append(attr).append("=\"")
+                    .append(value).append('"')
+            );
+            print.append('>');
+            for (Node child = node.getFirstChild(); child != null;
+                child = child.getNextSibling()) {
+                Outline.print(child, print);
+            }
+            print.append("</>");
+        } else if (node.getNodeType() == Node.TEXT_NODE
+            || node.getNodeType() == Node.CDATA_SECTION_NODE) {
+            print.append(node.getNodeValue().trim());
+        }
+    }
+
+    /**
+     * New empty DOM.
+     * @return The DOM
+     */
+    private static Document empty() {
+        try {
+            return DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        } catch (final ParserConfigurationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
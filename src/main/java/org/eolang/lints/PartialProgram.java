@@ -0,0 +1,479 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * A single XMIR program, which was linted before and then edited, where
+ * only edited top-level objects are linted again.
+ *
+ * <p>Edited objects are either those, which own the changed lines,
+ * or those, which are not found among objects of the previous XMIR.
+ * All lints are applied to a reduced XMIR, where other top-level objects
+ * are left without their insides, see {@link Outline}. Defects of edited
+ * objects are taken from this run, while all other defects are taken
+ * from the previous one, with lines moved, if their objects are moved.
+ * When metas are edited, the whole program is linted again.</p>
+ *
+ * <p>Defects of untouched objects, which depend on the edited ones, like
+ * a name duplicated by an edit, are not found until the next full run.
+ * The changed lines are lines of the new program. When an edit inserts or
+ * removes lines, every range must tell how many lines it had before the
+ * edit, like a hunk of a diff, see {@link Lines#Lines(int, int, int)},
+ * so that old defects below it are moved accordingly.</p>
+ *
+ * @since 0.1.0
+ */
+public final class PartialProgram {
+
+    /**
+     * The XMIR, after the edit.
+     */
+    private final XML xmir;
+
+    /**
+     * Defects found before the edit.
+     */
+    private final Collection<Defect> before;
+
+    /**
+     * What is edited.
+     */
+    private final PartialProgram.Edit edit;
+
+    /**
+     * Lints to use.
+     */
+    private final Iterable<Lint> lints;
+
+    /**
+     * Ctor.
+     * @param xml The XMIR, after the edit
+     * @param found Defects of the XMIR, found before the edit
+     * @param lines Ranges of lines changed by the edit
+     */
+    public PartialProgram(final XML xml, final Collection<Defect> found,
+        final PartialProgram.Lines... lines) {
+        this(xml, found, Arrays.asList(lines), Program.LINTS);
+    }
+
+    /**
+     * Ctor.
+     * @param xml The XMIR, after the edit
+     * @param found Defects of the XMIR, found before the edit
+     * @param lines Ranges of lines changed by the edit
+     * @param lnts Lints to use
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public PartialProgram(final XML xml, final Collection<Defect> found,
+        final Iterable<PartialProgram.Lines> lines, final Iterable<Lint> lnts) {
+        this(xml, found, PartialProgram.changed(lines), lnts);
+    }
+
+    /**
+     * Ctor.
+     * @param xml The XMIR, after the edit
+     * @param previous The XMIR, before the edit
+     * @param found Defects of the previous XMIR
+     */
+    public PartialProgram(final XML xml, final XML previous,
+        final Collection<Defect> found) {
+        this(xml, previous, found, Program.LINTS);
+    }
+
+    /**
+     * Ctor.
+     * @param xml The XMIR, after the edit
+     * @param previous The XMIR, before the edit
+     * @param found Defects of the previous XMIR
+     * @param lnts Lints to use
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public PartialProgram(final XML xml, final XML previous,
+        final Collection<Defect> found, final Iterable<Lint> lnts) {
+        this(xml, found, PartialProgram.diffed(previous), lnts);
+    }
+
+    /**
+     * Ctor.
+     * @param xml The XMIR, after the edit
+     * @param found Defects found before the edit
+     * @param what What is edited
+     * @param lnts Lints to use
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private PartialProgram(final XML xml, final Collection<Defect> found,
+        final PartialProgram.Edit what, final Iterable<Lint> lnts) {
+        this.xmir = xml;
+        this.before = found;
+        this.edit = what;
+        this.lints = lnts;
+    }
+
+    /**
+     * Find defects: old ones of untouched objects and new ones
+     * of edited objects.
+     * @return All defects of the program
+     * @throws IOException If fails
+     */
+    public Collection<Defect> defects() throws IOException {
+        final Outline after = new Outline(this.xmir);
+        final Optional<PartialProgram.Moves> moves = this.edit.moves(after);
+        final Collection<Defect> defects;
+        if (moves.isPresent()) {
+            defects = new LinkedList<>();
+            for (final Defect defect : this.before) {
+                moves.get().moved(defect).ifPresent(defects::add);
+            }
+            defects.addAll(this.fresh(after, moves.get().edited()));
+        } else {
+            defects = new Program(this.xmir, this.lints).defects();
+        }
+        return defects;
+    }
+
+    /**
+     * Lint edited objects.
+     * @param after Outline of the XMIR
+     * @param edited Positions of edited top-level objects
+     * @return Defects of edited objects
+     * @throws IOException If fails
+     */
+    private Collection<Defect> fresh(final Outline after, final Set<Integer> edited)
+        throws IOException {
+        final Collection<Defect> defects = new LinkedList<>();
+        if (!edited.isEmpty()) {
+            for (final Defect defect : new Program(
+                new XMLDocument(after.reduced(edited)), this.lints
+            ).defects()) {
+                if (edited.contains(after.owner(defect.line()))) {
+                    defects.add(defect);
+                }
+            }
+        }
+        return defects;
+    }
+
+    /**
+     * Edit, made in the changed lines.
+     * @param lines Ranges of lines
+     * @return The edit
+     */
+    private static PartialProgram.Edit changed(final Iterable<PartialProgram.Lines> lines) {
+        return after -> {
+            final Optional<PartialProgram.Moves> moves;
+            if (after.size() == 0 || after.heading(lines)) {
+                moves = Optional.empty();
+            } else {
+                final Set<Integer> edited = after.touched(lines);
+                moves = Optional.of(
+                    new PartialProgram.Moves(
+                        edited,
+                        defect -> PartialProgram.renumbered(defect, lines).filter(
+                            same -> !edited.contains(after.owner(same.line()))
+                        )
+                    )
+                );
+            }
+            return moves;
+        };
+    }
+
+    /**
+     * The old defect, with its line moved by lines inserted or removed
+     * above it.
+     * @param defect The defect
+     * @param lines Ranges of lines changed by the edit
+     * @return The defect, unless its line was changed
+     */
+    private static Optional<Defect> renumbered(final Defect defect,
+        final Iterable<PartialProgram.Lines> lines) {
+        final List<PartialProgram.Lines> ranges = new ArrayList<>(0);
+        lines.forEach(ranges::add);
+        ranges.sort(Comparator.comparingInt(PartialProgram.Lines::first));
+        int shift = 0;
+        boolean changed = false;
+        for (final PartialProgram.Lines range : ranges) {
+            final int first = range.first() - shift;
+            if (defect.line() < first) {
+                break;
+            }
+            if (defect.line() < first + range.before()) {
+                changed = true;
+                break;
+            }
+            shift += range.last() - range.first() + 1 - range.before();
+        }
+        final Optional<Defect> moved;
+        if (changed) {
+            moved = Optional.empty();
+        } else if (shift == 0) {
+            moved = Optional.of(defect);
+        } else {
+            moved = Optional.of(
+                new Defect.Default(
+                    defect.rule(), defect.severity(), defect.line() + shift,
+                    defect.text(), defect.version()
+                )
+            );
+        }
+        return moved;
+    }
+
+    /**
+     * Edit, found by comparing top-level objects with the previous XMIR.
+     * @param previous The previous XMIR
+     * @return The edit
+     */
+    private static PartialProgram.Edit diffed(final XML previous) {
+        return after -> {
+            final Outline old = new Outline(previous);
+            final Optional<PartialProgram.Moves> moves;
+            if (after.size() == 0 || !old.metas().equals(after.metas())) {
+                moves = Optional.empty();
+            } else {
+                moves = Optional.of(PartialProgram.matched(old, after));
+            }
+            return moves;
+        };
+    }
+
+    /**
+     * Match top-level objects after the edit with objects before it.
+     * @param old Outline of the previous XMIR
+     * @param after Outline of the XMIR after the edit
+     * @return Objects, which are not matched, and moves of old defects
+     */
+    private static PartialProgram.Moves matched(final Outline old, final Outline after) {
+        final Map<String, Queue<Integer>> prints = new HashMap<>(old.size());
+        final List<String> olds = old.prints();
+        for (int idx = 0; idx < olds.size(); ++idx) {
+            prints.computeIfAbsent(olds.get(idx), print -> new ArrayDeque<>(1)).add(idx);
+        }
+        final Map<Integer, Integer> shifts = new HashMap<>(old.size());
+        final Set<Integer> edited = new TreeSet<>();
+        final List<String> news = after.prints();
+        for (int idx = 0; idx < news.size(); ++idx) {
+            final Integer same = prints
+                .getOrDefault(news.get(idx), new ArrayDeque<>(0)).poll();
+            if (same == null) {
+                edited.add(idx);
+            } else {
+                shifts.put(same, after.start(idx) - old.start(same));
+            }
+        }
+        return new PartialProgram.Moves(
+            edited, defect -> PartialProgram.shifted(defect, old, shifts)
+        );
+    }
+
+    /**
+     * The old defect, moved with its object, if the object is still there.
+     * @param defect The defect
+     * @param old Outline of the previous XMIR
+     * @param shifts Shifts of lines of old objects, which are still there
+     * @return The defect, if it's still there
+     */
+    private static Optional<Defect> shifted(final Defect defect, final Outline old,
+        final Map<Integer, Integer> shifts) {
+        final int owner = old.owner(defect.line());
+        final Optional<Defect> moved;
+        if (owner < 0 || shifts.getOrDefault(owner, -1) == 0) {
+            moved = Optional.of(defect);
+        } else if (shifts.containsKey(owner)) {
+            moved = Optional.of(
+                new Defect.Default(
+                    defect.rule(), defect.severity(), defect.line() + shifts.get(owner),
+                    defect.text(), defect.version()
+                )
+            );
+        } else {
+            moved = Optional.empty();
+        }
+        return moved;
+    }
+
+    /**
+     * Range of lines, inclusive.
+     *
+     * @since 0.1.0
+     */
+    public static final class Lines {
+
+        /**
+         * The first line.
+         */
+        private final int from;
+
+        /**
+         * The last line.
+         */
+        private final int till;
+
+        /**
+         * How many lines the range had before the edit.
+         */
+        private final int was;
+
+        /**
+         * Ctor.
+         * @param line The only line
+         */
+        public Lines(final int line) {
+            this(line, line);
+        }
+
+        /**
+         * Ctor, for lines changed in place, without inserting or
+         * removing any.
+         * @param first The first line
+         * @param last The last line
+         */
+        public Lines(final int first, final int last) {
+            this(first, last, last - first + 1);
+        }
+
+        /**
+         * Ctor, for a hunk, which may insert or remove lines.
+         *
+         * <p>For example, {@code new Lines(7, 9, 1)} means that one line
+         * at line 7 was replaced by three lines, and
+         * {@code new Lines(7, 6, 2)} means that two lines at line 7 were
+         * removed.</p>
+         *
+         * @param first The first line, after the edit
+         * @param last The last line, after the edit, which is
+         *  {@code first - 1}, if lines are only removed
+         * @param before How many lines the range had before the edit
+         */
+        public Lines(final int first, final int last, final int before) {
+            this.from = first;
+            this.till = last;
+            this.was = before;
+        }
+
+        /**
+         * The first line.
+         * @return Line number
+         */
+        public int first() {
+            return this.from;
+        }
+
+        /**
+         * The last line.
+         * @return Line number
+         */
+        public int last() {
+            return this.till;
+        }
+
+        /**
+         * How many lines the range had before the edit.
+         * @return Number of lines
+         */
+        public int before() {
+            return this.was;
+        }
+    }
+
+    /**
+     * What is edited in the program.
+     *
+     * @since 0.1.0
+     */
+    private interface Edit {
+
+        /**
+         * Find edited objects.
+         * @param after Outline of the program after the edit
+         * @return Edited objects and moves of old defects, or nothing,
+         *  if the whole program must be linted again
+         */
+        Optional<PartialProgram.Moves> moves(Outline after);
+    }
+
+    /**
+     * Edited objects and what happens to old defects.
+     *
+     * @since 0.1.0
+     */
+    private static final class Moves {
+
+        /**
+         * Positions of edited top-level objects.
+         */
+        private final Set<Integer> objects;
+
+        /**
+         * What happens to an old defect.
+         */
+        private final Function<Defect, Optional<Defect>> move;
+
+        /**
+         * Ctor.
+         * @param edited Positions of edited top-level objects
+         * @param how What happens to an old defect
+         */
+        Moves(final Set<Integer> edited,
+            final Function<Defect, Optional<Defect>> how) {
+            this.objects = edited;
+            this.move = how;
+        }
+
+        /**
+         * Positions of edited top-level objects.
+         * @return Positions
+         */
+        Set<Integer> edited() {
+            return this.objects;
+        }
+
+        /**
+         * The old defect, where it is after the edit.
+         * @param defect The defect
+         * @return The defect, if it's still there
+         */
+        Optional<Defect> moved(final Defect defect) {
+            return this.move.apply(defect);
+        }
+    }
+}
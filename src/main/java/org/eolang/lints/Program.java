@@ -24,20 +24,46 @@
 package org.eolang.lints;
 
 import com.jcabi.xml.XML;
-import com.jcabi.xml.XMLDocument;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.util.Arrays;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
 import org.cactoos.iterable.Joined;
+import org.cactoos.iterable.Mapped;
 import org.cactoos.iterable.Sticky;
-import org.eolang.lints.comments.AsciiOnly;
+import org.cactoos.list.ListOf;
+import org.xml.sax.SAXException;
 
 /**
  * A single XMIR program to analyze.
  *
+ * <p>By default, lints are applied one by one, in the calling thread.
+ * When an {@link Executor} is provided, they run concurrently, each of them
+ * in its own task, but the defects are still returned in the order
+ * of lints, as if they were applied sequentially.</p>
+ *
+ * <p>Concurrent work is planned by {@link Costs}, learned from previous
+ * runs: critical rules start first, then expensive ones, and cheap ones
+ * share tasks.</p>
+ *
+ * <p>Costs are kept in memory of the process, so they are learned by
+ * long-lived users, like {@link Programs}, {@link Daemon} and {@link Watch}.
+ * Set the {@code lints.costs} system property to a file, in order to keep
+ * them between processes.</p>
+ *
  * @see <a href="https://news.eolang.org/2022-11-25-xmir-guide.html">XMIR</a>
  * @since 0.1.0
  */
@@ -46,26 +72,57 @@ public final class Program {
     /**
      * Lints to use.
      */
-    private static final Iterable<Lint> LINTS = new Sticky<>(
+    static final Iterable<Lint> LINTS = new Sticky<>(
         new Joined<Lint>(
-            new XslLints(),
-            Arrays.asList(
-                new AsciiOnly()
-            )
+            new XslLints(new Mapped<>(Lint::name, new JavaLints())),
+            new JavaLints()
         )
     );
 
     /**
-     * The XMIR program to analyze.
+     * Sanity checks of the XMIR, made once, before lints.
+     */
+    static final Sanity SANITY = new Sanity.All(
+        new Sanity.Absent("/program/metas/meta[not(@line) or @line='']")
+    );
+
+    /**
+     * Costs of rules, learned by concurrent programs of this process.
+     */
+    private static final Costs COSTS = Program.learned();
+
+    /**
+     * The XMIR program to analyze, with its index, which is
+     * built once and shared by all lints.
      */
     private final XML xmir;
 
+    /**
+     * Lints to use.
+     */
+    private final Iterable<Lint> lints;
+
+    /**
+     * The executor to run lints in.
+     */
+    private final Executor exec;
+
+    /**
+     * Sanity check of the XMIR.
+     */
+    private final Sanity sanity;
+
+    /**
+     * Costs of rules, if the work is planned by them.
+     */
+    private final Optional<Costs> costs;
+
     /**
      * Ctor.
      * @param xml The XMIR
      */
     public Program(final XML xml) {
-        this.xmir = xml;
+        this(xml, Program.LINTS);
     }
 
     /**
@@ -74,7 +131,76 @@ public final class Program {
      * @throws FileNotFoundException If file not found
      */
     public Program(final Path file) throws FileNotFoundException {
-        this(new XMLDocument(file));
+        this(Program.parsed(file));
+    }
+
+    /**
+     * Ctor.
+     * @param xml The XMIR
+     * @param lnts Lints to use, for example a {@link FusedLint}
+     */
+    public Program(final XML xml, final Iterable<Lint> lnts) {
+        this(xml, lnts, Program.SANITY);
+    }
+
+    /**
+     * Ctor.
+     * @param xml The XMIR
+     * @param lnts Lints to use
+     * @param check Sanity check of the XMIR, made before all lints
+     */
+    public Program(final XML xml, final Iterable<Lint> lnts, final Sanity check) {
+        this(xml, lnts, Runnable::run, check, Optional.empty());
+    }
+
+    /**
+     * Ctor, for concurrent linting.
+     * @param xml The XMIR
+     * @param executor The executor to run lints in
+     */
+    public Program(final XML xml, final Executor executor) {
+        this(xml, executor, Program.COSTS);
+    }
+
+    /**
+     * Ctor, for concurrent linting.
+     * @param xml The XMIR
+     * @param executor The executor to run lints in
+     * @param costs Costs of rules, learned and used to plan the work
+     */
+    public Program(final XML xml, final Executor executor, final Costs costs) {
+        this(
+            xml, new Mapped<>(Isolated::new, Program.LINTS), executor,
+            Program.SANITY, Optional.of(costs)
+        );
+    }
+
+    /**
+     * Ctor, for concurrent linting.
+     * @param xml The XMIR
+     * @param lnts Lints to use
+     * @param executor The executor to run lints in
+     */
+    Program(final XML xml, final Iterable<Lint> lnts, final Executor executor) {
+        this(xml, lnts, executor, Program.SANITY, Optional.of(Program.COSTS));
+    }
+
+    /**
+     * Ctor.
+     * @param xml The XMIR
+     * @param lnts Lints to use
+     * @param executor The executor to run lints in
+     * @param check Sanity check of the XMIR
+     * @param costs Costs of rules, if the work is planned by them
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Program(final XML xml, final Iterable<Lint> lnts, final Executor executor,
+        final Sanity check, final Optional<Costs> costs) {
+        this.xmir = new ProgramIndex(xml);
+        this.lints = lnts;
+        this.exec = executor;
+        this.sanity = check;
+        this.costs = costs;
     }
 
     /**
@@ -82,11 +208,285 @@ public final class Program {
      * @return All defects found
      */
     public Collection<Defect> defects() throws IOException {
-        final Collection<Defect> messages = new LinkedList<>();
-        for (final Lint lint : Program.LINTS) {
-            messages.addAll(lint.defects(this.xmir));
+        return new Awaited<>(this.found()).value();
+    }
+
+    /**
+     * Find possible defects in the XMIR file and give them to the sink.
+     *
+     * <p>Defects of every lint go to the sink as soon as the lint
+     * and all lints before it are finished, and are not kept anywhere
+     * after that. Lints, which have not started yet when the sink is
+     * {@link Sink#done()}, are not started at all, and lints which are
+     * still running are not waited for.</p>
+     *
+     * <p>When the sink {@link Sink#stopsAtCritical()}, like
+     * {@link Sink.UntilCritical}, lints able to find
+     * {@link Severity#CRITICAL} defects go first, as {@link CriticalFirst}
+     * puts them, which is why a broken program is rejected quickly,
+     * without running most of the lints. With other sinks, the order
+     * of lints doesn't change:</p>
+     *
+     * <pre> new Program(xmir, executor).defects(
+     *   new Sink.UntilCritical(defect -&gt; System.out.println(defect))
+     * );</pre>
+     *
+     * @param sink Where to put defects
+     * @throws IOException If fails
+     */
+    public void defects(final Sink sink) throws IOException {
+        Iterable<Lint> ordered = this.lints;
+        if (sink.stopsAtCritical()) {
+            ordered = new CriticalFirst(this.lints);
+        }
+        new Awaited<>(this.streamed(ordered, sink)).value();
+    }
+
+    /**
+     * Start all lints and collect their defects, once they are ready.
+     * @return The future with all defects found
+     */
+    CompletableFuture<Collection<Defect>> found() {
+        final Collection<Defect> all = new LinkedList<>();
+        return this.streamed(this.lints, new Sink.Default(all::add))
+            .thenApply(done -> all);
+    }
+
+    /**
+     * Start all lints and stream their defects into the sink.
+     *
+     * <p>Every lint collects its defects into its own collection. They are
+     * given to the sink strictly in the order of lints, by a chain of
+     * futures, so no locks are needed, the sink is never called
+     * concurrently and the result is deterministic.</p>
+     *
+     * <p>The XMIR is checked for sanity once, here, before any lint
+     * is started, instead of every lint checking it on its own.</p>
+     *
+     * @param lnts Lints to apply, in this order
+     * @param sink Where to put defects
+     * @return The future, which completes when all lints are done
+     *  or the sink is done
+     */
+    private CompletableFuture<Void> streamed(final Iterable<Lint> lnts, final Sink sink) {
+        this.sanity.check(this.xmir);
+        final List<Lint> all = new ListOf<>(lnts);
+        final List<CompletableFuture<Collection<Defect>>> found = all.stream()
+            .map(lint -> new CompletableFuture<Collection<Defect>>())
+            .collect(Collectors.toList());
+        final CompletableFuture<Void> stop = new CompletableFuture<>();
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (final CompletableFuture<Collection<Defect>> more : found) {
+            chain = chain.thenCombine(
+                more,
+                (before, defects) -> {
+                    for (final Defect defect : defects) {
+                        if (sink.done()) {
+                            break;
+                        }
+                        sink.accept(defect);
+                    }
+                    if (sink.done()) {
+                        stop.complete(null);
+                    }
+                    return before;
+                }
+            );
         }
-        return messages;
+        this.start(all, found, sink);
+        return CompletableFuture.anyOf(chain, stop).thenAccept(any -> { });
     }
 
+    /**
+     * Start all lints, batch by batch.
+     *
+     * <p>Lints of one batch are applied one after another, in one task,
+     * and each of them completes its own future.</p>
+     *
+     * @param all All lints
+     * @param found Futures of their defects
+     * @param sink Where defects will go
+     */
+    private void start(final List<Lint> all,
+        final List<CompletableFuture<Collection<Defect>>> found, final Sink sink) {
+        for (final List<Integer> batch : this.batches(all)) {
+            CompletableFuture.runAsync(
+                () -> {
+                    for (final int idx : batch) {
+                        CompletableFuture.completedFuture(all.get(idx))
+                            .thenApply(lint -> this.applied(lint, sink))
+                            .whenComplete(
+                                (defects, error) -> Program.complete(
+                                    found.get(idx), defects, error
+                                )
+                            );
+                    }
+                },
+                this.exec
+            );
+        }
+    }
+
+    /**
+     * Batches of lints, in the order they should start.
+     *
+     * <p>Without costs, every lint is alone in its batch and lints start
+     * in their order. Otherwise, the work is planned by
+     * {@link Costs#plan(List, Collection, int)}, with critical lints
+     * ahead of all others, as {@link CriticalFirst} puts them, but defects
+     * still go to the sink in the order of lints.</p>
+     *
+     * @param all All lints
+     * @return Batches with positions of lints
+     */
+    private List<List<Integer>> batches(final List<Lint> all) {
+        final List<List<Integer>> batches;
+        if (this.costs.isPresent()) {
+            batches = this.costs.get().plan(
+                new ListOf<>(new Mapped<>(Lint::name, all)),
+                CriticalFirst.names(),
+                Program.threads(this.exec)
+            );
+        } else {
+            batches = new ArrayList<>(all.size());
+            for (int idx = 0; idx < all.size(); ++idx) {
+                batches.add(Collections.singletonList(idx));
+            }
+        }
+        return batches;
+    }
+
+    /**
+     * Apply the lint and record its cost, if costs are learned.
+     * @param lint The lint
+     * @param sink Where defects will go
+     * @return Defects found
+     */
+    private Collection<Defect> applied(final Lint lint, final Sink sink) {
+        final long start = System.nanoTime();
+        final Collection<Defect> defects = Program.defects(lint, this.xmir, sink);
+        if (this.costs.isPresent() && !sink.done()) {
+            this.costs.get().record(lint.name(), System.nanoTime() - start);
+        }
+        return defects;
+    }
+
+    /**
+     * Complete the future with defects or with the error.
+     * @param future The future
+     * @param defects Defects found, if no error
+     * @param error The error, if any
+     */
+    private static void complete(final CompletableFuture<Collection<Defect>> future,
+        final Collection<Defect> defects, final Throwable error) {
+        if (error == null) {
+            future.complete(defects);
+        } else {
+            future.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * How many threads the executor has.
+     * @param executor The executor
+     * @return Number of threads it may run concurrently
+     */
+    private static int threads(final Executor executor) {
+        final int threads;
+        if (executor instanceof ForkJoinPool) {
+            threads = ((ForkJoinPool) executor).getParallelism();
+        } else if (executor instanceof ThreadPoolExecutor) {
+            threads = Math.max(
+                1,
+                Math.min(
+                    ((ThreadPoolExecutor) executor).getMaximumPoolSize(),
+                    Runtime.getRuntime().availableProcessors()
+                )
+            );
+        } else {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        return threads;
+    }
+
+    /**
+     * Apply the lint, unless the sink is already done.
+     * @param lint The lint
+     * @param xml The XMIR
+     * @param sink Where defects will go
+     * @return Defects found
+     */
+    private static Collection<Defect> defects(final Lint lint, final XML xml,
+        final Sink sink) {
+        final Collection<Defect> found;
+        if (sink.done()) {
+            found = Collections.emptyList();
+        } else {
+            try {
+                found = lint.defects(xml);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Costs of rules, shared by concurrent programs of this process.
+     *
+     * <p>When the {@code lints.costs} system property points to a file,
+     * costs are loaded from it and saved back when the JVM exits, so that
+     * the next process starts with costs learned before. Otherwise, they
+     * are learned anew in every process.</p>
+     *
+     * @return Costs
+     */
+    private static Costs learned() {
+        final String file = System.getProperty("lints.costs");
+        final Costs costs;
+        if (file == null) {
+            costs = new Costs();
+        } else {
+            costs = new Costs(Paths.get(file));
+            Runtime.getRuntime().addShutdownHook(
+                new Thread(
+                    () -> {
+                        try {
+                            costs.save();
+                        } catch (final IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    }
+                )
+            );
+        }
+        return costs;
+    }
+
+    /**
+     * Parse the XMIR file.
+     *
+     * <p>An absent file is reported with {@link FileNotFoundException} and
+     * a file, which is not a valid XML, with
+     * {@link IllegalArgumentException}, as {@link com.jcabi.xml.XMLDocument}
+     * does.</p>
+     *
+     * @param file The file
+     * @return XMIR
+     * @throws FileNotFoundException If file not found
+     */
+    private static XML parsed(final Path file) throws FileNotFoundException {
+        try {
+            return new XmirFile(file).parsed();
+        } catch (final NoSuchFileException ex) {
+            final FileNotFoundException absent = new FileNotFoundException(ex.getMessage());
+            absent.initCause(ex);
+            throw absent;
+        } catch (final IOException ex) {
+            if (ex.getCause() instanceof SAXException) {
+                throw new IllegalArgumentException(ex.getMessage(), ex);
+            }
+            throw new UncheckedIOException(ex);
+        }
+    }
 }
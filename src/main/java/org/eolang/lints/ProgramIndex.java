@@ -0,0 +1,647 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.xml.namespace.NamespaceContext;
+import net.sf.saxon.s9api.QName;
+import net.sf.saxon.s9api.XdmAtomicValue;
+import net.sf.saxon.s9api.XdmNode;
+import net.sf.saxon.s9api.XdmValue;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXParseException;
+
+/**
+ * The XMIR together with the data, which many lints need: objects,
+ * their names and lines, aliases, metas and the size of the listing.
+ *
+ * <p>The index is built once per {@link Program}, in one pass over
+ * the DOM, when it's needed first. Java lints wrap the XMIR they
+ * get into a {@link ProgramIndex}, which reuses the index, if there
+ * is one already, instead of walking the DOM on their own. XSL lints
+ * get it as stylesheet parameters, see {@link #parameters()}:
+ * {@code $lines}, the number of lines in the listing, and
+ * {@code $bases}, all distinct {@code @base} attributes of objects.
+ * A stylesheet declares them with defaults, which compute the same
+ * without the index.</p>
+ *
+ * <p>The index is immutable and thread-safe. It doesn't refer to the
+ * DOM, which is touched only holding the monitor of the XMIR,
+ * as {@link Isolated} does.</p>
+ *
+ * @since 0.1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class ProgramIndex implements XML {
+
+    /**
+     * The XMIR.
+     */
+    private final XML xmir;
+
+    /**
+     * The data, built once.
+     */
+    private final Unchecked<ProgramIndex.Tables> data;
+
+    /**
+     * Saxon tree of the XMIR, built once.
+     */
+    private final Unchecked<XdmNode> saxon;
+
+    /**
+     * Ctor.
+     *
+     * <p>If the XMIR is indexed already, its index is reused.</p>
+     *
+     * @param xml The XMIR
+     */
+    public ProgramIndex(final XML xml) {
+        this(xml, ProgramIndex.tables(xml), ProgramIndex.tree(xml));
+    }
+
+    /**
+     * Ctor.
+     * @param xml The XMIR
+     * @param tables The data
+     * @param tree Saxon tree
+     */
+    private ProgramIndex(final XML xml, final Unchecked<ProgramIndex.Tables> tables,
+        final Unchecked<XdmNode> tree) {
+        this.xmir = xml;
+        this.data = tables;
+        this.saxon = tree;
+    }
+
+    /**
+     * All {@code o} elements, in the document order.
+     * @return Objects
+     */
+    public List<ProgramIndex.Entity> objects() {
+        return this.data.value().objects;
+    }
+
+    /**
+     * Lines of all objects with the name.
+     * @param name The name
+     * @return Lines, as they are in {@code @line}
+     */
+    public Set<String> lines(final String name) {
+        return this.data.value().lines.getOrDefault(name, Collections.emptySet());
+    }
+
+    /**
+     * First parts of all {@code alias} metas.
+     * @return Aliases
+     */
+    public Set<String> aliases() {
+        return this.data.value().aliases;
+    }
+
+    /**
+     * Distinct {@code @base} attributes of all objects.
+     * @return Bases, in the order they first appear
+     */
+    public Set<String> bases() {
+        return this.data.value().bases;
+    }
+
+    /**
+     * Parts of all metas with the head.
+     * @param head The head, like {@code alias} or {@code package}
+     * @return Parts of every meta, in the document order
+     */
+    public List<List<String>> metas(final String head) {
+        return this.data.value().metas.getOrDefault(head, Collections.emptyList());
+    }
+
+    /**
+     * Number of lines in the listing, which is what
+     * {@code count(tokenize(/program/listing, '&#10;'))} gives in XSL.
+     * @return Total
+     */
+    public int listing() {
+        return this.data.value().listing;
+    }
+
+    /**
+     * Stylesheet parameters, made of the index.
+     * @return Parameters, by names
+     */
+    public Map<QName, XdmValue> parameters() {
+        final Map<QName, XdmValue> params = new HashMap<>(2);
+        params.put(new QName("lines"), new XdmAtomicValue(this.listing()));
+        final List<XdmAtomicValue> bases = new ArrayList<>(this.bases().size());
+        for (final String base : this.bases()) {
+            bases.add(new XdmAtomicValue(base));
+        }
+        params.put(new QName("bases"), new XdmValue(bases));
+        return params;
+    }
+
+    /**
+     * The same index, over its own copy of the XMIR, which may be used
+     * in another thread.
+     *
+     * <p>The copy is made when the DOM is needed first, which means
+     * never, for lints that use only the index and the Saxon tree.</p>
+     *
+     * @return Index
+     */
+    public ProgramIndex isolated() {
+        return new ProgramIndex(new ProgramIndex.Copy(this), this.data, this.saxon);
+    }
+
+    @Override
+    public List<String> xpath(final String query) {
+        synchronized (this.xmir) {
+            return this.xmir.xpath(query);
+        }
+    }
+
+    @Override
+    public List<XML> nodes(final String query) {
+        synchronized (this.xmir) {
+            return this.xmir.nodes(query);
+        }
+    }
+
+    @Override
+    public XML registerNs(final String prefix, final Object uri) {
+        return this.xmir.registerNs(prefix, uri);
+    }
+
+    @Override
+    public XML merge(final NamespaceContext context) {
+        return this.xmir.merge(context);
+    }
+
+    @Override
+    public Node node() {
+        synchronized (this.xmir) {
+            return this.xmir.node();
+        }
+    }
+
+    @Override
+    public Collection<SAXParseException> validate() {
+        synchronized (this.xmir) {
+            return this.xmir.validate();
+        }
+    }
+
+    @Override
+    public Collection<SAXParseException> validate(final XML xsd) {
+        synchronized (this.xmir) {
+            return this.xmir.validate(xsd);
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized (this.xmir) {
+            return this.xmir.toString();
+        }
+    }
+
+    /**
+     * Saxon tree of the XMIR, built by {@link Stylesheets#SHARED}.
+     *
+     * <p>Unlike the DOM, the tree is immutable and is read by all
+     * stylesheets, in all threads, without copying.</p>
+     *
+     * @return The tree
+     */
+    XdmNode tree() {
+        return this.saxon.value();
+    }
+
+    /**
+     * The data of the index, which is built when asked first.
+     * @param xml The XMIR
+     * @return The data
+     */
+    private static Unchecked<ProgramIndex.Tables> tables(final XML xml) {
+        final Unchecked<ProgramIndex.Tables> tables;
+        if (xml instanceof ProgramIndex) {
+            tables = ((ProgramIndex) xml).data;
+        } else {
+            tables = new Unchecked<>(new Synced<>(new Sticky<>(ProgramIndex.built(xml))));
+        }
+        return tables;
+    }
+
+    /**
+     * Saxon tree of the XMIR, which is built when asked first.
+     * @param xml The XMIR
+     * @return The tree
+     */
+    private static Unchecked<XdmNode> tree(final XML xml) {
+        final Unchecked<XdmNode> tree;
+        if (xml instanceof ProgramIndex) {
+            tree = ((ProgramIndex) xml).saxon;
+        } else {
+            tree = new Unchecked<>(new Synced<>(new Sticky<>(ProgramIndex.planted(xml))));
+        }
+        return tree;
+    }
+
+    /**
+     * Build Saxon tree.
+     * @param xml The XMIR
+     * @return The tree, when asked
+     */
+    private static Scalar<XdmNode> planted(final XML xml) {
+        return () -> {
+            final Node dom;
+            synchronized (xml) {
+                dom = xml.node();
+            }
+            return Stylesheets.SHARED.tree(dom);
+        };
+    }
+
+    /**
+     * Build the data.
+     * @param xml The XMIR
+     * @return The data, when asked
+     */
+    private static Scalar<ProgramIndex.Tables> built(final XML xml) {
+        return () -> {
+            final Document dom;
+            synchronized (xml) {
+                dom = (Document) xml.node();
+            }
+            return new ProgramIndex.Tables(dom);
+        };
+    }
+
+    /**
+     * A copy of the XMIR, made when it's needed first.
+     *
+     * @since 0.1.0
+     */
+    private static final class Copy implements XML {
+
+        /**
+         * The copy.
+         */
+        private final Unchecked<XML> made;
+
+        /**
+         * Ctor.
+         * @param origin The original XMIR
+         */
+        Copy(final XML origin) {
+            this.made = new Unchecked<>(new Synced<>(new Sticky<>(Copy.copied(origin))));
+        }
+
+        @Override
+        public List<String> xpath(final String query) {
+            return this.made.value().xpath(query);
+        }
+
+        @Override
+        public List<XML> nodes(final String query) {
+            return this.made.value().nodes(query);
+        }
+
+        @Override
+        public XML registerNs(final String prefix, final Object uri) {
+            return this.made.value().registerNs(prefix, uri);
+        }
+
+        @Override
+        public XML merge(final NamespaceContext context) {
+            return this.made.value().merge(context);
+        }
+
+        @Override
+        public Node node() {
+            return this.made.value().node();
+        }
+
+        @Override
+        public Collection<SAXParseException> validate() {
+            return this.made.value().validate();
+        }
+
+        @Override
+        public Collection<SAXParseException> validate(final XML xsd) {
+            return this.made.value().validate(xsd);
+        }
+
+        @Override
+        public String toString() {
+            return this.made.value().toString();
+        }
+
+        /**
+         * Copy the XMIR.
+         * @param origin The original, which is thread-safe
+         * @return The copy, when asked
+         */
+        private static Scalar<XML> copied(final XML origin) {
+            return () -> new XMLDocument(origin.node());
+        }
+    }
+
+    /**
+     * An {@code o} element of the XMIR.
+     *
+     * @since 0.1.0
+     */
+    public static final class Entity {
+
+        /**
+         * Parent of objects under {@code /program/objects}.
+         */
+        public static final int TOP = -1;
+
+        /**
+         * Parent of objects, which are neither in other objects
+         * nor in {@code /program/objects}.
+         */
+        public static final int NONE = -2;
+
+        /**
+         * Attributes.
+         */
+        private final Map<String, String> attrs;
+
+        /**
+         * Position of the parent object in {@link ProgramIndex#objects()},
+         * or {@link #TOP}, or {@link #NONE}.
+         */
+        private final int owner;
+
+        /**
+         * Ctor.
+         * @param attributes Attributes
+         * @param pos Position of the parent
+         */
+        Entity(final Map<String, String> attributes, final int pos) {
+            this.attrs = attributes;
+            this.owner = pos;
+        }
+
+        /**
+         * The attribute.
+         * @param attr Name of the attribute, like {@code name} or {@code base}
+         * @return Value, if the attribute is present
+         */
+        public Optional<String> attr(final String attr) {
+            return Optional.ofNullable(this.attrs.get(attr));
+        }
+
+        /**
+         * Line of the object, or zero if it's unknown.
+         * @return Line number
+         */
+        public int lineno() {
+            return this.attr("line").map(Integer::parseInt).orElse(0);
+        }
+
+        /**
+         * Position of the parent object in {@link ProgramIndex#objects()},
+         * or {@link #TOP}, or {@link #NONE}.
+         * @return Position
+         */
+        public int parent() {
+            return this.owner;
+        }
+    }
+
+    /**
+     * All the data of the index.
+     *
+     * @since 0.1.0
+     */
+    private static final class Tables {
+
+        /**
+         * Objects.
+         */
+        private final List<ProgramIndex.Entity> objects;
+
+        /**
+         * Lines by names.
+         */
+        private final Map<String, Set<String>> lines;
+
+        /**
+         * Aliases.
+         */
+        private final Set<String> aliases;
+
+        /**
+         * Distinct bases of objects.
+         */
+        private final Set<String> bases;
+
+        /**
+         * Parts of metas by heads.
+         */
+        private final Map<String, List<List<String>>> metas;
+
+        /**
+         * Lines in the listing.
+         */
+        private final int listing;
+
+        /**
+         * Ctor.
+         * @param dom The DOM of the XMIR
+         */
+        Tables(final Document dom) {
+            this(
+                Tables.entities(dom),
+                Tables.headed(dom),
+                Tables.counted(dom)
+            );
+        }
+
+        /**
+         * Ctor.
+         * @param all Objects
+         * @param heads Parts of metas by heads
+         * @param total Lines in the listing
+         */
+        private Tables(final List<ProgramIndex.Entity> all,
+            final Map<String, List<List<String>>> heads, final int total) {
+            this.objects = all;
+            this.lines = Tables.named(all);
+            this.metas = heads;
+            this.aliases = Tables.aliased(heads);
+            this.bases = Tables.based(all);
+            this.listing = total;
+        }
+
+        /**
+         * All objects.
+         * @param dom The DOM
+         * @return Objects, in the document order
+         */
+        private static List<ProgramIndex.Entity> entities(final Document dom) {
+            final NodeList all = dom.getElementsByTagName("o");
+            final List<ProgramIndex.Entity> objects = new ArrayList<>(all.getLength());
+            final Map<Node, Integer> positions = new HashMap<>(all.getLength());
+            for (int idx = 0; idx < all.getLength(); ++idx) {
+                final Element obj = (Element) all.item(idx);
+                final Map<String, String> attrs = new HashMap<>(8);
+                for (int pos = 0; pos < obj.getAttributes().getLength(); ++pos) {
+                    final Node attr = obj.getAttributes().item(pos);
+                    attrs.put(attr.getNodeName(), attr.getNodeValue());
+                }
+                final Node parent = obj.getParentNode();
+                int pos = ProgramIndex.Entity.NONE;
+                if (positions.containsKey(parent)) {
+                    pos = positions.get(parent);
+                } else if ("objects".equals(parent.getNodeName())
+                    && parent.getParentNode().isSameNode(dom.getDocumentElement())
+                    && "program".equals(parent.getParentNode().getNodeName())) {
+                    pos = ProgramIndex.Entity.TOP;
+                }
+                positions.put(obj, idx);
+                objects.add(new ProgramIndex.Entity(attrs, pos));
+            }
+            return Collections.unmodifiableList(objects);
+        }
+
+        /**
+         * Lines of named objects, by names.
+         * @param objects Objects
+         * @return Lines by names
+         */
+        private static Map<String, Set<String>> named(
+            final List<ProgramIndex.Entity> objects) {
+            final Map<String, Set<String>> lines = new HashMap<>(objects.size());
+            for (final ProgramIndex.Entity obj : objects) {
+                if (obj.attr("name").isPresent() && obj.attr("line").isPresent()) {
+                    lines.computeIfAbsent(obj.attr("name").get(), name -> new HashSet<>(1))
+                        .add(obj.attr("line").get());
+                }
+            }
+            return lines;
+        }
+
+        /**
+         * Distinct bases of all objects.
+         * @param objects Objects
+         * @return Bases, in the order they first appear
+         */
+        private static Set<String> based(final List<ProgramIndex.Entity> objects) {
+            final Set<String> bases = new LinkedHashSet<>(0);
+            for (final ProgramIndex.Entity obj : objects) {
+                obj.attr("base").ifPresent(bases::add);
+            }
+            return bases;
+        }
+
+        /**
+         * Parts of all metas, by heads.
+         * @param dom The DOM
+         * @return Metas
+         */
+        private static Map<String, List<List<String>>> headed(final Document dom) {
+            final Map<String, List<List<String>>> metas = new HashMap<>(0);
+            final NodeList all = dom.getElementsByTagName("meta");
+            for (int idx = 0; idx < all.getLength(); ++idx) {
+                final Collection<String> heads = new LinkedList<>();
+                final List<String> parts = new LinkedList<>();
+                for (Node kid = all.item(idx).getFirstChild(); kid != null;
+                    kid = kid.getNextSibling()) {
+                    if ("head".equals(kid.getNodeName())) {
+                        heads.add(kid.getTextContent());
+                    }
+                    if ("part".equals(kid.getNodeName())) {
+                        parts.add(kid.getTextContent());
+                    }
+                }
+                for (final String head : heads) {
+                    metas.computeIfAbsent(head, hed -> new LinkedList<>()).add(parts);
+                }
+            }
+            return metas;
+        }
+
+        /**
+         * First parts of alias metas.
+         * @param metas Metas
+         * @return Aliases
+         */
+        private static Set<String> aliased(final Map<String, List<List<String>>> metas) {
+            final Set<String> aliases = new HashSet<>(0);
+            for (final List<String> parts : metas.getOrDefault("alias", Collections.emptyList())) {
+                if (!parts.isEmpty()) {
+                    aliases.add(parts.get(0));
+                }
+            }
+            return aliases;
+        }
+
+        /**
+         * Lines in the listing.
+         * @param dom The DOM
+         * @return Total
+         */
+        private static int counted(final Document dom) {
+            int total = 0;
+            final Element program = dom.getDocumentElement();
+            Node kid = null;
+            if ("program".equals(program.getNodeName())) {
+                kid = program.getFirstChild();
+            }
+            for (; kid != null; kid = kid.getNextSibling()) {
+                if ("listing".equals(kid.getNodeName())) {
+                    final String text = kid.getTextContent();
+                    if (!text.isEmpty()) {
+                        total = text.split("\n", -1).length;
+                    }
+                    break;
+                }
+            }
+            return total;
+        }
+    }
+}
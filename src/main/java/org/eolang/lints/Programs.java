@@ -0,0 +1,421 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Mapped;
+
+/**
+ * A batch of XMIR programs to analyze.
+ *
+ * <p>Every file is parsed once, as a separate task, and then every
+ * lint is applied to it as yet another task, so all (program x lint)
+ * pairs are spread across the threads of the provided
+ * {@link Executor}. By default, the common {@link ForkJoinPool} is used,
+ * but any other executor may be given instead (for example, a pool of
+ * virtual threads, if the JVM supports them).</p>
+ *
+ * <p>When a {@link DefectsCache} is given, defects found earlier in
+ * the same file by the same rule are taken from it. A file, which is found
+ * in the cache for all rules, is not even parsed.</p>
+ *
+ * <p>Project lints are not applied by default. When they are given,
+ * for example {@link ProjectLints}, symbols of every file are put into
+ * a {@link SymbolIndex} while the file is parsed, or read from it by StAX,
+ * if it's not parsed. When all files are linted, {@link ProjectLint}s
+ * check each of them against the index. Their defects are never cached,
+ * since they depend on other files.</p>
+ *
+ * @since 0.1.0
+ */
+public final class Programs {
+
+    /**
+     * The XMIR files to analyze.
+     */
+    private final Iterable<Path> files;
+
+    /**
+     * Lints to use.
+     */
+    private final Iterable<Lint> lints;
+
+    /**
+     * The executor to run all tasks in.
+     */
+    private final Executor exec;
+
+    /**
+     * The cache of defects, if any.
+     */
+    private final Optional<DefectsCache> cache;
+
+    /**
+     * Lints, which check files in the context of all of them.
+     */
+    private final Iterable<ProjectLint> project;
+
+    /**
+     * Ctor.
+     * @param dir The directory with {@code .xmir} files (searched recursively)
+     */
+    public Programs(final Path dir) {
+        this(dir, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param dir The directory with {@code .xmir} files (searched recursively)
+     * @param executor The executor to run tasks in
+     */
+    public Programs(final Path dir, final Executor executor) {
+        this(Programs.xmirs(dir), executor);
+    }
+
+    /**
+     * Ctor.
+     * @param dir The directory with {@code .xmir} files (searched recursively)
+     * @param defects The cache of defects
+     */
+    public Programs(final Path dir, final DefectsCache defects) {
+        this(
+            Programs.xmirs(dir), Program.LINTS, ForkJoinPool.commonPool(),
+            Optional.of(defects)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param paths The absolute paths of XMIR files
+     */
+    public Programs(final Iterable<Path> paths) {
+        this(paths, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param paths The absolute paths of XMIR files
+     * @param executor The executor to run tasks in
+     */
+    public Programs(final Iterable<Path> paths, final Executor executor) {
+        this(paths, Program.LINTS, executor);
+    }
+
+    /**
+     * Ctor.
+     * @param paths The absolute paths of XMIR files
+     * @param executor The executor to run tasks in
+     * @param defects The cache of defects
+     */
+    public Programs(final Iterable<Path> paths, final Executor executor,
+        final DefectsCache defects) {
+        this(paths, Program.LINTS, executor, Optional.of(defects));
+    }
+
+    /**
+     * Ctor, with project lints, for example {@link ProjectLints}.
+     * @param dir The directory with {@code .xmir} files (searched recursively)
+     * @param wide Lints, which check files in the context of all of them
+     */
+    public Programs(final Path dir, final Iterable<ProjectLint> wide) {
+        this(Programs.xmirs(dir), ForkJoinPool.commonPool(), wide);
+    }
+
+    /**
+     * Ctor, with project lints, for example {@link ProjectLints}.
+     * @param paths The absolute paths of XMIR files
+     * @param executor The executor to run tasks in
+     * @param wide Lints, which check files in the context of all of them
+     */
+    public Programs(final Iterable<Path> paths, final Executor executor,
+        final Iterable<ProjectLint> wide) {
+        this(paths, Program.LINTS, executor, Optional.empty(), wide);
+    }
+
+    /**
+     * Ctor.
+     * @param paths The absolute paths of XMIR files
+     * @param lints Lints to use
+     * @param executor The executor to run tasks in
+     */
+    Programs(final Iterable<Path> paths, final Iterable<Lint> lints,
+        final Executor executor) {
+        this(paths, lints, executor, Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     * @param paths The absolute paths of XMIR files
+     * @param lints Lints to use
+     * @param executor The executor to run tasks in
+     * @param defects The cache of defects, if any
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Programs(final Iterable<Path> paths, final Iterable<Lint> lints,
+        final Executor executor, final Optional<DefectsCache> defects) {
+        this(paths, lints, executor, defects, Collections.emptyList());
+    }
+
+    /**
+     * Ctor.
+     * @param paths The absolute paths of XMIR files
+     * @param lints Lints to use
+     * @param executor The executor to run tasks in
+     * @param defects The cache of defects, if any
+     * @param wide Lints, which check files in the context of all of them
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Programs(final Iterable<Path> paths, final Iterable<Lint> lints,
+        final Executor executor, final Optional<DefectsCache> defects,
+        final Iterable<ProjectLint> wide) {
+        this.files = paths;
+        this.lints = lints;
+        this.exec = executor;
+        this.cache = defects;
+        this.project = wide;
+    }
+
+    /**
+     * Find defects in all XMIR files.
+     * @return Defects found, grouped by files, in the order of files
+     * @throws IOException If fails to read or to lint a file
+     */
+    public Map<Path, Collection<Defect>> defects() throws IOException {
+        final Iterable<Lint> isolated = new Mapped<>(Isolated::new, this.lints);
+        final Optional<SymbolIndex> index;
+        if (this.project.iterator().hasNext()) {
+            index = Optional.of(new SymbolIndex());
+        } else {
+            index = Optional.empty();
+        }
+        final Map<Path, CompletableFuture<Collection<Defect>>> tasks =
+            new LinkedHashMap<>(0);
+        for (final Path file : this.files) {
+            tasks.put(file, this.linted(file, isolated, index));
+        }
+        final Map<Path, Collection<Defect>> found = new LinkedHashMap<>(tasks.size());
+        for (final Map.Entry<Path, CompletableFuture<Collection<Defect>>> entry
+            : tasks.entrySet()) {
+            found.put(entry.getKey(), new Awaited<>(entry.getValue()).value());
+        }
+        if (index.isPresent()) {
+            for (final Map.Entry<Path, Collection<Defect>> entry : found.entrySet()) {
+                entry.setValue(this.wide(entry.getKey(), entry.getValue(), index.get()));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Start linting of the file.
+     * @param file The file
+     * @param isolated Lints to use
+     * @param index Symbols of all files, to fill, if any
+     * @return The future with all defects found
+     */
+    private CompletableFuture<Collection<Defect>> linted(final Path file,
+        final Iterable<Lint> isolated, final Optional<SymbolIndex> index) {
+        final CompletableFuture<Collection<Defect>> found;
+        if (this.cache.isPresent()) {
+            final DefectsCache defects = this.cache.get();
+            found = CompletableFuture.supplyAsync(
+                () -> Programs.hash(file), this.exec
+            ).thenCompose(
+                hash -> {
+                    final Optional<Collection<Defect>> before =
+                        Programs.cached(defects, hash, this.lints);
+                    final CompletableFuture<Collection<Defect>> after;
+                    if (before.isPresent()) {
+                        index.ifPresent(
+                            symbols -> Programs.indexed(symbols, file, new XmirStream(file))
+                        );
+                        after = CompletableFuture.completedFuture(before.get());
+                    } else {
+                        after = this.fresh(
+                            file,
+                            new Mapped<>(lint -> new Cached(lint, defects, hash), isolated),
+                            index
+                        );
+                    }
+                    return after;
+                }
+            );
+        } else {
+            found = this.fresh(file, isolated, index);
+        }
+        return found;
+    }
+
+    /**
+     * Parse the file and apply lints to it.
+     * @param file The file
+     * @param lnts Lints to use
+     * @param index Symbols of all files, to fill, if any
+     * @return The future with all defects found
+     */
+    private CompletableFuture<Collection<Defect>> fresh(final Path file,
+        final Iterable<Lint> lnts, final Optional<SymbolIndex> index) {
+        return CompletableFuture.supplyAsync(
+            () -> {
+                final XML xmir = new ProgramIndex(Programs.parsed(file));
+                index.ifPresent(
+                    symbols -> Programs.indexed(symbols, file, new XmirStream(xmir))
+                );
+                return xmir;
+            },
+            this.exec
+        ).thenCompose(
+            xmir -> new Program(xmir, lnts, this.exec).found()
+        );
+    }
+
+    /**
+     * Defects of the file, together with defects of project lints.
+     * @param file The file
+     * @param local Defects found in the file alone
+     * @param index Symbols of all files
+     * @return All defects
+     * @throws IOException If fails
+     */
+    private Collection<Defect> wide(final Path file, final Collection<Defect> local,
+        final SymbolIndex index) throws IOException {
+        final Collection<Defect> all = new LinkedList<>();
+        all.addAll(local);
+        for (final ProjectLint lint : this.project) {
+            all.addAll(lint.defects(file, index));
+        }
+        return all;
+    }
+
+    /**
+     * All XMIR files in the directory, sorted.
+     * @param dir The directory
+     * @return Lazy list of files
+     */
+    private static Iterable<Path> xmirs(final Path dir) {
+        return new IterableOf<>(
+            () -> {
+                try (Stream<Path> all = Files.walk(dir)) {
+                    return all
+                        .filter(Files::isRegularFile)
+                        .filter(file -> file.toString().endsWith(".xmir"))
+                        .sorted()
+                        .collect(Collectors.toList())
+                        .iterator();
+                }
+            }
+        );
+    }
+
+    /**
+     * Defects of all lints in the file, if all of them are in the cache.
+     * @param defects The cache
+     * @param hash The hash of the file
+     * @param lints Lints
+     * @return All defects, if all lints are in the cache
+     */
+    private static Optional<Collection<Defect>> cached(final DefectsCache defects,
+        final String hash, final Iterable<Lint> lints) {
+        final Collection<Defect> all = new LinkedList<>();
+        boolean complete = true;
+        try {
+            for (final Lint lint : lints) {
+                final Optional<Collection<Defect>> found =
+                    defects.get(hash, lint.name());
+                if (!found.isPresent()) {
+                    complete = false;
+                    break;
+                }
+                all.addAll(found.get());
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        final Optional<Collection<Defect>> result;
+        if (complete) {
+            result = Optional.of(all);
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    /**
+     * SHA-256 hash of the file.
+     * @param file The file
+     * @return Hex of the hash
+     */
+    private static String hash(final Path file) {
+        try {
+            return new XmirFile(file).hash();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Put symbols of the file into the index.
+     * @param index The index
+     * @param file The file
+     * @param events Events of its XMIR
+     */
+    private static void indexed(final SymbolIndex index, final Path file,
+        final XmirStream events) {
+        try {
+            index.index(file, events);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Parse the XMIR file.
+     * @param file The file
+     * @return XMIR
+     */
+    private static XML parsed(final Path file) {
+        try {
+            return new XmirFile(file, true).parsed();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * A checker of an {@code .xmir} file in the context of the whole project,
+ * which sees other files only through the {@link SymbolIndex}.
+ *
+ * <p>Such lints are applied by {@link Programs}, when all files are
+ * indexed, see {@link ProjectLints}.</p>
+ *
+ * @since 0.1.0
+ */
+public interface ProjectLint {
+
+    /**
+     * Name of the lint, which is the name of the rule it checks.
+     * @return Unique name
+     */
+    String name();
+
+    /**
+     * Find and return defects of the file.
+     * @param file The file to analyze, which is in the index
+     * @param index Symbols of all files of the project
+     * @return Defects
+     * @throws IOException If fails
+     */
+    Collection<Defect> defects(Path file, SymbolIndex index) throws IOException;
+
+    /**
+     * Returns motive for a lint, explaining why this lint exists.
+     * @return Motive text about lint
+     * @throws Exception if something went wrong
+     */
+    String motive() throws Exception;
+}
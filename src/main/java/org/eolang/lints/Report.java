@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Report with defects, written as they come.
+ *
+ * <p>Defects are written one by one, straight to the output, and nothing
+ * is kept in memory, no matter how many of them there are. Some formats
+ * have a trailer, which is why the report must be closed. To stream
+ * defects of a {@link Program} into a report, use
+ * {@link Sink.Reported}:</p>
+ *
+ * <pre> try (Report report = new SarifReport(Files.newOutputStream(path))) {
+ *   new Program(xmir).defects(new Sink.Reported(report, "foo.xmir"));
+ * }</pre>
+ *
+ * <p>Reports are not thread-safe.</p>
+ *
+ * @see JsonLinesReport
+ * @see SarifReport
+ * @see BinaryReport
+ * @since 0.1.0
+ */
+public interface Report extends Closeable {
+
+    /**
+     * Write the defect.
+     * @param program The program where the defect is found, for example
+     *  the path of its XMIR file
+     * @param defect The defect
+     * @throws IOException If fails
+     */
+    void write(String program, Defect defect) throws IOException;
+}
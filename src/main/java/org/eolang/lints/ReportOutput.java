@@ -0,0 +1,360 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Buffered output of reports.
+ *
+ * <p>Characters are encoded into UTF-8 right inside one buffer, which is
+ * reused for the whole report, and the buffer goes to the channel only when
+ * it is full. No strings, byte arrays or encoders are created for every
+ * value written.</p>
+ *
+ * <p>A surrogate without its pair can't be encoded into UTF-8, that's
+ * why it's written as the replacement character {@code U+FFFD}, as
+ * {@link String#getBytes(java.nio.charset.Charset)} does.</p>
+ *
+ * <p>The class is not thread-safe.</p>
+ *
+ * @since 0.1.0
+ */
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.GodClass"})
+final class ReportOutput implements Closeable {
+
+    /**
+     * Hex digits.
+     */
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+
+    /**
+     * The replacement character, instead of a surrogate without its pair.
+     */
+    private static final int REPLACEMENT = 0xfffd;
+
+    /**
+     * Where bytes go.
+     */
+    private final WritableByteChannel channel;
+
+    /**
+     * The buffer.
+     */
+    private final byte[] buffer;
+
+    /**
+     * The buffer, as seen by the channel.
+     */
+    private final ByteBuffer wrap;
+
+    /**
+     * How many bytes are in the buffer.
+     */
+    private int size;
+
+    /**
+     * Characters of the text being written, reused.
+     */
+    private char[] chars;
+
+    /**
+     * Digits of a number, reused.
+     */
+    private final byte[] digits;
+
+    /**
+     * Ctor.
+     * @param target Where bytes go
+     */
+    ReportOutput(final WritableByteChannel target) {
+        this(target, 1 << 16);
+    }
+
+    /**
+     * Ctor.
+     * @param target Where bytes go
+     * @param capacity Size of the buffer, at least 16 bytes
+     */
+    ReportOutput(final WritableByteChannel target, final int capacity) {
+        this.channel = target;
+        this.buffer = new byte[Math.max(capacity, 16)];
+        this.wrap = ByteBuffer.wrap(this.buffer);
+        this.digits = new byte[20];
+        this.size = 0;
+        this.chars = new char[256];
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.drain();
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    /**
+     * Write the byte.
+     * @param octet The byte
+     * @return Itself
+     * @throws IOException If fails
+     */
+    ReportOutput octet(final int octet) throws IOException {
+        if (this.size == this.buffer.length) {
+            this.drain();
+        }
+        this.buffer[this.size] = (byte) octet;
+        ++this.size;
+        return this;
+    }
+
+    /**
+     * Write the bytes.
+     * @param bytes The bytes
+     * @return Itself
+     * @throws IOException If fails
+     */
+    ReportOutput bytes(final byte[] bytes) throws IOException {
+        int pos = 0;
+        while (pos < bytes.length) {
+            if (this.size == this.buffer.length) {
+                this.drain();
+            }
+            final int len = Math.min(this.buffer.length - this.size, bytes.length - pos);
+            System.arraycopy(bytes, pos, this.buffer, this.size, len);
+            this.size += len;
+            pos += len;
+        }
+        return this;
+    }
+
+    /**
+     * Write the text in UTF-8.
+     * @param text The text
+     * @return Itself
+     * @throws IOException If fails
+     */
+    ReportOutput utf(final String text) throws IOException {
+        this.encoded(text, false);
+        return this;
+    }
+
+    /**
+     * Write the text in UTF-8, escaped as the content of a JSON string.
+     * @param text The text
+     * @return Itself
+     * @throws IOException If fails
+     */
+    ReportOutput json(final String text) throws IOException {
+        this.encoded(text, true);
+        return this;
+    }
+
+    /**
+     * Write the number in decimal digits.
+     * @param number The number
+     * @return Itself
+     * @throws IOException If fails
+     */
+    ReportOutput decimal(final long number) throws IOException {
+        if (number < 0L) {
+            this.octet('-');
+        }
+        long rest = Math.abs(number);
+        int pos = this.digits.length;
+        do {
+            --pos;
+            this.digits[pos] = (byte) ('0' + rest % 10L);
+            rest /= 10L;
+        } while (rest > 0L);
+        for (int idx = pos; idx < this.digits.length; ++idx) {
+            this.octet(this.digits[idx]);
+        }
+        return this;
+    }
+
+    /**
+     * Write the non-negative number as an unsigned LEB128 varint.
+     * @param number The number
+     * @return Itself
+     * @throws IOException If fails
+     */
+    ReportOutput varint(final long number) throws IOException {
+        long rest = number;
+        while ((rest & ~0x7fL) != 0L) {
+            this.octet((int) (rest & 0x7fL | 0x80L));
+            rest >>>= 7;
+        }
+        return this.octet((int) rest);
+    }
+
+    /**
+     * Send everything buffered to the channel.
+     * @throws IOException If fails
+     */
+    void flush() throws IOException {
+        this.drain();
+    }
+
+    /**
+     * How many bytes the text takes in UTF-8.
+     * @param text The text
+     * @return Number of bytes
+     */
+    static int weight(final CharSequence text) {
+        final int len = text.length();
+        int bytes = 0;
+        int idx = 0;
+        while (idx < len) {
+            final char chr = text.charAt(idx);
+            if (chr < 0x80) {
+                bytes += 1;
+            } else if (chr < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(chr) && idx + 1 < len
+                && Character.isLowSurrogate(text.charAt(idx + 1))) {
+                bytes += 4;
+                ++idx;
+            } else {
+                bytes += 3;
+            }
+            ++idx;
+        }
+        return bytes;
+    }
+
+    /**
+     * Write the text in UTF-8, in one pass over its characters.
+     * @param text The text
+     * @param escape Escape it for JSON
+     * @throws IOException If fails
+     */
+    private void encoded(final String text, final boolean escape)
+        throws IOException {
+        final int len = text.length();
+        if (this.chars.length < len) {
+            this.chars = new char[Math.max(len, this.chars.length << 1)];
+        }
+        text.getChars(0, len, this.chars, 0);
+        int idx = 0;
+        while (idx < len) {
+            idx += this.character(idx, len, escape);
+        }
+    }
+
+    /**
+     * Write the character of the text being written.
+     * @param idx Position of the character
+     * @param len Length of the text
+     * @param escape Escape it for JSON
+     * @return How many characters were consumed, one or two
+     * @throws IOException If fails
+     */
+    private int character(final int idx, final int len, final boolean escape)
+        throws IOException {
+        final char chr = this.chars[idx];
+        int taken = 1;
+        if (chr >= 0x80) {
+            if (Character.isHighSurrogate(chr) && idx + 1 < len
+                && Character.isLowSurrogate(this.chars[idx + 1])) {
+                this.code(Character.toCodePoint(chr, this.chars[idx + 1]));
+                taken = 2;
+            } else if (Character.isSurrogate(chr)) {
+                this.code(ReportOutput.REPLACEMENT);
+            } else {
+                this.code(chr);
+            }
+        } else if (escape && (chr == '"' || chr == '\\' || chr < 0x20)) {
+            this.escaped(chr);
+        } else {
+            this.octet(chr);
+        }
+        return taken;
+    }
+
+    /**
+     * Write the code point in UTF-8, with more than one byte.
+     * @param code The code point
+     * @throws IOException If fails
+     */
+    private void code(final int code) throws IOException {
+        if (code < 0x800) {
+            this.octet(0xc0 | code >> 6);
+        } else if (code < 0x10000) {
+            this.octet(0xe0 | code >> 12);
+            this.octet(0x80 | code >> 6 & 0x3f);
+        } else {
+            this.octet(0xf0 | code >> 18);
+            this.octet(0x80 | code >> 12 & 0x3f);
+            this.octet(0x80 | code >> 6 & 0x3f);
+        }
+        this.octet(0x80 | code & 0x3f);
+    }
+
+    /**
+     * Write the JSON escape sequence of the character.
+     * @param chr The character
+     * @throws IOException If fails
+     */
+    private void escaped(final char chr) throws IOException {
+        this.octet('\\');
+        if (chr == '"' || chr == '\\') {
+            this.octet(chr);
+        } else if (chr == '\n') {
+            this.octet('n');
+        } else if (chr == '\r') {
+            this.octet('r');
+        } else if (chr == '\t') {
+            this.octet('t');
+        } else {
+            this.octet('u').octet('0').octet('0')
+                .octet(ReportOutput.HEX[chr >> 4]).octet(ReportOutput.HEX[chr & 0xf]);
+        }
+    }
+
+    /**
+     * Write everything buffered to the channel.
+     *
+     * <p>The wrapper is reset as a {@link Buffer}, since
+     * {@code ByteBuffer.clear()} returns {@code ByteBuffer} only since
+     * Java 9, and the code compiled by a newer JDK would fail on Java 8
+     * otherwise.</p>
+     *
+     * @throws IOException If fails
+     */
+    private void drain() throws IOException {
+        final Buffer view = this.wrap;
+        view.clear();
+        view.limit(this.size);
+        while (this.wrap.hasRemaining()) {
+            this.channel.write(this.wrap);
+        }
+        this.size = 0;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.util.Arrays;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import org.w3c.dom.Node;
+
+/**
+ * Structural check of the XMIR, made once per program,
+ * before any lint is applied.
+ *
+ * @see Program
+ * @since 0.1.0
+ */
+public interface Sanity {
+
+    /**
+     * Check the XMIR.
+     * @param xmir The XMIR
+     * @throws IllegalArgumentException If the XMIR is broken
+     */
+    void check(XML xmir);
+
+    /**
+     * Sanity checks, all of them, one by one.
+     *
+     * @since 0.1.0
+     */
+    final class All implements Sanity {
+
+        /**
+         * Checks.
+         */
+        private final Iterable<Sanity> checks;
+
+        /**
+         * Ctor.
+         * @param all Checks
+         */
+        public All(final Sanity... all) {
+            this(Arrays.asList(all));
+        }
+
+        /**
+         * Ctor.
+         * @param all Checks
+         */
+        public All(final Iterable<Sanity> all) {
+            this.checks = all;
+        }
+
+        @Override
+        public void check(final XML xmir) {
+            for (final Sanity sanity : this.checks) {
+                sanity.check(xmir);
+            }
+        }
+    }
+
+    /**
+     * There must be no nodes found by the XPath.
+     *
+     * <p>When there are, the error points to the first of them, by its
+     * location in the XMIR and a short piece of it, so the message stays
+     * short even for huge programs.</p>
+     *
+     * @since 0.1.0
+     */
+    final class Absent implements Sanity {
+
+        /**
+         * How long a piece of the broken node may be, in the error.
+         */
+        private static final int MAX = 120;
+
+        /**
+         * The XPath.
+         */
+        private final String xpath;
+
+        /**
+         * Ctor.
+         * @param path The XPath of nodes, which must be absent
+         */
+        public Absent(final String path) {
+            this.xpath = path;
+        }
+
+        @Override
+        public void check(final XML xmir) {
+            if (!xmir.nodes(this.xpath).isEmpty()) {
+                final Node node = this.first(xmir);
+                String piece = new XMLDocument(node).toString()
+                    .replaceFirst("^<\\?xml[^>]*\\?>", "")
+                    .replaceAll(">\\s+<", "><")
+                    .replaceAll("\\s+", " ")
+                    .trim();
+                if (piece.length() > Absent.MAX) {
+                    piece = String.format("%s...", piece.substring(0, Absent.MAX));
+                }
+                throw new IllegalArgumentException(
+                    String.format(
+                        "There is something wrong with the XMIR, found '%s' at %s: %s",
+                        this.xpath, Absent.location(node), piece
+                    )
+                );
+            }
+        }
+
+        /**
+         * The first node found.
+         * @param xmir The XMIR
+         * @return The node, in the whole document
+         */
+        private Node first(final XML xmir) {
+            try {
+                return (Node) XPathFactory.newInstance().newXPath().evaluate(
+                    this.xpath, xmir.node(), XPathConstants.NODE
+                );
+            } catch (final XPathExpressionException ex) {
+                throw new IllegalArgumentException(ex);
+            }
+        }
+
+        /**
+         * Location of the node in the document, like
+         * {@code /program/metas/meta[2]}.
+         * @param node The node
+         * @return Location
+         */
+        private static String location(final Node node) {
+            final StringBuilder path = new StringBuilder(0);
+            for (Node cur = node; cur != null && cur.getNodeType() == Node.ELEMENT_NODE;
+                cur = cur.getParentNode()) {
+                int pos = 1;
+                for (Node sib = cur.getPreviousSibling(); sib != null;
+                    sib = sib.getPreviousSibling()) {
+                    if (sib.getNodeName().equals(cur.getNodeName())) {
+                        ++pos;
+                    }
+                }
+                path.insert(0, String.format("/%s[%d]", cur.getNodeName(), pos));
+            }
+            return path.toString();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Report in <a href="https://sarifweb.azurewebsites.net">SARIF 2.1.0</a>.
+ *
+ * <p>The report has one run, where every defect is a result. Critical
+ * defects and errors have the {@code error} level, warnings have
+ * the {@code warning} level, while the original severity is kept in
+ * the {@code severity} property of the result. The program is the URI of
+ * the artifact. Lines, which are not positive, are not reported, since
+ * SARIF doesn't allow them.</p>
+ *
+ * <p>The header is written with the first defect, or when the report is
+ * closed, and the trailer is written when the report is closed. The
+ * version of the tool in the header is the one given to the constructor,
+ * which is the version of lints from the manifest by default, no matter
+ * what versions defects have.</p>
+ *
+ * @since 0.1.0
+ */
+public final class SarifReport implements Report {
+
+    /**
+     * The output.
+     */
+    private final ReportOutput out;
+
+    /**
+     * The version of the tool.
+     */
+    private final String version;
+
+    /**
+     * Defects written so far.
+     */
+    private long written;
+
+    /**
+     * Ctor.
+     * @param stream Where to write
+     */
+    public SarifReport(final OutputStream stream) {
+        this(Channels.newChannel(stream));
+    }
+
+    /**
+     * Ctor.
+     * @param channel Where to write
+     */
+    public SarifReport(final WritableByteChannel channel) {
+        this(channel, LintsVersion.value(""));
+    }
+
+    /**
+     * Ctor.
+     * @param channel Where to write
+     * @param ver The version of the tool
+     */
+    public SarifReport(final WritableByteChannel channel, final String ver) {
+        this.out = new ReportOutput(channel);
+        this.version = ver;
+        this.written = 0L;
+    }
+
+    @Override
+    public void write(final String program, final Defect defect) throws IOException {
+        if (this.written == 0L) {
+            this.header();
+        } else {
+            this.out.octet(',');
+        }
+        this.out.utf("\n{\"ruleId\":\"").json(defect.rule())
+            .utf("\",\"level\":\"").utf(SarifReport.level(defect.severity()))
+            .utf("\",\"message\":{\"text\":\"").json(defect.text())
+            .utf("\"},\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":\"")
+            .json(program).utf("\"}");
+        if (defect.line() > 0) {
+            this.out.utf(",\"region\":{\"startLine\":").decimal(defect.line()).octet('}');
+        }
+        this.out.utf("}}],\"properties\":{\"severity\":\"")
+            .utf(SarifReport.severity(defect.severity()))
+            .utf("\"}}");
+        ++this.written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (this.written == 0L) {
+                this.header();
+            }
+            this.out.utf("\n]}]}\n");
+        } finally {
+            this.out.close();
+        }
+    }
+
+    /**
+     * Write the header.
+     * @throws IOException If fails
+     */
+    private void header() throws IOException {
+        this.out.utf("{\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\",")
+            .utf("\"version\":\"2.1.0\",\"runs\":[{\"tool\":{\"driver\":{")
+            .utf("\"name\":\"lints\",\"version\":\"").json(this.version)
+            .utf("\",\"informationUri\":\"https://github.com/objectionary/lints\"}},")
+            .utf("\"results\":[");
+    }
+
+    /**
+     * SARIF level of the severity.
+     * @param severity The severity
+     * @return The level
+     */
+    private static String level(final Severity severity) {
+        final String level;
+        if (severity == Severity.WARNING) {
+            level = "warning";
+        } else {
+            level = "error";
+        }
+        return level;
+    }
+
+    /**
+     * Name of the severity.
+     * @param severity The severity
+     * @return The name, in lower case
+     */
+    private static String severity(final Severity severity) {
+        final String name;
+        if (severity == Severity.CRITICAL) {
+            name = "critical";
+        } else if (severity == Severity.ERROR) {
+            name = "error";
+        } else {
+            name = "warning";
+        }
+        return name;
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.cactoos.iterable.Filtered;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.Joined;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+
+/**
+ * Lints, selected by their rules and severities.
+ *
+ * <p>A rule is matched either by its name, like {@code unknown-name}, or
+ * by a glob over its path, like {@code metas/*} (see {@link Catalog}).
+ * When nothing is included explicitly, all rules
+ * are included. Excluded rules are never selected.</p>
+ *
+ * <p>Rules, which are not able to report defects of the minimum severity
+ * or higher, are filtered out before they run, which means that
+ * their stylesheets are never compiled. Defects of lower severities,
+ * reported by the rules selected, are dropped.</p>
+ *
+ * <p>For example, this is how only critical rules, errors and
+ * everything with metas are checked:</p>
+ *
+ * <pre> new Program(
+ *   xmir,
+ *   new Selection()
+ *     .including("critical/*", "errors/*", "metas/*")
+ *     .atLeast(Severity.ERROR)
+ * ).defects();</pre>
+ *
+ * @since 0.1.0
+ */
+public final class Selection extends IterableEnvelope<Lint> {
+
+    /**
+     * Lints to select from.
+     */
+    private final Iterable<Lint> lints;
+
+    /**
+     * Rules to include.
+     */
+    private final List<Pattern> included;
+
+    /**
+     * Rules to exclude.
+     */
+    private final List<Pattern> excluded;
+
+    /**
+     * Minimum severity.
+     */
+    private final Severity minimum;
+
+    /**
+     * Ctor, for all lints.
+     */
+    public Selection() {
+        this(Program.LINTS);
+    }
+
+    /**
+     * Ctor.
+     * @param lnts Lints to select from
+     */
+    public Selection(final Iterable<Lint> lnts) {
+        this(
+            lnts, Collections.emptyList(), Collections.emptyList(),
+            Severity.WARNING
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param lnts Lints to select from
+     * @param include Rules to include
+     * @param exclude Rules to exclude
+     * @param min Minimum severity
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Selection(final Iterable<Lint> lnts, final List<Pattern> include,
+        final List<Pattern> exclude, final Severity min) {
+        super(Selection.selected(lnts, include, exclude, min));
+        this.lints = lnts;
+        this.included = include;
+        this.excluded = exclude;
+        this.minimum = min;
+    }
+
+    /**
+     * Include these rules too.
+     * @param rules Names of rules or globs over their paths
+     * @return New selection
+     */
+    public Selection including(final String... rules) {
+        return new Selection(
+            this.lints,
+            Selection.joined(this.included, rules),
+            this.excluded,
+            this.minimum
+        );
+    }
+
+    /**
+     * Exclude these rules.
+     * @param rules Names of rules or globs over their paths
+     * @return New selection
+     */
+    public Selection excluding(final String... rules) {
+        return new Selection(
+            this.lints,
+            this.included,
+            Selection.joined(this.excluded, rules),
+            this.minimum
+        );
+    }
+
+    /**
+     * Select only rules able to report this severity or higher.
+     * @param min Minimum severity
+     * @return New selection
+     */
+    public Selection atLeast(final Severity min) {
+        return new Selection(this.lints, this.included, this.excluded, min);
+    }
+
+    /**
+     * Select lints.
+     * @param lnts Lints to select from
+     * @param include Rules to include
+     * @param exclude Rules to exclude
+     * @param min Minimum severity
+     * @return Lints selected
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static Iterable<Lint> selected(final Iterable<Lint> lnts,
+        final List<Pattern> include, final List<Pattern> exclude,
+        final Severity min) {
+        final Catalog catalog = new Catalog();
+        return new Mapped<>(
+            lint -> Selection.bounded(lint, catalog.severities(lint.name()), min),
+            new Filtered<>(
+                lint -> Selection.wanted(
+                    lint.name(), catalog.path(lint), include, exclude
+                ) && Selection.severe(catalog.severities(lint.name()), min),
+                lnts
+            )
+        );
+    }
+
+    /**
+     * Is this rule wanted?
+     * @param name Name of the rule
+     * @param path Path of the rule
+     * @param include Rules to include
+     * @param exclude Rules to exclude
+     * @return TRUE if wanted
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static boolean wanted(final String name, final String path,
+        final List<Pattern> include, final List<Pattern> exclude) {
+        return (include.isEmpty() || Selection.matches(name, path, include))
+            && !Selection.matches(name, path, exclude);
+    }
+
+    /**
+     * Does the rule match any of the patterns?
+     * @param name Name of the rule
+     * @param path Path of the rule
+     * @param patterns Patterns
+     * @return TRUE if matches
+     */
+    private static boolean matches(final String name, final String path,
+        final Iterable<Pattern> patterns) {
+        boolean found = false;
+        for (final Pattern pattern : patterns) {
+            if (pattern.matcher(name).matches() || pattern.matcher(path).matches()) {
+                found = true;
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Is any of these severities the minimum one or higher?
+     * @param severities Severities
+     * @param min Minimum severity
+     * @return TRUE if so
+     */
+    private static boolean severe(final Collection<Severity> severities,
+        final Severity min) {
+        boolean found = false;
+        for (final Severity severity : severities) {
+            if (severity.compareTo(min) <= 0) {
+                found = true;
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Make the lint drop defects of severities lower than the minimum,
+     * if it is able to report them.
+     * @param lint The lint
+     * @param severities Severities it is able to report
+     * @param min Minimum severity
+     * @return The lint
+     */
+    private static Lint bounded(final Lint lint, final Set<Severity> severities,
+        final Severity min) {
+        final Lint result;
+        if (severities.stream().anyMatch(sev -> sev.compareTo(min) > 0)) {
+            result = new Selection.Bounded(lint, min);
+        } else {
+            result = lint;
+        }
+        return result;
+    }
+
+    /**
+     * Add patterns.
+     * @param before Patterns
+     * @param rules Names of rules or globs over their paths
+     * @return All patterns
+     */
+    private static List<Pattern> joined(final List<Pattern> before,
+        final String... rules) {
+        return new ListOf<>(
+            new Joined<Pattern>(
+                before,
+                new Mapped<>(Selection::glob, Arrays.asList(rules))
+            )
+        );
+    }
+
+    /**
+     * Turn a glob into a regular expression.
+     *
+     * <p>The {@code **} matches anything, the {@code *} matches anything
+     * but slashes, and the {@code ?} matches any single character, except
+     * a slash.</p>
+     *
+     * @param glob The glob
+     * @return Pattern
+     */
+    private static Pattern glob(final String glob) {
+        final StringBuilder regex = new StringBuilder(glob.length() << 1);
+        int pos = 0;
+        while (pos < glob.length()) {
+            final char chr = glob.charAt(pos);
+            if (glob.startsWith("**", pos)) {
+                regex.append(".*");
+                ++pos;
+            } else if (chr == '*') {
+                regex.append("[^/]*");
+            } else if (chr == '?') {
+                regex.append("[^/]");
+            } else {
+                regex.append(Pattern.quote(String.valueOf(chr)));
+            }
+            ++pos;
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    /**
+     * Lint, which drops defects of lower severities.
+     *
+     * @since 0.1.0
+     */
+    private static final class Bounded implements Lint {
+
+        /**
+         * The lint.
+         */
+        private final Lint origin;
+
+        /**
+         * Minimum severity.
+         */
+        private final Severity minimum;
+
+        /**
+         * Ctor.
+         * @param lint The lint
+         * @param min Minimum severity
+         */
+        Bounded(final Lint lint, final Severity min) {
+            this.origin = lint;
+            this.minimum = min;
+        }
+
+        @Override
+        public String name() {
+            return this.origin.name();
+        }
+
+        @Override
+        public Collection<Defect> defects(final XML xmir) throws IOException {
+            final Collection<Defect> defects = new LinkedList<>();
+            for (final Defect defect : this.origin.defects(xmir)) {
+                if (defect.severity().compareTo(this.minimum) <= 0) {
+                    defects.add(defect);
+                }
+            }
+            return defects;
+        }
+
+        @Override
+        public String motive() throws Exception {
+            return this.origin.motive();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Receiver of defects, one by one, as soon as they are found.
+ *
+ * <p>Defects are given to {@link #accept(Defect)} sequentially,
+ * never concurrently, while {@link #done()} may be asked from any thread,
+ * at any moment, to stop looking for more defects.</p>
+ *
+ * @see Program#defects(Sink)
+ * @since 0.1.0
+ */
+public interface Sink {
+
+    /**
+     * Take the next defect.
+     * @param defect The defect
+     */
+    void accept(Defect defect);
+
+    /**
+     * No more defects are needed.
+     * @return TRUE if linting may stop
+     */
+    boolean done();
+
+    /**
+     * Does the sink stop taking defects after the first critical one?
+     *
+     * <p>If it does, the order of defects doesn't matter to it, and lints,
+     * which find critical defects, may run before all others, so that
+     * linting stops as early as possible.</p>
+     *
+     * @return TRUE if it does
+     */
+    boolean stopsAtCritical();
+
+    /**
+     * Sink that takes all defects.
+     *
+     * @since 0.1.0
+     */
+    final class Default implements Sink {
+
+        /**
+         * Where to put defects.
+         */
+        private final Consumer<Defect> target;
+
+        /**
+         * Ctor.
+         * @param consumer Where to put defects
+         */
+        public Default(final Consumer<Defect> consumer) {
+            this.target = consumer;
+        }
+
+        @Override
+        public void accept(final Defect defect) {
+            this.target.accept(defect);
+        }
+
+        @Override
+        public boolean done() {
+            return false;
+        }
+
+        @Override
+        public boolean stopsAtCritical() {
+            return false;
+        }
+    }
+
+    /**
+     * Sink that takes defects until the first {@link Severity#CRITICAL} one.
+     *
+     * <p>The critical defect is taken too, but nothing after it.</p>
+     *
+     * @since 0.1.0
+     */
+    final class UntilCritical implements Sink {
+
+        /**
+         * The original sink.
+         */
+        private final Sink origin;
+
+        /**
+         * Is critical defect seen already?
+         */
+        private final AtomicBoolean seen;
+
+        /**
+         * Ctor.
+         * @param consumer Where to put defects
+         */
+        public UntilCritical(final Consumer<Defect> consumer) {
+            this(new Sink.Default(consumer));
+        }
+
+        /**
+         * Ctor.
+         * @param sink The original sink
+         */
+        public UntilCritical(final Sink sink) {
+            this.origin = sink;
+            this.seen = new AtomicBoolean(false);
+        }
+
+        @Override
+        public void accept(final Defect defect) {
+            if (!this.seen.get()) {
+                this.origin.accept(defect);
+                if (defect.severity() == Severity.CRITICAL) {
+                    this.seen.set(true);
+                }
+            }
+        }
+
+        @Override
+        public boolean done() {
+            return this.seen.get() || this.origin.done();
+        }
+
+        @Override
+        public boolean stopsAtCritical() {
+            return true;
+        }
+    }
+
+    /**
+     * Sink that writes all defects of a program into a report.
+     *
+     * @since 0.1.0
+     */
+    final class Reported implements Sink {
+
+        /**
+         * The report.
+         */
+        private final Report report;
+
+        /**
+         * The program.
+         */
+        private final String program;
+
+        /**
+         * Ctor.
+         * @param target The report
+         * @param name The program, for example the path of its XMIR file
+         */
+        public Reported(final Report target, final String name) {
+            this.report = target;
+            this.program = name;
+        }
+
+        @Override
+        public void accept(final Defect defect) {
+            try {
+                this.report.write(this.program, defect);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public boolean done() {
+            return false;
+        }
+
+        @Override
+        public boolean stopsAtCritical() {
+            return false;
+        }
+    }
+}
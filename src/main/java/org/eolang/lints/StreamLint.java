@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lint, which needs only local context of elements and can check
+ * the XMIR in one pass over its events, without the DOM.
+ *
+ * <p>Such lints are able to check XMIR files of any size, with bounded
+ * memory, see {@link StreamedProgram}. They still work as usual lints
+ * with a DOM, by {@link XmirStream#XmirStream(com.jcabi.xml.XML)}.</p>
+ *
+ * @since 0.1.0
+ */
+public interface StreamLint extends Lint {
+
+    /**
+     * Start a new pass over the XMIR.
+     * @return The pass, which collects defects while it sees the XMIR
+     */
+    StreamLint.Pass pass();
+
+    /**
+     * One pass over the XMIR, which sees all its elements and texts,
+     * in the document order.
+     *
+     * <p>The path is a list of element names, from the root down to the
+     * current element, like {@code [program, metas, meta]}. It changes
+     * with every event and must not be kept.</p>
+     *
+     * @since 0.1.0
+     */
+    interface Pass {
+
+        /**
+         * Element is started.
+         * @param path The path of the element
+         * @param attrs Its attributes
+         */
+        void start(List<String> path, Map<String, String> attrs);
+
+        /**
+         * A piece of text, maybe not all of it.
+         * @param path The path of the element with the text
+         * @param text The text
+         */
+        void text(List<String> path, String text);
+
+        /**
+         * Element is finished.
+         * @param path The path of the element
+         */
+        void end(List<String> path);
+
+        /**
+         * Defects found, when the pass is over.
+         * @return Defects
+         */
+        Collection<Defect> defects();
+    }
+}
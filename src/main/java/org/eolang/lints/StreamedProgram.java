@@ -0,0 +1,186 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.iterable.Filtered;
+
+/**
+ * A single XMIR file to analyze, which may be too big for a DOM.
+ *
+ * <p>All {@link StreamLint}s are applied together, in one pass over
+ * the file, read by StAX, with memory bounded by the depth of the XMIR,
+ * not by its size. Only if there are other lints, which need the entire
+ * document, the DOM is built, just for them, by {@link Program}.</p>
+ *
+ * <p>By default, only streaming lints of {@link JavaLints} are used,
+ * which is a small part of all rules: {@code ascii-only} and
+ * {@code *-line-out-of-listing}, for now. Other rules, including all XSL
+ * ones, are not checked at all. To check them too, give the lints
+ * explicitly, for example all lints of {@link Program}, but then the
+ * DOM is built anyway, and the memory is bounded by the size of the
+ * XMIR again.</p>
+ *
+ * <p>The XMIR is checked for sanity in the same pass, the same way
+ * {@link Program} checks it before lints: a {@code meta} without a line
+ * is an {@link IllegalArgumentException}, which points to the meta.</p>
+ *
+ * <p>Defects of streaming lints go first, then all others.</p>
+ *
+ * @since 0.1.0
+ */
+public final class StreamedProgram {
+
+    /**
+     * The XMIR file.
+     */
+    private final Path file;
+
+    /**
+     * Lints to use.
+     */
+    private final Iterable<Lint> lints;
+
+    /**
+     * Ctor, with streaming lints only.
+     * @param path The XMIR file
+     */
+    public StreamedProgram(final Path path) {
+        this(path, StreamedProgram.streaming());
+    }
+
+    /**
+     * Ctor.
+     * @param path The XMIR file
+     * @param lnts Lints to use
+     */
+    public StreamedProgram(final Path path, final Iterable<Lint> lnts) {
+        this.file = path;
+        this.lints = lnts;
+    }
+
+    /**
+     * Find defects.
+     *
+     * <p>Only the rules of the lints given to the constructor are
+     * checked, which are only streaming ones by default, see the
+     * documentation of the class.</p>
+     *
+     * @return All defects found
+     * @throws IOException If fails
+     */
+    public Collection<Defect> defects() throws IOException {
+        final Collection<StreamLint> local = new LinkedList<>();
+        final Collection<Lint> global = new LinkedList<>();
+        for (final Lint lint : this.lints) {
+            if (lint instanceof StreamLint) {
+                local.add((StreamLint) lint);
+            } else {
+                global.add(lint);
+            }
+        }
+        final Collection<Defect> defects = new LinkedList<>();
+        defects.addAll(
+            new XmirStream(this.file).defects(
+                Collections.singletonList(new StreamedProgram.Sane()), local
+            )
+        );
+        if (!global.isEmpty()) {
+            defects.addAll(new Program(new XmirFile(this.file, true).parsed(), global).defects());
+        }
+        return defects;
+    }
+
+    /**
+     * All lints, which work in one pass.
+     * @return Lints
+     */
+    private static Iterable<Lint> streaming() {
+        return new Filtered<>(lint -> lint instanceof StreamLint, new JavaLints());
+    }
+
+    /**
+     * Sanity check of the XMIR, in one pass: all metas must have lines.
+     *
+     * @since 0.1.0
+     */
+    @SuppressWarnings("PMD.UncommentedEmptyMethodBody")
+    private static final class Sane implements StreamLint.Pass {
+
+        /**
+         * Path of metas.
+         */
+        private static final List<String> METAS = Arrays.asList("program", "metas");
+
+        /**
+         * Path of a meta.
+         */
+        private static final List<String> META = Arrays.asList("program", "metas", "meta");
+
+        /**
+         * Metas seen in the current {@code metas}.
+         */
+        private int metas;
+
+        @Override
+        public void start(final List<String> path, final Map<String, String> attrs) {
+            if (Sane.META.equals(path)) {
+                ++this.metas;
+                final String line = attrs.get("line");
+                if (line == null || line.isEmpty()) {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "There is something wrong with the XMIR, found '%s' at %s",
+                            "/program/metas/meta[not(@line) or @line='']",
+                            String.format("/program[1]/metas[1]/meta[%d]", this.metas)
+                        )
+                    );
+                }
+            }
+        }
+
+        @Override
+        public void text(final List<String> path, final String text) {
+        }
+
+        @Override
+        public void end(final List<String> path) {
+            if (Sane.METAS.equals(path)) {
+                this.metas = 0;
+            }
+        }
+
+        @Override
+        public Collection<Defect> defects() {
+            return Collections.emptyList();
+        }
+    }
+}
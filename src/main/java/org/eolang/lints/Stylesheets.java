@@ -0,0 +1,263 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.ClasspathSources;
+import com.jcabi.xml.XML;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamSource;
+import net.sf.saxon.lib.ResourceResolverWrappingURIResolver;
+import net.sf.saxon.om.TreeModel;
+import net.sf.saxon.s9api.DocumentBuilder;
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.QName;
+import net.sf.saxon.s9api.SaxonApiException;
+import net.sf.saxon.s9api.XdmDestination;
+import net.sf.saxon.s9api.XdmNode;
+import net.sf.saxon.s9api.XdmValue;
+import net.sf.saxon.s9api.Xslt30Transformer;
+import net.sf.saxon.s9api.XsltCompiler;
+import net.sf.saxon.s9api.XsltExecutable;
+import org.w3c.dom.Node;
+
+/**
+ * Compiled XSL stylesheets, cached.
+ *
+ * <p>Every stylesheet is compiled by Saxon only once and then stays in
+ * the cache, under the key made of its URL and the SHA-256 hash of its
+ * content. The {@link #SHARED} instance is used by all lints of the
+ * process, so constructing {@link XslLints} or {@link FusedLint} again
+ * and again costs nothing after the first time.</p>
+ *
+ * <p>The class is thread-safe, since compiled stylesheets are
+ * immutable.</p>
+ *
+ * @since 0.1.0
+ */
+final class Stylesheets {
+
+    /**
+     * Stylesheets of the entire process.
+     */
+    static final Stylesheets SHARED = new Stylesheets();
+
+    /**
+     * Saxon processor.
+     */
+    private final Processor saxon;
+
+    /**
+     * Compiled stylesheets, by URL and hash of content.
+     */
+    private final ConcurrentMap<String, XsltExecutable> cache;
+
+    /**
+     * Ctor.
+     */
+    Stylesheets() {
+        this(new Processor(false));
+    }
+
+    /**
+     * Ctor.
+     * @param processor Saxon processor
+     */
+    Stylesheets(final Processor processor) {
+        this.saxon = processor;
+        this.cache = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Compile the stylesheet or take it from the cache.
+     * @param url Where the stylesheet comes from
+     * @param xsl Text of the stylesheet
+     * @return Compiled stylesheet
+     */
+    XsltExecutable compiled(final String url, final String xsl) {
+        return this.cache.computeIfAbsent(
+            String.format("%s#%s", url, Stylesheets.sha(xsl)),
+            key -> this.compile(url, xsl)
+        );
+    }
+
+    /**
+     * Apply compiled stylesheet to the XMIR.
+     *
+     * <p>The XMIR is also the global context item of the transformation,
+     * which makes it available for global variables of the stylesheet.
+     * If the XMIR is a {@link ProgramIndex}, its parameters are given
+     * to the stylesheet, so it doesn't have to compute them, and its tree
+     * is used, which is built only once for all stylesheets.</p>
+     *
+     * <p>The output is a Saxon tree too, never a DOM, which is how
+     * defects are read from it without XPath, see {@link XslReport}.</p>
+     *
+     * @param sheet Compiled stylesheet
+     * @param xmir The XMIR
+     * @return The output document
+     */
+    XdmNode transform(final XsltExecutable sheet, final XML xmir) {
+        final Map<QName, XdmValue> params;
+        if (xmir instanceof ProgramIndex) {
+            params = ((ProgramIndex) xmir).parameters();
+        } else {
+            params = Collections.emptyMap();
+        }
+        return this.transform(sheet, xmir, params);
+    }
+
+    /**
+     * Apply compiled stylesheet to the XMIR, with the given parameters.
+     * @param sheet Compiled stylesheet
+     * @param xmir The XMIR
+     * @param params Parameters of the stylesheet, by their names
+     * @return The output document
+     */
+    XdmNode transform(final XsltExecutable sheet, final XML xmir,
+        final Map<QName, XdmValue> params) {
+        final XdmNode source = this.source(xmir);
+        final Xslt30Transformer trans = sheet.load30();
+        try {
+            trans.setGlobalContextItem(source);
+            trans.setStylesheetParameters(params);
+            final XdmDestination output = new XdmDestination();
+            output.setTreeModel(TreeModel.TINY_TREE);
+            trans.applyTemplates(source, output);
+            return output.getXdmNode();
+        } catch (final SaxonApiException ex) {
+            throw new IllegalStateException(
+                "Failed to apply XSL stylesheet to the XMIR", ex
+            );
+        }
+    }
+
+    /**
+     * Build Saxon tree of the DOM.
+     *
+     * <p>The DOM is copied into a TinyTree, which is immutable and may
+     * be read by many threads at once, unlike the DOM.</p>
+     *
+     * @param dom The DOM
+     * @return The tree
+     */
+    XdmNode tree(final Node dom) {
+        final DocumentBuilder builder = this.saxon.newDocumentBuilder();
+        builder.setTreeModel(TreeModel.TINY_TREE);
+        try {
+            return builder.build(new DOMSource(dom));
+        } catch (final SaxonApiException ex) {
+            throw new IllegalStateException("Failed to build the tree of XMIR", ex);
+        }
+    }
+
+    /**
+     * How many stylesheets are compiled.
+     * @return Total
+     */
+    int size() {
+        return this.cache.size();
+    }
+
+    /**
+     * SHA-256 hash of the text.
+     * @param text The text
+     * @return Hex of the hash
+     */
+    static String sha(final String text) {
+        return Stylesheets.sha(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * SHA-256 hash of the bytes.
+     * @param bytes The bytes
+     * @return Hex of the hash
+     */
+    static String sha(final byte[] bytes) {
+        return Stylesheets.sha(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * SHA-256 hash of the bytes in the buffer, from its position to its
+     * limit, which are not changed.
+     * @param bytes The bytes
+     * @return Hex of the hash
+     */
+    static String sha(final ByteBuffer bytes) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(bytes.duplicate());
+            return String.format("%064x", new BigInteger(1, digest.digest()));
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Compile the stylesheet.
+     * @param url Where the stylesheet comes from
+     * @param xsl Text of the stylesheet
+     * @return Compiled stylesheet
+     */
+    private XsltExecutable compile(final String url, final String xsl) {
+        final XsltCompiler compiler = this.saxon.newXsltCompiler();
+        compiler.setResourceResolver(
+            new ResourceResolverWrappingURIResolver(new ClasspathSources())
+        );
+        try {
+            return compiler.compile(new StreamSource(new StringReader(xsl)));
+        } catch (final SaxonApiException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to compile XSL stylesheet '%s'", url),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Saxon tree of the XMIR, taken from the index, if it's there and
+     * was built by this processor, or built now.
+     * @param xmir The XMIR
+     * @return The tree
+     */
+    private XdmNode source(final XML xmir) {
+        final XdmNode tree;
+        if (xmir instanceof ProgramIndex && this.equals(Stylesheets.SHARED)) {
+            tree = ((ProgramIndex) xmir).tree();
+        } else {
+            tree = this.tree(xmir.node());
+        }
+        return tree;
+    }
+
+}
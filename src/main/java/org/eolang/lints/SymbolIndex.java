@@ -0,0 +1,486 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Symbols of all XMIR files of a project: packages with their objects,
+ * aliases with their targets and all other metas, like {@code +home}
+ * and {@code +version}, see {@link SymbolIndex.Unit#metas(String)}.
+ *
+ * <p>Files are indexed in one pass over their events, see
+ * {@link #index(Path, XmirStream)}, by many threads at the same time.
+ * When all of them are indexed, {@link ProjectLint}s look up any
+ * object, by its package and name, in constant time, instead of
+ * reading other files again.</p>
+ *
+ * <p>Only the symbols are kept, not the XMIR, so the index stays small
+ * even for large projects.</p>
+ *
+ * @since 0.1.0
+ */
+public final class SymbolIndex {
+
+    /**
+     * Symbols by files.
+     */
+    private final ConcurrentMap<Path, SymbolIndex.Unit> units;
+
+    /**
+     * Names of top-level objects by packages.
+     */
+    private final ConcurrentMap<String, Set<String>> packages;
+
+    /**
+     * Files by full names of their top-level objects.
+     */
+    private final ConcurrentMap<String, Set<Path>> owners;
+
+    /**
+     * Files by packages.
+     */
+    private final ConcurrentMap<String, Set<Path>> members;
+
+    /**
+     * Ctor.
+     */
+    public SymbolIndex() {
+        this.units = new ConcurrentHashMap<>(0);
+        this.packages = new ConcurrentHashMap<>(0);
+        this.owners = new ConcurrentHashMap<>(0);
+        this.members = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Add symbols of the file, replacing those seen in it before.
+     *
+     * <p>The XMIR is read without any locks, but the index is updated
+     * holding one, since symbols of the file seen before are removed
+     * from it: names, which no other file of the package defines,
+     * and the package itself, if there are no more files in it.</p>
+     *
+     * @param file The file
+     * @param events Events of its XMIR
+     * @throws IOException If fails to read the XMIR
+     */
+    public void index(final Path file, final XmirStream events) throws IOException {
+        final SymbolIndex.Collector collector = new SymbolIndex.Collector();
+        events.through(collector);
+        final SymbolIndex.Unit unit = collector.unit();
+        synchronized (this.units) {
+            final SymbolIndex.Unit before = this.units.put(file, unit);
+            if (before != null) {
+                this.forget(file, before);
+            }
+            this.remember(file, unit);
+        }
+    }
+
+    /**
+     * Symbols of the file.
+     * @param file The file
+     * @return Symbols, if the file is indexed
+     */
+    public Optional<SymbolIndex.Unit> unit(final Path file) {
+        return Optional.ofNullable(this.units.get(file));
+    }
+
+    /**
+     * Is there a file in the package?
+     * @param pkg The package, like {@code org.eolang.io}, or empty
+     * @return TRUE if it's a package of the project
+     */
+    public boolean known(final String pkg) {
+        return this.packages.containsKey(pkg);
+    }
+
+    /**
+     * Names of top-level objects in the package.
+     * @param pkg The package, like {@code org.eolang.io}, or empty
+     * @return Names, maybe empty
+     */
+    public Set<String> objects(final String pkg) {
+        return Collections.unmodifiableSet(
+            this.packages.getOrDefault(pkg, Collections.emptySet())
+        );
+    }
+
+    /**
+     * Files, where the top-level object is defined.
+     * @param full Full name of the object, like {@code org.eolang.io.stdout}
+     * @return Files, maybe empty
+     */
+    public Set<Path> files(final String full) {
+        return Collections.unmodifiableSet(
+            this.owners.getOrDefault(full, Collections.emptySet())
+        );
+    }
+
+    /**
+     * Add symbols of the file.
+     * @param file The file
+     * @param unit Its symbols
+     */
+    private void remember(final Path file, final SymbolIndex.Unit unit) {
+        this.members.computeIfAbsent(unit.pkg(), pkg -> ConcurrentHashMap.newKeySet())
+            .add(file);
+        final Set<String> names = this.packages.computeIfAbsent(
+            unit.pkg(), pkg -> ConcurrentHashMap.newKeySet()
+        );
+        for (final String name : unit.objects().keySet()) {
+            names.add(name);
+            this.owners.computeIfAbsent(
+                unit.full(name), full -> ConcurrentHashMap.newKeySet()
+            ).add(file);
+        }
+    }
+
+    /**
+     * Remove symbols of the file, seen before.
+     * @param file The file
+     * @param unit Its symbols
+     */
+    private void forget(final Path file, final SymbolIndex.Unit unit) {
+        final String pkg = unit.pkg();
+        for (final String name : unit.objects().keySet()) {
+            final Set<Path> files = SymbolIndex.without(this.owners, unit.full(name), file);
+            if (files.isEmpty()) {
+                this.packages.getOrDefault(pkg, Collections.emptySet()).remove(name);
+            }
+        }
+        if (SymbolIndex.without(this.members, pkg, file).isEmpty()) {
+            this.packages.remove(pkg);
+        }
+    }
+
+    /**
+     * Remove the file from the set, and the set from the map, if it's empty.
+     * @param map Sets of files by keys
+     * @param key The key
+     * @param file The file
+     * @return Files left
+     */
+    private static Set<Path> without(final ConcurrentMap<String, Set<Path>> map,
+        final String key, final Path file) {
+        map.getOrDefault(key, Collections.emptySet()).remove(file);
+        map.remove(key, Collections.emptySet());
+        return map.getOrDefault(key, Collections.emptySet());
+    }
+
+    /**
+     * Symbols of one XMIR file.
+     *
+     * @since 0.1.0
+     */
+    public static final class Unit {
+
+        /**
+         * Lines of top-level objects, by names.
+         */
+        private final Map<String, Integer> names;
+
+        /**
+         * All metas.
+         */
+        private final List<SymbolIndex.Meta> all;
+
+        /**
+         * Ctor.
+         * @param objects Lines of top-level objects, by names
+         * @param metas All metas, in the document order
+         */
+        Unit(final Map<String, Integer> objects, final List<SymbolIndex.Meta> metas) {
+            this.names = objects;
+            this.all = metas;
+        }
+
+        /**
+         * The package, from the first {@code +package} meta.
+         * @return The package or empty, if there is no meta
+         */
+        public String pkg() {
+            return this.first("package").orElse("");
+        }
+
+        /**
+         * Top-level objects.
+         * @return Their lines, by names
+         */
+        public Map<String, Integer> objects() {
+            return Collections.unmodifiableMap(this.names);
+        }
+
+        /**
+         * Targets of {@code +alias} metas, by the names they give.
+         *
+         * <p>The name of {@code +alias org.eolang.io.stdout} is the last part
+         * of its target, {@code stdout}.</p>
+         *
+         * @return Full names of objects, by short names
+         */
+        public Map<String, String> aliases() {
+            final Map<String, String> aliases = new LinkedHashMap<>(0);
+            for (final SymbolIndex.Meta meta : this.metas("alias")) {
+                final String target = meta.target();
+                aliases.putIfAbsent(
+                    meta.parts().get(0).replaceAll("^.*\\.", ""), target
+                );
+            }
+            return aliases;
+        }
+
+        /**
+         * All metas with the head.
+         * @param head The head, like {@code alias}
+         * @return Metas, in the document order
+         */
+        public List<SymbolIndex.Meta> metas(final String head) {
+            return this.all.stream()
+                .filter(meta -> meta.head().equals(head) && !meta.parts().isEmpty())
+                .collect(Collectors.toList());
+        }
+
+        /**
+         * Full name of the object of this file.
+         * @param name The name of the object
+         * @return Full name, with the package, if any
+         */
+        public String full(final String name) {
+            final String pkg = this.pkg();
+            final String full;
+            if (pkg.isEmpty()) {
+                full = name;
+            } else {
+                full = String.join(".", pkg, name);
+            }
+            return full;
+        }
+
+        /**
+         * The first part of the first meta with the head.
+         * @param head The head
+         * @return The part, if there is such a meta
+         */
+        private Optional<String> first(final String head) {
+            return this.metas(head).stream().findFirst().map(meta -> meta.parts().get(0));
+        }
+    }
+
+    /**
+     * A meta of the XMIR.
+     *
+     * @since 0.1.0
+     */
+    public static final class Meta {
+
+        /**
+         * The head.
+         */
+        private final String name;
+
+        /**
+         * The parts.
+         */
+        private final List<String> all;
+
+        /**
+         * The line or zero.
+         */
+        private final int number;
+
+        /**
+         * Ctor.
+         * @param head The head
+         * @param parts The parts
+         * @param line The line or zero
+         */
+        Meta(final String head, final List<String> parts, final int line) {
+            this.name = head;
+            this.all = parts;
+            this.number = line;
+        }
+
+        /**
+         * The head, like {@code alias}.
+         * @return Head
+         */
+        public String head() {
+            return this.name;
+        }
+
+        /**
+         * The parts.
+         * @return Parts
+         */
+        public List<String> parts() {
+            return Collections.unmodifiableList(this.all);
+        }
+
+        /**
+         * The last part, which is the target of an alias.
+         * @return The part
+         */
+        public String target() {
+            return this.all.get(this.all.size() - 1);
+        }
+
+        /**
+         * The line.
+         * @return Line number, or zero if it's unknown
+         */
+        public int line() {
+            return this.number;
+        }
+    }
+
+    /**
+     * Pass, which collects symbols of the XMIR.
+     *
+     * @since 0.1.0
+     */
+    private static final class Collector implements StreamLint.Pass {
+
+        /**
+         * Path of a meta.
+         */
+        private static final List<String> META = Arrays.asList("program", "metas", "meta");
+
+        /**
+         * Path of a top-level object.
+         */
+        private static final List<String> OBJECT = Arrays.asList("program", "objects", "o");
+
+        /**
+         * Lines of top-level objects, by names.
+         */
+        private final Map<String, Integer> objects;
+
+        /**
+         * Metas seen.
+         */
+        private final List<SymbolIndex.Meta> metas;
+
+        /**
+         * Texts of the current meta: its head and then parts.
+         */
+        private final List<StringBuilder> texts;
+
+        /**
+         * Line of the current meta.
+         */
+        private int line;
+
+        /**
+         * Ctor.
+         */
+        Collector() {
+            this.objects = new LinkedHashMap<>(0);
+            this.metas = new ArrayList<>(0);
+            this.texts = new ArrayList<>(0);
+        }
+
+        @Override
+        public void start(final List<String> path, final Map<String, String> attrs) {
+            if (Collector.META.equals(path)) {
+                this.texts.clear();
+                this.line = Collector.lineno(attrs);
+            } else if (Collector.inside(path)) {
+                this.texts.add(new StringBuilder(0));
+            } else if (Collector.OBJECT.equals(path) && attrs.containsKey("name")) {
+                this.objects.putIfAbsent(attrs.get("name"), Collector.lineno(attrs));
+            }
+        }
+
+        @Override
+        public void text(final List<String> path, final String text) {
+            if (Collector.inside(path) && !this.texts.isEmpty()) {
+                this.texts.get(this.texts.size() - 1).append(text);
+            }
+        }
+
+        @Override
+        public void end(final List<String> path) {
+            if (Collector.META.equals(path) && !this.texts.isEmpty()) {
+                final List<String> all = this.texts.stream()
+                    .map(text -> text.toString().trim())
+                    .collect(Collectors.toList());
+                this.metas.add(
+                    new SymbolIndex.Meta(all.get(0), all.subList(1, all.size()), this.line)
+                );
+            }
+        }
+
+        @Override
+        public Collection<Defect> defects() {
+            return Collections.emptyList();
+        }
+
+        /**
+         * Symbols collected.
+         * @return Symbols
+         */
+        SymbolIndex.Unit unit() {
+            return new SymbolIndex.Unit(this.objects, this.metas);
+        }
+
+        /**
+         * Is it the head or a part of the meta?
+         * @param path The path
+         * @return TRUE if so
+         */
+        private static boolean inside(final List<String> path) {
+            return path.size() == 4
+                && Collector.META.equals(path.subList(0, 3))
+                && ("head".equals(path.get(3)) || "part".equals(path.get(3)));
+        }
+
+        /**
+         * The line in the attributes.
+         * @param attrs Attributes
+         * @return The line, or zero
+         */
+        private static int lineno(final Map<String, String> attrs) {
+            int line = 0;
+            final String attr = attrs.get("line");
+            if (attr != null && attr.matches("[0-9]+")) {
+                line = Integer.parseInt(attr);
+            }
+            return line;
+        }
+    }
+}
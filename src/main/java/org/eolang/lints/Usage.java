@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resources used by a lint, accumulated over all calls.
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.1.0
+ */
+public final class Usage implements UsageMBean {
+
+    /**
+     * Calls.
+     */
+    private final LongAdder calls;
+
+    /**
+     * Wall time, in nanoseconds.
+     */
+    private final LongAdder wall;
+
+    /**
+     * CPU time, in nanoseconds.
+     */
+    private final LongAdder cpu;
+
+    /**
+     * Allocated bytes.
+     */
+    private final LongAdder allocated;
+
+    /**
+     * Defects found.
+     */
+    private final LongAdder found;
+
+    /**
+     * Ctor.
+     */
+    Usage() {
+        this.calls = new LongAdder();
+        this.wall = new LongAdder();
+        this.cpu = new LongAdder();
+        this.allocated = new LongAdder();
+        this.found = new LongAdder();
+    }
+
+    @Override
+    public long getCalls() {
+        return this.calls.sum();
+    }
+
+    @Override
+    public long getWallTime() {
+        return this.wall.sum();
+    }
+
+    @Override
+    public long getCpuTime() {
+        return this.cpu.sum();
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        return this.allocated.sum();
+    }
+
+    @Override
+    public long getDefects() {
+        return this.found.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d calls, %dms wall, %dms cpu, %d bytes, %d defects",
+            this.getCalls(),
+            this.getWallTime() / 1_000_000L,
+            this.getCpuTime() / 1_000_000L,
+            this.getAllocatedBytes(),
+            this.getDefects()
+        );
+    }
+
+    /**
+     * Add one more call.
+     * @param nanos Wall time, in nanoseconds
+     * @param cycles CPU time, in nanoseconds
+     * @param bytes Allocated bytes
+     * @param defects Defects found
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    void add(final long nanos, final long cycles, final long bytes,
+        final int defects) {
+        this.calls.increment();
+        this.wall.add(nanos);
+        this.cpu.add(cycles);
+        this.allocated.add(bytes);
+        this.found.add(defects);
+    }
+
+    /**
+     * Copy of it, which doesn't change anymore.
+     * @return Copy
+     */
+    Usage copy() {
+        final Usage copy = new Usage();
+        copy.calls.add(this.getCalls());
+        copy.wall.add(this.getWallTime());
+        copy.cpu.add(this.getCpuTime());
+        copy.allocated.add(this.getAllocatedBytes());
+        copy.found.add(this.getDefects());
+        return copy;
+    }
+}
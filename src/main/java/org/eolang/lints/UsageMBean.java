@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+/**
+ * Resources used by a lint, as seen through JMX.
+ *
+ * @since 0.1.0
+ */
+public interface UsageMBean {
+
+    /**
+     * How many times the lint was applied.
+     * @return Total
+     */
+    long getCalls();
+
+    /**
+     * Wall time spent.
+     * @return Nanoseconds
+     */
+    long getWallTime();
+
+    /**
+     * CPU time spent, zero if the JVM can't measure it.
+     * @return Nanoseconds
+     */
+    long getCpuTime();
+
+    /**
+     * Memory allocated, zero if the JVM can't measure it.
+     * @return Bytes
+     */
+    long getAllocatedBytes();
+
+    /**
+     * How many defects were found.
+     * @return Total
+     */
+    long getDefects();
+}
@@ -0,0 +1,413 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * XMIR files of a directory, linted again every time they change.
+ *
+ * <p>All {@code .xmir} files of the directory and its subdirectories are
+ * linted in {@link #start()}, and then the directory is watched by
+ * a {@link WatchService}. When a file is written, it is linted again,
+ * in the pool of workers, but only after a short quiet period, so that
+ * a burst of writes leads to one run. A file whose content didn't
+ * change is not linted again. The latest defects of every file are kept
+ * in memory and given to the listener, if any. If a file can't be
+ * linted, for example since it's not a valid XMIR, its only defect is
+ * a critical {@code broken-xmir} one, with the reason, so that it's not
+ * taken for a clean file. When a file or a directory is deleted, the
+ * defects of all files in it are forgotten and the listener gets an
+ * empty collection for each of them:</p>
+ *
+ * <pre> try (Watch watch = new Watch(
+ *   Paths.get("target/eo"),
+ *   (file, defects) -&gt; System.out.printf("%s: %d%n", file, defects.size())
+ * ).start()) {
+ *   // work with files, while they are linted
+ * }</pre>
+ *
+ * <p>A directory, which disappears before it's watched, is skipped,
+ * as if it was deleted, and watching goes on. If too many events happen
+ * at once and some of them are lost, the whole directory is walked
+ * again.</p>
+ *
+ * <p>How fast changes are noticed depends on the {@link WatchService} of
+ * the platform: on Linux it's immediate, but on some others it polls
+ * the file system every few seconds.</p>
+ *
+ * @since 0.1.0
+ */
+public final class Watch implements Closeable {
+
+    /**
+     * Default quiet period after a write, in milliseconds.
+     */
+    private static final long QUIET = 20L;
+
+    /**
+     * The rule of the defect of a file, which can't be linted.
+     */
+    private static final String BROKEN = "broken-xmir";
+
+    /**
+     * The directory.
+     */
+    private final Path home;
+
+    /**
+     * Where files are linted.
+     */
+    private final Executor workers;
+
+    /**
+     * Who is notified about new defects.
+     */
+    private final BiConsumer<Path, Collection<Defect>> listener;
+
+    /**
+     * Quiet period after a write, in milliseconds.
+     */
+    private final long quiet;
+
+    /**
+     * Latest defects by file.
+     */
+    private final ConcurrentMap<Path, Collection<Defect>> latest;
+
+    /**
+     * Hashes of files linted, by file.
+     */
+    private final ConcurrentMap<Path, String> hashes;
+
+    /**
+     * Runs waiting for quiet periods to end, by file.
+     */
+    private final ConcurrentMap<Path, ScheduledFuture<?>> waiting;
+
+    /**
+     * Number of the latest run, by file.
+     */
+    private final ConcurrentMap<Path, Long> versions;
+
+    /**
+     * Numbers of runs.
+     */
+    private final AtomicLong runs;
+
+    /**
+     * Where the watcher and timers run.
+     */
+    private final ScheduledExecutorService timers;
+
+    /**
+     * The service, once started.
+     */
+    private final AtomicReference<WatchService> service;
+
+    /**
+     * Ctor.
+     * @param dir The directory
+     */
+    public Watch(final Path dir) {
+        this(dir, (file, defects) -> { });
+    }
+
+    /**
+     * Ctor.
+     * @param dir The directory
+     * @param notify Who is notified about new defects of every file
+     */
+    public Watch(final Path dir, final BiConsumer<Path, Collection<Defect>> notify) {
+        this(dir, notify, ForkJoinPool.commonPool(), Watch.QUIET);
+    }
+
+    /**
+     * Ctor.
+     * @param dir The directory
+     * @param notify Who is notified about new defects of every file
+     * @param executor Where files are linted
+     * @param millis Quiet period after a write, in milliseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Watch(final Path dir, final BiConsumer<Path, Collection<Defect>> notify,
+        final Executor executor, final long millis) {
+        this.home = dir;
+        this.listener = notify;
+        this.workers = executor;
+        this.quiet = millis;
+        this.latest = new ConcurrentHashMap<>(0);
+        this.hashes = new ConcurrentHashMap<>(0);
+        this.waiting = new ConcurrentHashMap<>(0);
+        this.versions = new ConcurrentHashMap<>(0);
+        this.runs = new AtomicLong();
+        this.timers = Executors.newScheduledThreadPool(
+            2,
+            task -> {
+                final Thread thread = new Thread(task, "lints-watch");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        this.service = new AtomicReference<>();
+    }
+
+    /**
+     * Lint all files and start watching them.
+     * @return Itself
+     * @throws IOException If fails
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    public Watch start() throws IOException {
+        final WatchService watcher = FileSystems.getDefault().newWatchService();
+        if (!this.service.compareAndSet(null, watcher)) {
+            watcher.close();
+            throw new IllegalStateException("Already watching");
+        }
+        final Map<WatchKey, Path> dirs = new HashMap<>(0);
+        try (Stream<Path> all = Files.walk(this.home)) {
+            all.forEach(path -> this.seen(path, watcher, dirs));
+        } catch (final UncheckedIOException ex) {
+            this.close();
+            throw ex.getCause();
+        } catch (final IOException ex) {
+            this.close();
+            throw ex;
+        }
+        this.timers.execute(() -> this.watch(watcher, dirs));
+        return this;
+    }
+
+    /**
+     * Latest defects of all files.
+     * @return Defects by file
+     */
+    public Map<Path, Collection<Defect>> defects() {
+        return Collections.unmodifiableMap(new HashMap<>(this.latest));
+    }
+
+    /**
+     * Latest defects of the file.
+     * @param file The file
+     * @return Defects, if the file was linted
+     */
+    public Optional<Collection<Defect>> defects(final Path file) {
+        return Optional.ofNullable(this.latest.get(file));
+    }
+
+    @Override
+    @SuppressWarnings("PMD.CloseResource")
+    public void close() throws IOException {
+        final WatchService watcher = this.service.get();
+        if (watcher != null) {
+            watcher.close();
+        }
+        this.timers.shutdownNow();
+    }
+
+    /**
+     * Watch the directories, until the service is closed.
+     * @param watcher The service
+     * @param dirs Directories by their keys
+     */
+    private void watch(final WatchService watcher, final Map<WatchKey, Path> dirs) {
+        try {
+            while (true) {
+                final WatchKey key = watcher.take();
+                final Path dir = dirs.get(key);
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    if (dir == null) {
+                        break;
+                    }
+                    if (event.kind().equals(StandardWatchEventKinds.OVERFLOW)) {
+                        this.changed(dir, StandardWatchEventKinds.ENTRY_MODIFY, watcher, dirs);
+                    } else if (event.context() instanceof Path) {
+                        this.changed(
+                            dir.resolve((Path) event.context()), event.kind(),
+                            watcher, dirs
+                        );
+                    }
+                }
+                if (!key.reset()) {
+                    dirs.remove(key);
+                }
+            }
+        } catch (final InterruptedException | ClosedWatchServiceException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A file or a directory has changed.
+     *
+     * <p>If the path can't be walked or watched, for example since it
+     * was deleted right after it was created, it's treated as deleted.</p>
+     *
+     * @param path The path
+     * @param kind What happened
+     * @param watcher The service
+     * @param dirs Directories by their keys
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private void changed(final Path path, final WatchEvent.Kind<?> kind,
+        final WatchService watcher, final Map<WatchKey, Path> dirs) {
+        if (kind.equals(StandardWatchEventKinds.ENTRY_DELETE)) {
+            this.gone(path);
+        } else {
+            try (Stream<Path> all = Files.walk(path)) {
+                all.forEach(sub -> this.seen(sub, watcher, dirs));
+            } catch (final IOException | UncheckedIOException ex) {
+                this.gone(path);
+            }
+        }
+    }
+
+    /**
+     * A file or a directory is deleted, with all files in it.
+     * @param path The path
+     */
+    private void gone(final Path path) {
+        final Set<Path> files = new HashSet<>(this.versions.keySet());
+        files.add(path);
+        for (final Path file : files) {
+            if (file.startsWith(path)) {
+                this.versions.put(file, this.runs.incrementAndGet());
+                this.hashes.remove(file);
+                if (this.latest.remove(file) != null) {
+                    this.listener.accept(file, Collections.emptyList());
+                }
+            }
+        }
+    }
+
+    /**
+     * A path is seen: a directory is watched, a file is linted later.
+     * @param path The path
+     * @param watcher The service
+     * @param dirs Directories by their keys
+     */
+    private void seen(final Path path, final WatchService watcher,
+        final Map<WatchKey, Path> dirs) {
+        if (Files.isDirectory(path)) {
+            try {
+                dirs.put(
+                    path.register(
+                        watcher,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE
+                    ),
+                    path
+                );
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        } else if (path.getFileName().toString().endsWith(".xmir")) {
+            final long version = this.runs.incrementAndGet();
+            this.versions.put(path, version);
+            final ScheduledFuture<?> before = this.waiting.put(
+                path,
+                this.timers.schedule(
+                    () -> this.workers.execute(() -> this.lint(path, version)),
+                    this.quiet, TimeUnit.MILLISECONDS
+                )
+            );
+            if (before != null) {
+                before.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Lint the file, unless it has changed again or is the same as before.
+     * @param file The file
+     * @param version Number of the run
+     */
+    private void lint(final Path file, final long version) {
+        try {
+            final XmirFile xmir = new XmirFile(file);
+            final String hash = xmir.hash();
+            if (this.fresh(file, version) && !hash.equals(this.hashes.get(file))) {
+                final Collection<Defect> defects = new Program(xmir.parsed()).defects();
+                if (this.fresh(file, version)) {
+                    this.hashes.put(file, hash);
+                    this.latest.put(file, defects);
+                    this.listener.accept(file, defects);
+                }
+            }
+        } catch (final IOException | UncheckedIOException
+            | IllegalArgumentException | IllegalStateException ex) {
+            this.hashes.remove(file);
+            if (this.fresh(file, version)) {
+                final Collection<Defect> defects = Collections.singletonList(
+                    new Defect.Default(
+                        Watch.BROKEN, Severity.CRITICAL, 0,
+                        String.format("The file can't be linted: %s", ex.getMessage())
+                    )
+                );
+                this.latest.put(file, defects);
+                this.listener.accept(file, defects);
+            }
+        }
+    }
+
+    /**
+     * Is it still the latest run for the file?
+     * @param file The file
+     * @param version Number of the run
+     * @return TRUE if so
+     */
+    private boolean fresh(final Path file, final long version) {
+        return this.versions.getOrDefault(file, 0L) == version;
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * XMIR file, read as a stream or mapped into memory.
+ *
+ * <p>By default, the file is read by the parser as a stream. For one-shot
+ * batch loads, as in {@link Programs}, it may be read straight from the
+ * memory mapped by {@link FileChannel#map}, with
+ * {@code new XmirFile(file, true)}, without copying it into a byte array
+ * or a string first. Parsers are not created for every file, but are
+ * reused: there is one per thread.</p>
+ *
+ * <p>A mapping is released only by the garbage collector. Until then the
+ * file can't be rewritten or deleted on Windows, and a file truncated by
+ * someone else breaks the parser with {@link InternalError}. That is why
+ * files that may be edited, as under {@link Watch}, are never mapped.
+ * Files larger than 2GB can't be mapped at once, they are read as streams
+ * too. The hash is always calculated from a stream.</p>
+ *
+ * @since 0.1.0
+ */
+final class XmirFile {
+
+    /**
+     * Parsers, one per thread.
+     */
+    private static final ThreadLocal<DocumentBuilder> PARSERS =
+        ThreadLocal.withInitial(XmirFile::parser);
+
+    /**
+     * Size of the buffer for hashing.
+     */
+    private static final int CHUNK = 64 * 1024;
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * Map it into memory?
+     */
+    private final boolean map;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    XmirFile(final Path file) {
+        this(file, false);
+    }
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param map Map it into memory, or read as a stream
+     */
+    XmirFile(final Path file, final boolean map) {
+        this.path = file;
+        this.map = map;
+    }
+
+    /**
+     * Parse the file.
+     * @return XMIR
+     * @throws IOException If fails
+     */
+    XML parsed() throws IOException {
+        final DocumentBuilder parser = XmirFile.PARSERS.get();
+        try (InputStream input = this.input()) {
+            final InputSource source = new InputSource(input);
+            source.setSystemId(this.path.toUri().toString());
+            return new XMLDocument(parser.parse(source));
+        } catch (final SAXException ex) {
+            throw new IOException(
+                String.format("Failed to parse XMIR in %s", this.path), ex
+            );
+        } finally {
+            parser.reset();
+        }
+    }
+
+    /**
+     * SHA-256 hash of the file.
+     * @return Hex of the hash
+     * @throws IOException If fails
+     */
+    String hash() throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        final byte[] chunk = new byte[XmirFile.CHUNK];
+        try (InputStream input = Files.newInputStream(this.path)) {
+            while (true) {
+                final int len = input.read(chunk);
+                if (len < 0) {
+                    break;
+                }
+                digest.update(chunk, 0, len);
+            }
+        }
+        return String.format("%064x", new BigInteger(1, digest.digest()));
+    }
+
+    /**
+     * Content of the file.
+     * @return The stream
+     * @throws IOException If fails
+     */
+    private InputStream input() throws IOException {
+        final InputStream input;
+        if (!this.map || Files.size(this.path) > Integer.MAX_VALUE) {
+            input = Files.newInputStream(this.path);
+        } else {
+            input = new XmirFile.Mapped(this.mapped());
+        }
+        return input;
+    }
+
+    /**
+     * Map the file into memory.
+     * @return The buffer
+     * @throws IOException If fails
+     */
+    private ByteBuffer mapped() throws IOException {
+        try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        }
+    }
+
+    /**
+     * Make a new parser.
+     * @return The parser
+     */
+    private static DocumentBuilder parser() {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        try {
+            factory.setFeature(
+                "http://apache.org/xml/features/nonvalidating/load-external-dtd", false
+            );
+            return factory.newDocumentBuilder();
+        } catch (final ParserConfigurationException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Stream of bytes in a buffer.
+     *
+     * @since 0.1.0
+     */
+    private static final class Mapped extends InputStream {
+
+        /**
+         * The buffer.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Ctor.
+         * @param buf The buffer
+         */
+        Mapped(final ByteBuffer buf) {
+            super();
+            this.buffer = buf;
+        }
+
+        @Override
+        public int read() {
+            int next = -1;
+            if (this.buffer.hasRemaining()) {
+                next = this.buffer.get() & 0xff;
+            }
+            return next;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int off, final int len) {
+            int total = -1;
+            if (this.buffer.hasRemaining()) {
+                total = Math.min(len, this.buffer.remaining());
+                this.buffer.get(bytes, off, total);
+            }
+            return total;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import net.sf.saxon.s9api.Axis;
+import net.sf.saxon.s9api.XdmNode;
+import net.sf.saxon.s9api.XdmNodeKind;
+import net.sf.saxon.s9api.XdmSequenceIterator;
+
+/**
+ * Events of the XMIR, given to passes of {@link StreamLint}s.
+ *
+ * <p>The events come either from a file, read by StAX, without building
+ * the DOM, or from the XMIR, if it's already parsed. In the latter case
+ * the Saxon tree of its {@link ProgramIndex} is walked, not the DOM,
+ * since the DOM can't be read without a deep copy of it, while the tree
+ * is immutable and is built only once per program, even if many
+ * lints walk it. The passes are the same in both cases.</p>
+ *
+ * @since 0.1.0
+ */
+public final class XmirStream {
+
+    /**
+     * How to go through the XMIR, giving its events to the passes.
+     */
+    private final XmirStream.Walk walk;
+
+    /**
+     * Ctor.
+     * @param file The XMIR file
+     */
+    public XmirStream(final Path file) {
+        this(XmirStream.read(file));
+    }
+
+    /**
+     * Ctor.
+     * @param xmir The XMIR
+     */
+    public XmirStream(final XML xmir) {
+        this(XmirStream.walked(new ProgramIndex(xmir)));
+    }
+
+    /**
+     * Ctor.
+     * @param how How to go through the XMIR
+     */
+    private XmirStream(final XmirStream.Walk how) {
+        this.walk = how;
+    }
+
+    /**
+     * Go through the XMIR once, with all the lints, and find their defects.
+     * @param lints The lints
+     * @return Defects found, in the order of lints
+     * @throws IOException If fails to read the XMIR
+     */
+    public Collection<Defect> defects(final Iterable<? extends StreamLint> lints)
+        throws IOException {
+        return this.defects(Collections.emptyList(), lints);
+    }
+
+    /**
+     * Go through the XMIR once, with other passes and all the lints,
+     * and find defects of the lints.
+     * @param before Passes, which see every event before lints, like
+     *  sanity checks
+     * @param lints The lints
+     * @return Defects found by lints, in the order of lints
+     * @throws IOException If fails to read the XMIR
+     */
+    Collection<Defect> defects(final Collection<StreamLint.Pass> before,
+        final Iterable<? extends StreamLint> lints) throws IOException {
+        final List<StreamLint.Pass> passes = new ArrayList<>(before);
+        for (final StreamLint lint : lints) {
+            passes.add(lint.pass());
+        }
+        this.walk.through(passes);
+        final Collection<Defect> defects = new LinkedList<>();
+        for (final StreamLint.Pass pass : passes.subList(before.size(), passes.size())) {
+            defects.addAll(pass.defects());
+        }
+        return defects;
+    }
+
+    /**
+     * Go through the XMIR once, giving its events to the pass.
+     * @param pass The pass
+     * @throws IOException If fails to read the XMIR
+     */
+    void through(final StreamLint.Pass pass) throws IOException {
+        this.walk.through(Collections.singletonList(pass));
+    }
+
+    /**
+     * Read the file by StAX.
+     * @param file The file
+     * @return The walk
+     */
+    private static XmirStream.Walk read(final Path file) {
+        return passes -> XmirStream.read(file, passes);
+    }
+
+    /**
+     * Walk the Saxon tree of the XMIR.
+     * @param index The XMIR
+     * @return The walk
+     */
+    private static XmirStream.Walk walked(final ProgramIndex index) {
+        return passes -> XmirStream.walked(index.tree(), passes);
+    }
+
+    /**
+     * Read the file by StAX and give its events to the passes.
+     * @param file The file
+     * @param passes The passes
+     * @throws IOException If fails
+     */
+    private static void read(final Path file, final List<StreamLint.Pass> passes)
+        throws IOException {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        try (InputStream input = Files.newInputStream(file)) {
+            final XMLStreamReader reader = factory.createXMLStreamReader(input);
+            try {
+                final List<String> stack = new ArrayList<>(0);
+                final List<String> path = Collections.unmodifiableList(stack);
+                while (reader.hasNext()) {
+                    final int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        stack.add(reader.getLocalName());
+                        final Map<String, String> attrs = new HashMap<>(
+                            reader.getAttributeCount() * 2
+                        );
+                        for (int idx = 0; idx < reader.getAttributeCount(); ++idx) {
+                            attrs.put(
+                                reader.getAttributeLocalName(idx),
+                                reader.getAttributeValue(idx)
+                            );
+                        }
+                        passes.forEach(pass -> pass.start(path, attrs));
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        passes.forEach(pass -> pass.end(path));
+                        stack.remove(stack.size() - 1);
+                    } else if (event == XMLStreamConstants.CHARACTERS
+                        || event == XMLStreamConstants.CDATA
+                        || event == XMLStreamConstants.SPACE) {
+                        final String text = reader.getText();
+                        passes.forEach(pass -> pass.text(path, text));
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (final XMLStreamException ex) {
+            throw new IOException(String.format("Failed to read XMIR from %s", file), ex);
+        }
+    }
+
+    /**
+     * Walk the Saxon tree and give its events to the passes.
+     * @param root The root of the tree
+     * @param passes The passes
+     */
+    private static void walked(final XdmNode root, final List<StreamLint.Pass> passes) {
+        final List<String> stack = new ArrayList<>(0);
+        final List<String> path = Collections.unmodifiableList(stack);
+        final Deque<Iterator<XdmNode>> levels = new ArrayDeque<>(0);
+        levels.push(root.children().iterator());
+        while (!levels.isEmpty()) {
+            if (levels.peek().hasNext()) {
+                final XdmNode node = levels.peek().next();
+                if (node.getNodeKind() == XdmNodeKind.ELEMENT) {
+                    stack.add(node.getNodeName().getLocalName());
+                    final Map<String, String> attrs = XmirStream.attributes(node);
+                    passes.forEach(pass -> pass.start(path, attrs));
+                    levels.push(node.children().iterator());
+                } else if (node.getNodeKind() == XdmNodeKind.TEXT) {
+                    final String text = node.getStringValue();
+                    passes.forEach(pass -> pass.text(path, text));
+                }
+            } else {
+                levels.pop();
+                if (!stack.isEmpty()) {
+                    passes.forEach(pass -> pass.end(path));
+                    stack.remove(stack.size() - 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Attributes of the element.
+     * @param node The element
+     * @return Values by local names
+     */
+    private static Map<String, String> attributes(final XdmNode node) {
+        final Map<String, String> attrs = new HashMap<>(0);
+        final XdmSequenceIterator<XdmNode> all = node.axisIterator(Axis.ATTRIBUTE);
+        while (all.hasNext()) {
+            final XdmNode attr = all.next();
+            attrs.put(attr.getNodeName().getLocalName(), attr.getStringValue());
+        }
+        return attrs;
+    }
+
+    /**
+     * How to go through the XMIR.
+     *
+     * @since 0.1.0
+     */
+    private interface Walk {
+
+        /**
+         * Go through the XMIR, giving its events to the passes.
+         * @param passes The passes
+         * @throws IOException If fails
+         */
+        void through(List<StreamLint.Pass> passes) throws IOException;
+    }
+}
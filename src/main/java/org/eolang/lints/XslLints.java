@@ -23,13 +23,15 @@
  */
 package org.eolang.lints;
 
-import io.github.secretx33.resourceresolver.PathMatchingResourcePatternResolver;
-import java.io.IOException;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.regex.Pattern;
 import org.cactoos.io.InputOf;
+import org.cactoos.iterable.Filtered;
 import org.cactoos.iterable.IterableEnvelope;
 import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
 
 /**
  * All lints defined by XSLs.
@@ -56,36 +58,47 @@ public final class XslLints extends IterableEnvelope<Lint> {
      * Ctor.
      */
     public XslLints() {
-        super(XslLints.all());
+        this(Collections.emptyList());
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>Stylesheets of the rules listed are not even read, which
+     * is how XSL lints are replaced by {@link JavaLints}.</p>
+     *
+     * @param without Names of the rules to skip
+     */
+    public XslLints(final Iterable<String> without) {
+        super(XslLints.all(new HashSet<>(new ListOf<>(without))));
     }
 
     /**
      * All lints.
      *
+     * @param without Names of the rules to skip
      * @return List of all lints
      */
-    private static Iterable<Lint> all() {
-        try {
-            return new Mapped<>(
-                res -> new LintByXsl(
-                    new InputOf(res.getInputStream()),
-                    new InputOf(
-                        XslLints.XSL_PATTERN.matcher(
-                            XslLints.LINTS_PATH.matcher(
-                                res.getURL().toString()
-                            ).replaceAll("eolang/motives")
-                        ).replaceAll(".md")
-                    )
-                ),
-                Arrays.asList(
-                    new PathMatchingResourcePatternResolver().getResources(
-                        "classpath*:org/eolang/lints/**/*.xsl"
-                    )
+    private static Iterable<Lint> all(final Set<String> without) {
+        return new Mapped<>(
+            res -> new LintByXsl(
+                res.getURL().toString(),
+                new InputOf(res.getInputStream()),
+                new InputOf(
+                    XslLints.XSL_PATTERN.matcher(
+                        XslLints.LINTS_PATH.matcher(
+                            res.getURL().toString()
+                        ).replaceAll("eolang/motives")
+                    ).replaceAll(".md")
                 )
-            );
-        } catch (final IOException ex) {
-            throw new IllegalArgumentException(ex);
-        }
+            ),
+            new Filtered<>(
+                res -> !without.contains(
+                    XslLints.XSL_PATTERN.matcher(res.getFilename()).replaceAll("")
+                ),
+                new XslResources()
+            )
+        );
     }
 
 }
@@ -0,0 +1,132 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import net.sf.saxon.s9api.QName;
+import net.sf.saxon.s9api.XdmNode;
+
+/**
+ * Defects reported by an XSL stylesheet.
+ *
+ * <p>The report is a {@code defects} XML element, where
+ * every {@code defect} child has {@code @severity}, {@code @line},
+ * and a text message.</p>
+ *
+ * <p>The report is a Saxon tree, which is navigated directly, without
+ * XPath and without converting it to a DOM.</p>
+ *
+ * @since 0.1.0
+ */
+final class XslReport {
+
+    /**
+     * Name of the severity attribute.
+     */
+    private static final QName SEVERITY = new QName("severity");
+
+    /**
+     * Name of the line attribute.
+     */
+    private static final QName LINE = new QName("line");
+
+    /**
+     * The name of the rule.
+     */
+    private final String rule;
+
+    /**
+     * The report.
+     */
+    private final XdmNode report;
+
+    /**
+     * Ctor.
+     * @param name The name of the rule that reported
+     * @param xml The {@code defects} element
+     */
+    XslReport(final String name, final XdmNode xml) {
+        this.rule = name;
+        this.report = xml;
+    }
+
+    /**
+     * Defects found in the report.
+     * @return Defects
+     */
+    public Collection<Defect> defects() {
+        final Collection<Defect> defects = new LinkedList<>();
+        for (final XdmNode defect : this.report.children("defect")) {
+            final String severity = defect.getAttributeValue(XslReport.SEVERITY);
+            if (severity == null) {
+                throw new IllegalStateException(
+                    String.format("No severity reported by %s", this.rule)
+                );
+            }
+            defects.add(
+                new Defect.Default(
+                    this.rule,
+                    Severity.parsed(severity),
+                    this.lineno(defect),
+                    defect.getStringValue()
+                )
+            );
+        }
+        return defects;
+    }
+
+    /**
+     * Get line number of the defect.
+     * @param defect XML defect
+     * @return Line number
+     */
+    private int lineno(final XdmNode defect) {
+        final String line = defect.getAttributeValue(XslReport.LINE);
+        if (line == null) {
+            throw new IllegalStateException(
+                String.format("No line number reported by %s", this.rule)
+            );
+        }
+        if (line.isEmpty()) {
+            throw new IllegalStateException(
+                String.format("Empty line number reported by %s", this.rule)
+            );
+        }
+        final int lineno;
+        try {
+            lineno = Integer.parseInt(line);
+        } catch (final NumberFormatException ex) {
+            throw new IllegalStateException(
+                String.format(
+                    "Wrong line number reported by %s: '%s'",
+                    this.rule, line
+                ),
+                ex
+            );
+        }
+        return lineno;
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import io.github.secretx33.resourceresolver.PathMatchingResourcePatternResolver;
+import io.github.secretx33.resourceresolver.Resource;
+import io.github.secretx33.resourceresolver.UrlResource;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedList;
+import java.util.List;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Sticky;
+import org.cactoos.iterable.Synced;
+import org.cactoos.text.IoCheckedText;
+import org.cactoos.text.TextOf;
+
+/**
+ * All XSL stylesheets of lints, found in classpath.
+ *
+ * <p>At build time, the list of all stylesheets is saved into the
+ * {@code org/eolang/lints/index.txt} file (see {@code pom.xml}), one path
+ * per line, relative to the file itself. When a classpath root, like
+ * a jar or a directory, has such an index, it is read instead of scanning
+ * the root, which is much slower. Roots without indexes, for example
+ * a third-party jar with more lints, or classes of an IDE, which doesn't
+ * run Maven, are scanned. As with {@code classpath*:} patterns, only
+ * roots with the {@code org/eolang/lints/} directory entry are seen,
+ * which is the case for jars built by Maven.</p>
+ *
+ * <p>Either way, it happens only once per process, since the classpath
+ * doesn't change.</p>
+ *
+ * @since 0.1.0
+ */
+final class XslResources extends IterableEnvelope<Resource> {
+
+    /**
+     * Directory of lints in classpath.
+     */
+    private static final String HOME = "org/eolang/lints/";
+
+    /**
+     * Name of the index, in the directory of lints.
+     */
+    private static final String INDEX = "index.txt";
+
+    /**
+     * All stylesheets of the process, found only once.
+     */
+    private static final Iterable<Resource> ALL = new Synced<>(
+        new Sticky<>(
+            new IterableOf<>(
+                () -> XslResources.scanned(
+                    Thread.currentThread().getContextClassLoader()
+                ).iterator()
+            )
+        )
+    );
+
+    /**
+     * Ctor.
+     */
+    XslResources() {
+        super(XslResources.ALL);
+    }
+
+    /**
+     * Ctor.
+     * @param loader Where to find stylesheets
+     */
+    XslResources(final ClassLoader loader) {
+        super(
+            new Sticky<>(
+                new IterableOf<>(() -> XslResources.scanned(loader).iterator())
+            )
+        );
+    }
+
+    /**
+     * All stylesheets, from indexes or scanned, root by root.
+     *
+     * @param loader Where to find them
+     * @return List of resources
+     */
+    private static List<Resource> scanned(final ClassLoader loader) {
+        final List<Resource> all = new LinkedList<>();
+        try {
+            final Enumeration<URL> homes = loader.getResources(XslResources.HOME);
+            while (homes.hasMoreElements()) {
+                final URL home = homes.nextElement();
+                final URL index = new URL(home, XslResources.INDEX);
+                if (XslResources.exists(index)) {
+                    all.addAll(XslResources.indexed(index));
+                } else {
+                    all.addAll(
+                        Arrays.asList(
+                            new PathMatchingResourcePatternResolver(loader).getResources(
+                                String.format("%s**/*.xsl", home)
+                            )
+                        )
+                    );
+                }
+            }
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+        return all;
+    }
+
+    /**
+     * All stylesheets, listed in the index.
+     *
+     * @param index The index
+     * @return List of resources
+     * @throws IOException If fails
+     */
+    private static List<Resource> indexed(final URL index) throws IOException {
+        final List<Resource> all = new LinkedList<>();
+        final String[] paths = new IoCheckedText(
+            new TextOf(index)
+        ).asString().split("\\R");
+        for (final String path : paths) {
+            if (!path.isEmpty()) {
+                all.add(new UrlResource(new URL(index, path)));
+            }
+        }
+        return all;
+    }
+
+    /**
+     * Does the resource exist?
+     *
+     * @param url The resource
+     * @return TRUE if it does
+     */
+    private static boolean exists(final URL url) {
+        boolean exists;
+        try {
+            url.openStream().close();
+            exists = true;
+        } catch (final IOException ex) {
+            exists = false;
+        }
+        return exists;
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.aliases;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedList;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.text.TextOf;
+import org.eolang.lints.Defect;
+import org.eolang.lints.ProjectLint;
+import org.eolang.lints.Severity;
+import org.eolang.lints.SymbolIndex;
+
+/**
+ * Alias, which refers to a package of the project, must refer to
+ * an object, which is defined in that package.
+ *
+ * <p>Aliases of packages, which are not in the project, such as
+ * {@code org.eolang.io}, can't be checked and are ignored.</p>
+ *
+ * @since 0.1.0
+ */
+public final class UnresolvedAlias implements ProjectLint {
+
+    @Override
+    public Collection<Defect> defects(final Path file, final SymbolIndex index) {
+        final Collection<Defect> defects = new LinkedList<>();
+        if (index.unit(file).isPresent()) {
+            for (final SymbolIndex.Meta meta : index.unit(file).get().metas("alias")) {
+                final String target = meta.target();
+                final int dot = target.lastIndexOf('.');
+                if (dot < 0) {
+                    continue;
+                }
+                final String pkg = target.substring(0, dot);
+                if (index.known(pkg)
+                    && !index.objects(pkg).contains(target.substring(dot + 1))) {
+                    defects.add(
+                        new Defect.Default(
+                            this.name(),
+                            Severity.ERROR,
+                            meta.line(),
+                            String.format(
+                                "The alias refers to \"%s\", which is not in the package \"%s\"",
+                                target, pkg
+                            )
+                        )
+                    );
+                }
+            }
+        }
+        return defects;
+    }
+
+    @Override
+    public String motive() throws Exception {
+        return new TextOf(
+            new ResourceOf("org/eolang/motives/aliases/unresolved-alias.md")
+        ).asString();
+    }
+
+    @Override
+    public String name() {
+        return "unresolved-alias";
+    }
+}
@@ -25,18 +25,26 @@ package org.eolang.lints.comments;
 
 import com.jcabi.xml.XML;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.cactoos.io.ResourceOf;
 import org.cactoos.text.TextOf;
 import org.eolang.lints.Defect;
-import org.eolang.lints.Lint;
 import org.eolang.lints.Severity;
+import org.eolang.lints.StreamLint;
+import org.eolang.lints.XmirStream;
 
 /**
  * A comment must include only ASCII characters.
  *
+ * <p>The lint needs only comments, that's why it works in one pass
+ * over the XMIR, without the DOM.</p>
+ *
  * @since 0.1.0
  * @todo #14:35min Calculate comment line number with abusive character.
  *  For now we just reusing object line number (via @line), which is not correct
@@ -47,36 +55,23 @@ import org.eolang.lints.Severity;
  *  (Java package name, e.g. `comments`).
  * @checkstyle StringLiteralsConcatenationCheck (30 lines)
  */
-public final class AsciiOnly implements Lint {
+public final class AsciiOnly implements StreamLint {
+
+    /**
+     * Path of comments.
+     */
+    private static final List<String> COMMENT = Arrays.asList(
+        "program", "comments", "comment"
+    );
 
     @Override
     public Collection<Defect> defects(final XML xmir) throws IOException {
-        final Collection<Defect> defects = new LinkedList<>();
-        for (final XML comment : xmir.nodes("/program/comments/comment")) {
-            final Optional<Character> abusive = comment.xpath("text()").get(0).chars()
-                .filter(chr -> chr < 32 || chr > 127)
-                .mapToObj(chr -> (char) chr)
-                .findFirst();
-            if (!abusive.isPresent()) {
-                continue;
-            }
-            final String line = comment.xpath("@line").get(0);
-            final Character chr = abusive.get();
-            defects.add(
-                new Defect.Default(
-                    "ascii-only",
-                    Severity.ERROR,
-                    Integer.parseInt(line),
-                    String.format(
-                        "Only ASCII characters are allowed in comments, while '%s' is used at the %sth line at the %sth position",
-                        chr,
-                        line,
-                        comment.xpath("text()").get(0).indexOf(chr) + 1
-                    )
-                )
-            );
-        }
-        return defects;
+        return new XmirStream(xmir).defects(Collections.singleton(this));
+    }
+
+    @Override
+    public StreamLint.Pass pass() {
+        return new AsciiOnly.Comments();
     }
 
     @Override
@@ -85,4 +80,80 @@ public final class AsciiOnly implements Lint {
             new ResourceOf("org/eolang/motives/comments/ascii-only.md")
         ).asString();
     }
+
+    @Override
+    public String name() {
+        return "ascii-only";
+    }
+
+    /**
+     * Pass, which checks every comment, when it's finished.
+     *
+     * @since 0.1.0
+     */
+    private static final class Comments implements StreamLint.Pass {
+
+        /**
+         * Defects found.
+         */
+        private final Collection<Defect> found = new LinkedList<>();
+
+        /**
+         * Pieces of text of the current comment.
+         */
+        private final List<String> pieces = new LinkedList<>();
+
+        /**
+         * Line of the current comment.
+         */
+        private String line = "";
+
+        @Override
+        public void start(final List<String> path, final Map<String, String> attrs) {
+            if (AsciiOnly.COMMENT.equals(path)) {
+                this.pieces.clear();
+                this.line = attrs.get("line");
+            }
+        }
+
+        @Override
+        public void text(final List<String> path, final String txt) {
+            if (AsciiOnly.COMMENT.equals(path)) {
+                this.pieces.add(txt);
+            }
+        }
+
+        @Override
+        public void end(final List<String> path) {
+            if (!AsciiOnly.COMMENT.equals(path)) {
+                return;
+            }
+            final String comment = String.join("", this.pieces);
+            final Optional<Character> abusive = comment.chars()
+                .filter(chr -> chr < 32 || chr > 127)
+                .mapToObj(chr -> (char) chr)
+                .findFirst();
+            if (abusive.isPresent()) {
+                final Character chr = abusive.get();
+                this.found.add(
+                    new Defect.Default(
+                        "ascii-only",
+                        Severity.ERROR,
+                        Integer.parseInt(this.line),
+                        String.format(
+                            "Only ASCII characters are allowed in comments, while '%s' is used at the %sth line at the %sth position",
+                            chr,
+                            this.line,
+                            comment.indexOf(chr) + 1
+                        )
+                    )
+                );
+            }
+        }
+
+        @Override
+        public Collection<Defect> defects() {
+            return this.found;
+        }
+    }
 }
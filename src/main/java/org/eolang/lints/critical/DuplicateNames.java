@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.critical;
+
+import com.jcabi.xml.XML;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.iterable.Joined;
+import org.cactoos.list.ListOf;
+import org.cactoos.text.TextOf;
+import org.eolang.lints.Defect;
+import org.eolang.lints.Lint;
+import org.eolang.lints.ProgramIndex;
+import org.eolang.lints.Severity;
+
+/**
+ * Names of objects must be unique inside their parent.
+ *
+ * <p>This is the same rule as {@code critical/duplicate-names.xsl}, but
+ * instead of comparing every object with all its preceding siblings,
+ * it keeps names already seen in every parent in a hash set.</p>
+ *
+ * @since 0.1.0
+ */
+public final class DuplicateNames implements Lint {
+
+    @Override
+    public Collection<Defect> defects(final XML xmir) {
+        final Map<Integer, Set<String>> seen = new HashMap<>(0);
+        final Map<Integer, List<Defect>> found = new TreeMap<>();
+        for (final ProgramIndex.Entity obj : new ProgramIndex(xmir).objects()) {
+            if (obj.parent() == ProgramIndex.Entity.NONE || !obj.attr("name").isPresent()) {
+                continue;
+            }
+            final String name = obj.attr("name").get();
+            if (!seen.computeIfAbsent(obj.parent(), pos -> new HashSet<>(1)).add(name)) {
+                found.computeIfAbsent(obj.parent(), pos -> new LinkedList<>()).add(
+                    new Defect.Default(
+                        this.name(),
+                        Severity.CRITICAL,
+                        obj.lineno(),
+                        String.format("The name \"%s\" is already in use", name)
+                    )
+                );
+            }
+        }
+        return new ListOf<>(new Joined<>(found.values()));
+    }
+
+    @Override
+    public String motive() throws Exception {
+        return new TextOf(
+            new ResourceOf("org/eolang/motives/critical/duplicate-names.md")
+        ).asString();
+    }
+
+    @Override
+    public String name() {
+        return "duplicate-names";
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.critical;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.text.TextOf;
+import org.eolang.lints.Defect;
+import org.eolang.lints.ProjectLint;
+import org.eolang.lints.Severity;
+import org.eolang.lints.SymbolIndex;
+
+/**
+ * Top-level objects must not be defined in more than one file
+ * of the project, with the same package and name.
+ *
+ * @since 0.1.0
+ */
+public final class DuplicateObjects implements ProjectLint {
+
+    @Override
+    public Collection<Defect> defects(final Path file, final SymbolIndex index) {
+        final Collection<Defect> defects = new LinkedList<>();
+        if (index.unit(file).isPresent()) {
+            final SymbolIndex.Unit unit = index.unit(file).get();
+            for (final Map.Entry<String, Integer> obj : unit.objects().entrySet()) {
+                final String full = unit.full(obj.getKey());
+                final Collection<Path> others = index.files(full).stream()
+                    .filter(other -> !other.equals(file))
+                    .sorted()
+                    .collect(Collectors.toList());
+                if (!others.isEmpty()) {
+                    defects.add(
+                        new Defect.Default(
+                            this.name(),
+                            Severity.CRITICAL,
+                            obj.getValue(),
+                            String.format(
+                                "The object \"%s\" is also defined in %s",
+                                full,
+                                others.stream().map(Path::toString)
+                                    .collect(Collectors.joining(", "))
+                            )
+                        )
+                    );
+                }
+            }
+        }
+        return defects;
+    }
+
+    @Override
+    public String motive() throws Exception {
+        return new TextOf(
+            new ResourceOf("org/eolang/motives/critical/duplicate-objects.md")
+        ).asString();
+    }
+
+    @Override
+    public String name() {
+        return "duplicate-objects";
+    }
+}
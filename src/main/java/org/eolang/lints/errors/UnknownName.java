@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.errors;
+
+import com.jcabi.xml.XML;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Set;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.text.TextOf;
+import org.eolang.lints.Defect;
+import org.eolang.lints.Lint;
+import org.eolang.lints.ProgramIndex;
+import org.eolang.lints.Severity;
+
+/**
+ * Every object used must be either a special one, or a qualified
+ * one, or an alias.
+ *
+ * <p>This is the same rule as {@code errors/unknown-name.xsl}, but
+ * aliases are taken from the {@link ProgramIndex}, instead of being found
+ * again for every object.</p>
+ *
+ * @since 0.1.0
+ */
+public final class UnknownName implements Lint {
+
+    /**
+     * Bases, which are always known.
+     */
+    private static final Set<String> SPECIAL = new HashSet<>(
+        Arrays.asList("@", "&", "Q", "^", "$", "<")
+    );
+
+    @Override
+    public Collection<Defect> defects(final XML xmir) {
+        final ProgramIndex index = new ProgramIndex(xmir);
+        final Collection<Defect> defects = new LinkedList<>();
+        for (final ProgramIndex.Entity obj : index.objects()) {
+            if (!obj.attr("base").isPresent() || obj.attr("ref").isPresent()) {
+                continue;
+            }
+            final String base = obj.attr("base").get();
+            if (UnknownName.SPECIAL.contains(base) || base.contains(".")
+                || index.aliases().contains(base)) {
+                continue;
+            }
+            defects.add(
+                new Defect.Default(
+                    this.name(),
+                    Severity.ERROR,
+                    obj.lineno(),
+                    String.format("The object \"%s\" is not defined anywhere", base)
+                )
+            );
+        }
+        return defects;
+    }
+
+    @Override
+    public String motive() throws Exception {
+        return new TextOf(
+            new ResourceOf("org/eolang/motives/errors/unknown-names.md")
+        ).asString();
+    }
+
+    @Override
+    public String name() {
+        return "unknown-name";
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.lines;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.text.TextOf;
+import org.eolang.lints.Defect;
+import org.eolang.lints.Severity;
+import org.eolang.lints.StreamLint;
+import org.eolang.lints.XmirStream;
+
+/**
+ * Lines of objects, metas or errors must be inside the listing.
+ *
+ * <p>These are the same rules as {@code lines/*-line-out-of-listing.xsl},
+ * checked in one pass over the XMIR, without the DOM. The listing goes
+ * first in the XMIR, that's why lines are checked as soon as they are
+ * seen. If it's not so, they are kept until the end of the pass.</p>
+ *
+ * @since 0.1.0
+ */
+public final class LineOutOfListing implements StreamLint {
+
+    /**
+     * Path of the listing.
+     */
+    private static final List<String> LISTING = Arrays.asList("program", "listing");
+
+    /**
+     * What is checked: {@code object}, {@code meta} or {@code error}.
+     */
+    private final String what;
+
+    /**
+     * Ctor.
+     * @param kind What is checked: {@code object}, {@code meta} or {@code error}
+     */
+    public LineOutOfListing(final String kind) {
+        this.what = kind;
+    }
+
+    @Override
+    public Collection<Defect> defects(final XML xmir) throws IOException {
+        return new XmirStream(xmir).defects(Collections.singleton(this));
+    }
+
+    @Override
+    public StreamLint.Pass pass() {
+        return new LineOutOfListing.Lines(this.name(), LineOutOfListing.path(this.what));
+    }
+
+    @Override
+    public String motive() throws Exception {
+        return new TextOf(
+            new ResourceOf(String.format("org/eolang/motives/lines/%s.md", this.name()))
+        ).asString();
+    }
+
+    @Override
+    public String name() {
+        return String.format("%s-line-out-of-listing", this.what);
+    }
+
+    /**
+     * Path of elements checked, where empty path means any {@code o}.
+     * @param kind What is checked
+     * @return Path, as a list of element names
+     */
+    private static List<String> path(final String kind) {
+        final List<String> path;
+        if ("object".equals(kind)) {
+            path = Collections.emptyList();
+        } else if ("meta".equals(kind)) {
+            path = Arrays.asList("program", "metas", "meta");
+        } else if ("error".equals(kind)) {
+            path = Arrays.asList("program", "errors", "error");
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Unknown kind of lines: '%s'", kind)
+            );
+        }
+        return path;
+    }
+
+    /**
+     * Pass, which counts lines in the listing and checks lines of elements.
+     *
+     * @since 0.1.0
+     */
+    private static final class Lines implements StreamLint.Pass {
+
+        /**
+         * The name of the rule.
+         */
+        private final String rule;
+
+        /**
+         * Path of elements checked, or empty, which means any {@code o}.
+         */
+        private final List<String> where;
+
+        /**
+         * Defects found.
+         */
+        private final Collection<Defect> found;
+
+        /**
+         * Lines of elements, seen before the listing.
+         */
+        private final Collection<String> early;
+
+        /**
+         * The last line of the listing, as {@code $max} in the stylesheets.
+         */
+        private int max;
+
+        /**
+         * Is the listing finished?
+         */
+        private boolean done;
+
+        /**
+         * New lines in the listing, so far.
+         */
+        private int breaks;
+
+        /**
+         * Is there any text in the listing, so far?
+         */
+        private boolean filled;
+
+        /**
+         * Ctor.
+         * @param name The name of the rule
+         * @param path Path of elements checked
+         */
+        Lines(final String name, final List<String> path) {
+            this.rule = name;
+            this.where = path;
+            this.found = new LinkedList<>();
+            this.early = new LinkedList<>();
+        }
+
+        @Override
+        public void start(final List<String> path, final Map<String, String> attrs) {
+            final String line = attrs.get("line");
+            if (this.matches(path) && attrs.containsKey("line")) {
+                if (this.done) {
+                    this.check(line);
+                } else {
+                    this.early.add(line);
+                }
+            }
+        }
+
+        @Override
+        public void text(final List<String> path, final String txt) {
+            if (LineOutOfListing.LISTING.equals(path)) {
+                this.filled = this.filled || !txt.isEmpty();
+                for (int idx = 0; idx < txt.length(); ++idx) {
+                    if (txt.charAt(idx) == '\n') {
+                        ++this.breaks;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void end(final List<String> path) {
+            if (LineOutOfListing.LISTING.equals(path)) {
+                this.finish();
+            }
+        }
+
+        @Override
+        public Collection<Defect> defects() {
+            if (!this.done) {
+                this.finish();
+            }
+            return this.found;
+        }
+
+        /**
+         * The listing is over, check all lines seen before it.
+         */
+        private void finish() {
+            this.done = true;
+            if (this.filled) {
+                this.max = this.breaks;
+            } else {
+                this.max = -1;
+            }
+            for (final String line : this.early) {
+                this.check(line);
+            }
+            this.early.clear();
+        }
+
+        /**
+         * Is it the element to check?
+         * @param path Path of the element
+         * @return TRUE if it is
+         */
+        private boolean matches(final List<String> path) {
+            final boolean matches;
+            if (this.where.isEmpty()) {
+                matches = "o".equals(path.get(path.size() - 1));
+            } else {
+                matches = this.where.equals(path);
+            }
+            return matches;
+        }
+
+        /**
+         * Check the line.
+         * @param line The line, as it is in {@code @line}
+         */
+        private void check(final String line) {
+            if (LineOutOfListing.Lines.number(line) > this.max) {
+                this.found.add(
+                    new Defect.Default(
+                        this.rule,
+                        Severity.ERROR,
+                        Integer.parseInt(line),
+                        String.format(
+                            "The line %s is out of listing, which contains only %d lines",
+                            line, this.max
+                        )
+                    )
+                );
+            }
+        }
+
+        /**
+         * The line as a number, like {@code number()} in XPath.
+         * @param line The line
+         * @return The number or NaN
+         */
+        private static double number(final String line) {
+            double num;
+            try {
+                num = Double.parseDouble(line);
+            } catch (final NumberFormatException ex) {
+                num = Double.NaN;
+            }
+            return num;
+        }
+    }
+}
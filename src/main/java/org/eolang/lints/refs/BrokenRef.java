@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.refs;
+
+import com.jcabi.xml.XML;
+import java.util.Collection;
+import java.util.LinkedList;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.text.TextOf;
+import org.eolang.lints.Defect;
+import org.eolang.lints.Lint;
+import org.eolang.lints.ProgramIndex;
+import org.eolang.lints.Severity;
+
+/**
+ * Every reference must point to an existing object, with the same
+ * name at the referenced line.
+ *
+ * <p>This is the same rule as {@code refs/broken-ref.xsl}, but instead of
+ * searching the entire XMIR for every referencing object, it looks
+ * names with their lines up in the {@link ProgramIndex}.</p>
+ *
+ * @since 0.1.0
+ */
+public final class BrokenRef implements Lint {
+
+    @Override
+    public Collection<Defect> defects(final XML xmir) {
+        final ProgramIndex index = new ProgramIndex(xmir);
+        final Collection<Defect> defects = new LinkedList<>();
+        for (final ProgramIndex.Entity obj : index.objects()) {
+            if (!obj.attr("ref").isPresent() || !obj.attr("base").isPresent()) {
+                continue;
+            }
+            final String base = obj.attr("base").get();
+            final String ref = obj.attr("ref").get();
+            if (!index.lines(base).contains(ref)) {
+                defects.add(
+                    new Defect.Default(
+                        this.name(),
+                        Severity.ERROR,
+                        obj.lineno(),
+                        String.format(
+                            "The object \"%s\" is absent, but is referenced as \"%s\"",
+                            base, ref
+                        )
+                    )
+                );
+            }
+        }
+        return defects;
+    }
+
+    @Override
+    public String motive() throws Exception {
+        return new TextOf(
+            new ResourceOf("org/eolang/motives/refs/broken-refs.md")
+        ).asString();
+    }
+
+    @Override
+    public String name() {
+        return "broken-ref";
+    }
+}
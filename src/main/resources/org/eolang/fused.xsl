@@ -0,0 +1,97 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<!--
+The MIT License (MIT)
+
+Copyright (c) 2016-2024 Objectionary.com
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+-->
+<!--
+All lints, fused into one stylesheet.
+
+The input is a <rules/> element with all lint stylesheets inside.
+The output is a stylesheet, where every template of every lint is
+moved into its own mode, named after the @id of the lint, and every global
+variable is renamed, prefixed by the same @id. The root template of the
+output applies all modes to the XMIR, one by one, and wraps the <defects/>
+of each lint into a <lint/> element with the @id of the lint.
+-->
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" xmlns:xs="http://www.w3.org/2001/XMLSchema" xmlns:fz="https://www.eolang.org/fused" id="fused" version="2.0" exclude-result-prefixes="xs fz">
+  <xsl:output encoding="UTF-8" method="xml"/>
+  <xsl:function name="fz:mode" as="xs:string">
+    <xsl:param name="id" as="xs:string"/>
+    <xsl:param name="mode" as="xs:string?"/>
+    <xsl:sequence select="if (not($mode)) then $id else string-join(for $m in tokenize($mode, '\s+') return if ($m = '#default') then $id else if (starts-with($m, '#')) then $m else concat($id, '-', $m), ' ')"/>
+  </xsl:function>
+  <xsl:function name="fz:renamed" as="xs:string">
+    <xsl:param name="text" as="xs:string"/>
+    <xsl:param name="globals" as="xs:string*"/>
+    <xsl:param name="id" as="xs:string"/>
+    <xsl:sequence select="if (empty($globals)) then $text else fz:renamed(replace($text, concat('\$', replace($globals[1], '\.', '\\.'), '([^\p{L}\p{N}_.\-]|$)'), concat('\$', $id, '-', $globals[1], '$1')), $globals[position() &gt; 1], $id)"/>
+  </xsl:function>
+  <xsl:template match="/rules">
+    <xsl:element name="xsl:stylesheet" namespace="http://www.w3.org/1999/XSL/Transform">
+      <xsl:attribute name="version" select="'2.0'"/>
+      <xsl:for-each-group select="xsl:stylesheet/xsl:import" group-by="@href">
+        <xsl:copy-of select="."/>
+      </xsl:for-each-group>
+      <xsl:element name="xsl:template" namespace="http://www.w3.org/1999/XSL/Transform">
+        <xsl:attribute name="match" select="'/'"/>
+        <lints>
+          <xsl:for-each select="xsl:stylesheet">
+            <lint id="{@id}">
+              <xsl:element name="xsl:apply-templates" namespace="http://www.w3.org/1999/XSL/Transform">
+                <xsl:attribute name="select" select="'.'"/>
+                <xsl:attribute name="mode" select="@id"/>
+              </xsl:element>
+            </lint>
+          </xsl:for-each>
+        </lints>
+      </xsl:element>
+      <xsl:for-each select="xsl:stylesheet">
+        <xsl:apply-templates select="* except (xsl:import, xsl:output)" mode="fused">
+          <xsl:with-param name="id" select="string(@id)" tunnel="yes"/>
+          <xsl:with-param name="globals" select="(xsl:variable|xsl:param)/@name/string()" tunnel="yes"/>
+        </xsl:apply-templates>
+      </xsl:for-each>
+    </xsl:element>
+  </xsl:template>
+  <xsl:template match="xsl:template[@match]|xsl:apply-templates[not(@mode='#current')]" mode="fused">
+    <xsl:param name="id" tunnel="yes"/>
+    <xsl:copy>
+      <xsl:apply-templates select="@* except @mode" mode="fused"/>
+      <xsl:attribute name="mode" select="fz:mode($id, @mode)"/>
+      <xsl:apply-templates select="node()" mode="fused"/>
+    </xsl:copy>
+  </xsl:template>
+  <xsl:template match="xsl:stylesheet/xsl:variable/@name|xsl:stylesheet/xsl:param/@name" mode="fused">
+    <xsl:param name="id" tunnel="yes"/>
+    <xsl:attribute name="name" select="concat($id, '-', .)"/>
+  </xsl:template>
+  <xsl:template match="@*" mode="fused">
+    <xsl:param name="id" tunnel="yes"/>
+    <xsl:param name="globals" tunnel="yes"/>
+    <xsl:attribute name="{name()}" namespace="{namespace-uri()}" select="fz:renamed(., $globals, $id)"/>
+  </xsl:template>
+  <xsl:template match="node()" mode="fused">
+    <xsl:copy>
+      <xsl:apply-templates select="@*|node()" mode="fused"/>
+    </xsl:copy>
+  </xsl:template>
+</xsl:stylesheet>
@@ -24,11 +24,12 @@ SOFTWARE.
 -->
 <xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" id="unused-alias" version="2.0">
   <xsl:output encoding="UTF-8" method="xml"/>
+  <xsl:param name="bases" select="distinct-values(//o/@base)"/>
   <xsl:template match="/">
     <defects>
       <xsl:for-each select="/program/metas/meta[head='alias' and count(part)=2]">
         <xsl:variable name="name" select="tokenize(tail, ' ')[2]"/>
-        <xsl:if test="count(//o[@base=$name]) = 0">
+        <xsl:if test="not($name = $bases)">
           <xsl:element name="defect">
             <xsl:attribute name="line">
               <xsl:value-of select="if (@line) then @line else '0'"/>
@@ -24,7 +24,8 @@ SOFTWARE.
 -->
 <xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" id="error-line-out-of-listing" version="2.0">
   <xsl:output encoding="UTF-8" method="xml"/>
-  <xsl:variable name="max" select="count(tokenize(/program/listing, '&#10;')) - 1"/>
+  <xsl:param name="lines" select="count(tokenize(/program/listing, '&#10;'))"/>
+  <xsl:variable name="max" select="$lines - 1"/>
   <xsl:template match="/">
     <defects>
       <xsl:for-each select="/program/errors/error[@line &gt; $max]">
@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Awaited}.
+ *
+ * @since 0.1.0
+ */
+final class AwaitedTest {
+
+    @Test
+    void rethrowsOriginalIoException() {
+        MatcherAssert.assertThat(
+            "the original exception is not thrown",
+            Assertions.assertThrows(
+                NoSuchFileException.class,
+                () -> new Awaited<>(
+                    CompletableFuture.supplyAsync(
+                        () -> {
+                            throw new UncheckedIOException(
+                                new NoSuchFileException("foo.xmir")
+                            );
+                        }
+                    )
+                ).value()
+            ).getMessage(),
+            Matchers.equalTo("foo.xmir")
+        );
+    }
+
+    @Test
+    void keepsStackOfWaitingThread() {
+        MatcherAssert.assertThat(
+            "the stack of the waiting thread is lost",
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> new Awaited<>(
+                    CompletableFuture.supplyAsync(
+                        () -> {
+                            throw new IllegalStateException("broken");
+                        }
+                    )
+                ).value()
+            ).getSuppressed(),
+            Matchers.arrayContaining(Matchers.instanceOf(CompletionException.class))
+        );
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link BinaryReport}.
+ *
+ * @since 0.1.0
+ */
+final class BinaryReportTest {
+
+    @Test
+    void readsWhatIsWritten() throws IOException {
+        final List<String> written = new ArrayList<>(0);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Report report = new BinaryReport(bytes)) {
+            for (int idx = 0; idx < 300; ++idx) {
+                final String program = String.format("p%d.xmir", idx % 7);
+                final Defect defect = new Defect.Default(
+                    String.format("rule-%d", idx % 13),
+                    Severity.values()[idx % 3],
+                    idx * 1000,
+                    String.format("Defect #%d, привет \uD83D\uDE00", idx),
+                    "1.0"
+                );
+                report.write(program, defect);
+                written.add(String.format("%s %s", program, defect));
+            }
+        }
+        final List<String> read = new ArrayList<>(0);
+        final BinaryReport.Entries entries = new BinaryReport.Entries(
+            new ByteArrayInputStream(bytes.toByteArray())
+        );
+        Optional<Map.Entry<String, Defect>> next = entries.next();
+        while (next.isPresent()) {
+            read.add(String.format("%s %s", next.get().getKey(), next.get().getValue()));
+            next = entries.next();
+        }
+        MatcherAssert.assertThat(
+            "defects read differ from written ones",
+            read,
+            Matchers.equalTo(written)
+        );
+    }
+
+    @Test
+    void isSmallerThanJsonLines() throws IOException {
+        final ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        final ByteArrayOutputStream json = new ByteArrayOutputStream();
+        try (Report first = new BinaryReport(binary); Report second = new JsonLinesReport(json)) {
+            for (int idx = 0; idx < 100; ++idx) {
+                final Defect defect = new Defect.Default(
+                    "unknown-name", Severity.ERROR, idx, "The name is unknown", "1.0"
+                );
+                first.write("foo.xmir", defect);
+                second.write("foo.xmir", defect);
+            }
+        }
+        MatcherAssert.assertThat(
+            "binary report is not compact",
+            binary.size() * 3,
+            Matchers.lessThan(json.size())
+        );
+    }
+
+    @Test
+    void skipsUnknownFieldsOfRecord() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final Defect defect = new Defect.Default(
+            "unknown-name", Severity.ERROR, 7, "The name is unknown", "1.0"
+        );
+        try (Report report = new BinaryReport(bytes)) {
+            report.write("foo.xmir", defect);
+        }
+        final byte[] original = bytes.toByteArray();
+        final ByteArrayOutputStream longer = new ByteArrayOutputStream();
+        longer.write(original, 0, 5);
+        for (int idx = 0; idx < 2; ++idx) {
+            longer.write(original[5] + 1);
+            longer.write(original, 6, original.length - 6);
+            longer.write(42);
+        }
+        final BinaryReport.Entries entries = new BinaryReport.Entries(
+            new ByteArrayInputStream(longer.toByteArray())
+        );
+        MatcherAssert.assertThat(
+            "records with unknown fields are not read by their length",
+            Arrays.asList(
+                entries.next().get().getValue().toString(),
+                entries.next().get().getValue().toString(),
+                entries.next().isPresent()
+            ),
+            Matchers.contains(defect.toString(), defect.toString(), false)
+        );
+    }
+}
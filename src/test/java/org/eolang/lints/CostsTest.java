@@ -0,0 +1,207 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XMLDocument;
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.cactoos.io.InputOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link Costs}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class CostsTest {
+
+    @Test
+    void startsExpensiveRulesFirst() {
+        final Costs costs = new Costs();
+        costs.record("cheap", 10L);
+        costs.record("medium", 1_000L);
+        costs.record("expensive", 100_000L);
+        MatcherAssert.assertThat(
+            "the most expensive rule doesn't start first",
+            costs.plan(Arrays.asList("cheap", "medium", "expensive"), 1).get(0),
+            Matchers.equalTo(Collections.singletonList(2))
+        );
+    }
+
+    @Test
+    void startsUnknownRulesFirst() {
+        final Costs costs = new Costs();
+        costs.record("known", 100_000L);
+        MatcherAssert.assertThat(
+            "the rule never seen before doesn't start first",
+            costs.plan(Arrays.asList("known", "unknown"), 2).get(0),
+            Matchers.equalTo(Collections.singletonList(1))
+        );
+    }
+
+    @Test
+    void startsFirstRulesBeforeExpensiveOnes() {
+        final Costs costs = new Costs();
+        costs.record("slow", 1_000_000L);
+        costs.record("quick", 10L);
+        costs.record("tiny", 10L);
+        MatcherAssert.assertThat(
+            "cheap rules of the first group don't start before expensive ones",
+            costs.plan(
+                Arrays.asList("slow", "quick", "tiny"),
+                Collections.singleton("quick"),
+                1
+            ),
+            Matchers.contains(
+                Collections.singletonList(1),
+                Collections.singletonList(0),
+                Collections.singletonList(2)
+            )
+        );
+    }
+
+    @Test
+    void packsCheapRulesTogether() {
+        final Costs costs = new Costs();
+        costs.record("a", 1_000_000L);
+        costs.record("b", 10L);
+        costs.record("c", 10L);
+        costs.record("d", 10L);
+        MatcherAssert.assertThat(
+            "cheap rules are not packed into one batch",
+            costs.plan(Arrays.asList("a", "b", "c", "d"), 2),
+            Matchers.contains(
+                Collections.singletonList(0),
+                Arrays.asList(1, 2, 3)
+            )
+        );
+    }
+
+    @Test
+    void averagesRuns() {
+        final Costs costs = new Costs();
+        costs.record("x", 100L);
+        costs.record("x", 500L);
+        MatcherAssert.assertThat(
+            "the last run weighs wrong",
+            costs.cost("x"),
+            Matchers.equalTo(Optional.of(200L))
+        );
+    }
+
+    @Test
+    void savesAndLoads(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("costs/all.txt");
+        final Costs costs = new Costs(file);
+        costs.record("broken-ref", 42L);
+        costs.save();
+        MatcherAssert.assertThat(
+            "cost is not loaded from the file",
+            new Costs(file).cost("broken-ref"),
+            Matchers.equalTo(Optional.of(42L))
+        );
+    }
+
+    @Test
+    void skipsBrokenLines(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("broken.txt");
+        Files.write(
+            file,
+            "broken-ref\tmany\nunknown-name\t-7\nno tab\nself-naming\t 12 \n"
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        final Costs costs = new Costs(file);
+        MatcherAssert.assertThat(
+            "broken lines are not skipped",
+            Arrays.asList(
+                costs.cost("broken-ref"), costs.cost("unknown-name"),
+                costs.cost("self-naming")
+            ),
+            Matchers.contains(Optional.empty(), Optional.empty(), Optional.of(12L))
+        );
+    }
+
+    @Test
+    void learnsCostsInConcurrentProgram() throws IOException {
+        final Costs costs = new Costs();
+        new Program(
+            new XMLDocument("<program><objects><o name='x' line='1'/></objects></program>"),
+            Runnable::run,
+            costs
+        ).defects();
+        MatcherAssert.assertThat(
+            "cost of the rule is not learned",
+            costs.cost("unknown-name").isPresent(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void startsCriticalLintsFirstInConcurrentProgram() throws Exception {
+        final Costs costs = new Costs();
+        final Collection<String> expensive = new LinkedList<>();
+        for (final Lint lint : Program.LINTS) {
+            if (CriticalFirst.names().contains(lint.name())) {
+                costs.record(lint.name(), 1L);
+            } else {
+                costs.record(lint.name(), 1_000_000_000L);
+                expensive.add(lint.name());
+            }
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(1);
+        try {
+            new Program(
+                new EoSyntax(
+                    new InputOf("# first.\n[] > foo\n# second.\n[] > foo\n")
+                ).parsed(),
+                executor,
+                costs
+            ).defects(new Sink.UntilCritical(defect -> { }));
+        } finally {
+            executor.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "expensive non-critical lints start before critical ones",
+            expensive.stream().map(costs::cost).collect(Collectors.toList()),
+            Matchers.everyItem(Matchers.equalTo(Optional.of(1_000_000_000L)))
+        );
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link CriticalFirst}.
+ *
+ * @since 0.1.0
+ */
+final class CriticalFirstTest {
+
+    @Test
+    void putsCriticalLintsFirst() {
+        MatcherAssert.assertThat(
+            "the first lint is not critical",
+            new CriticalFirst(new XslLints()).iterator().next().name(),
+            Matchers.oneOf(
+                "duplicate-names",
+                "incorrect-rt-parts",
+                "package-contains-multiple-parts"
+            )
+        );
+    }
+
+    @Test
+    void putsGivenCriticalRulesFirst() {
+        MatcherAssert.assertThat(
+            "the given critical rule is not the first",
+            new CriticalFirst(
+                new XslLints(),
+                Collections.singleton("unsorted-metas")
+            ).iterator().next().name(),
+            Matchers.equalTo("unsorted-metas")
+        );
+    }
+
+}
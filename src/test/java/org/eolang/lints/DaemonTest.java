@@ -0,0 +1,260 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import org.cactoos.io.InputOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link Daemon} and {@link DaemonClient}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class DaemonTest {
+
+    /**
+     * Broken program.
+     */
+    private static final String EO = "# first.\n[] > foo\n# second.\n[] > foo\n";
+
+    @Test
+    void lintsFile(@Mktmp final Path dir) throws IOException {
+        final XML xmir = new EoSyntax(new InputOf(DaemonTest.EO)).parsed();
+        final Path file = dir.resolve("foo.xmir");
+        Files.write(file, xmir.toString().getBytes(StandardCharsets.UTF_8));
+        try (Daemon daemon = new Daemon(0).start()) {
+            MatcherAssert.assertThat(
+                "defects from the daemon differ from local ones",
+                new DaemonClient(daemon.port()).defects(file).stream()
+                    .map(Object::toString)
+                    .collect(Collectors.toList()),
+                Matchers.equalTo(
+                    new Program(xmir).defects().stream()
+                        .map(Object::toString)
+                        .collect(Collectors.toList())
+                )
+            );
+        }
+    }
+
+    @Test
+    void lintsInlineXmir() throws IOException {
+        final XML xmir = new EoSyntax(new InputOf(DaemonTest.EO)).parsed();
+        try (Daemon daemon = new Daemon(0).start()) {
+            MatcherAssert.assertThat(
+                "inline XMIR is linted wrongly",
+                new DaemonClient(daemon.port()).defects(xmir).size(),
+                Matchers.equalTo(new Program(xmir).defects().size())
+            );
+        }
+    }
+
+    @Test
+    void reportsErrors(@Mktmp final Path dir) throws IOException {
+        try (Daemon daemon = new Daemon(0).start()) {
+            final DaemonClient client = new DaemonClient(daemon.port());
+            Assertions.assertThrows(
+                IOException.class,
+                () -> client.defects(dir.resolve("absent.xmir")),
+                "absent file is linted"
+            );
+            MatcherAssert.assertThat(
+                "daemon doesn't survive an error",
+                client.alive(),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    @Test
+    void refusesWrongSizeOfXml() throws IOException {
+        try (Daemon daemon = new Daemon(0).start();
+            Socket socket = new Socket(InetAddress.getLoopbackAddress(), daemon.port());
+            BufferedReader input = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)
+            )) {
+            socket.getOutputStream().write(
+                DaemonTest.auth(daemon).concat(
+                    "XML -1\nXML 99999999999999999999\nXML ten\nPING\n"
+                ).getBytes(StandardCharsets.UTF_8)
+            );
+            MatcherAssert.assertThat(
+                "wrong sizes are not refused within the session",
+                Arrays.asList(
+                    input.readLine(), input.readLine(), input.readLine(), input.readLine()
+                ),
+                Matchers.contains(
+                    Matchers.startsWith("ERROR Wrong size"),
+                    Matchers.startsWith("ERROR Wrong size"),
+                    Matchers.startsWith("ERROR Wrong size"),
+                    Matchers.equalTo("PONG")
+                )
+            );
+        }
+    }
+
+    @Test
+    void refusesTooLongRequestLine() throws IOException {
+        try (Daemon daemon = new Daemon(0).start();
+            Socket socket = new Socket(InetAddress.getLoopbackAddress(), daemon.port());
+            BufferedReader input = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)
+            )) {
+            final byte[] line = new byte[(64 << 10) + 1];
+            Arrays.fill(line, (byte) 'x');
+            socket.getOutputStream().write(
+                DaemonTest.auth(daemon).getBytes(StandardCharsets.UTF_8)
+            );
+            socket.getOutputStream().write(line);
+            MatcherAssert.assertThat(
+                "too long request line is not refused",
+                Arrays.asList(input.readLine(), input.readLine()),
+                Matchers.contains(
+                    Matchers.startsWith("ERROR The request line is longer"),
+                    Matchers.nullValue()
+                )
+            );
+        }
+    }
+
+    @Test
+    void refusesRequestsWithoutToken() throws IOException {
+        try (Daemon daemon = new Daemon(0).start();
+            Socket socket = new Socket(InetAddress.getLoopbackAddress(), daemon.port());
+            BufferedReader input = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)
+            )) {
+            socket.getOutputStream().write(
+                "AUTH wrong\nPING\n".getBytes(StandardCharsets.UTF_8)
+            );
+            MatcherAssert.assertThat(
+                "request with a wrong token is answered",
+                Arrays.asList(input.readLine(), input.readLine()),
+                Matchers.contains(
+                    Matchers.startsWith("ERROR Not authorized"),
+                    Matchers.nullValue()
+                )
+            );
+        }
+    }
+
+    @Test
+    void keepsTokenInFileWhileRunning(@Mktmp final Path dir) throws IOException {
+        final Path token = dir.resolve("daemon.token");
+        try (Daemon daemon = new Daemon(0, ForkJoinPool.commonPool(), token).start()) {
+            MatcherAssert.assertThat(
+                "client with the token file can't reach the daemon",
+                new DaemonClient(daemon.port(), 1000, token).alive(),
+                Matchers.is(true)
+            );
+        }
+        MatcherAssert.assertThat(
+            "token file is not deleted after close",
+            Files.exists(token),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void refusesTooManyConnections() throws IOException {
+        final Collection<Socket> sockets = new LinkedList<>();
+        try (Daemon daemon = new Daemon(0).start()) {
+            for (int idx = 0; idx < 16; ++idx) {
+                final Socket socket = new Socket(
+                    InetAddress.getLoopbackAddress(), daemon.port()
+                );
+                sockets.add(socket);
+                socket.getOutputStream().write(
+                    DaemonTest.auth(daemon).concat("PING\n").getBytes(StandardCharsets.UTF_8)
+                );
+                new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8)
+                ).readLine();
+            }
+            final Socket extra = new Socket(InetAddress.getLoopbackAddress(), daemon.port());
+            sockets.add(extra);
+            MatcherAssert.assertThat(
+                "extra connection is not refused",
+                new BufferedReader(
+                    new InputStreamReader(extra.getInputStream(), StandardCharsets.UTF_8)
+                ).readLine(),
+                Matchers.startsWith("ERROR There are more than 16 connections")
+            );
+        } finally {
+            for (final Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+
+    @Test
+    void stopsOnRequest() throws Exception {
+        final Daemon daemon = new Daemon(0).start();
+        final DaemonClient client = new DaemonClient(daemon.port());
+        client.stop();
+        daemon.await();
+        MatcherAssert.assertThat(
+            "daemon is alive after stop",
+            client.alive(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * The first line of a session with the daemon.
+     * @param daemon The daemon
+     * @return The line
+     * @throws IOException If fails
+     */
+    private static String auth(final Daemon daemon) throws IOException {
+        return String.format(
+            "AUTH %s\n",
+            new String(
+                Files.readAllBytes(Daemon.keyfile(daemon.port())), StandardCharsets.UTF_8
+            )
+        );
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link DefectTable}.
+ *
+ * @since 0.1.0
+ */
+final class DefectTableTest {
+
+    @Test
+    void keepsDefectsInOrder() {
+        final List<Defect> defects = Arrays.asList(
+            new Defect.Default("duplicate-names", Severity.CRITICAL, 3, "The name is duplicated"),
+            new Defect.Default("comment-too-short", Severity.WARNING, 1, "Too short"),
+            new Defect.Default("duplicate-names", Severity.CRITICAL, 7, "The name is duplicated")
+        );
+        final Collection<Defect> table = new DefectTable();
+        table.addAll(defects);
+        MatcherAssert.assertThat(
+            "defects are not the same as added",
+            table.stream().map(Object::toString).collect(Collectors.toList()),
+            Matchers.equalTo(
+                defects.stream().map(Object::toString).collect(Collectors.toList())
+            )
+        );
+    }
+
+    @Test
+    void growsWithManyDefects() {
+        final Collection<Defect> table = new DefectTable();
+        IntStream.range(0, 10_000).forEach(
+            idx -> table.add(
+                new Defect.Default(
+                    String.format("rule-%d", idx % 7),
+                    Severity.ERROR,
+                    idx,
+                    String.format("Message #%d", idx % 100)
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "the defect in the middle is lost",
+            table.stream().skip(5000).findFirst().get().toString(),
+            Matchers.equalTo("[rule-2 ERROR]:5000 Message #0")
+        );
+    }
+
+    @Test
+    void keepsVersionOfDefect() {
+        final Collection<Defect> table = new DefectTable();
+        table.add(new Defect.Default("mandatory-home", Severity.WARNING, 2, "No home", "0.0.7"));
+        MatcherAssert.assertThat(
+            "the version of the defect is lost",
+            table.iterator().next().version(),
+            Matchers.equalTo("0.0.7")
+        );
+    }
+
+}
@@ -48,4 +48,15 @@ final class DefectTest {
             Matchers.equalTo("1.2.3")
         );
     }
+
+    @Test
+    void returnsGivenVersion() {
+        MatcherAssert.assertThat(
+            "Version is not the given one",
+            new Defect.Default(
+                "critical/self-naming", Severity.ERROR, 1, "Wrong name", "4.5.6"
+            ).version(),
+            Matchers.equalTo("4.5.6")
+        );
+    }
 }
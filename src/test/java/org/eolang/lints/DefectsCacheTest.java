@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.eolang.lints.errors.UnknownName;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link DefectsCache}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class DefectsCacheTest {
+
+    @Test
+    void savesAndLoadsDefects(@Mktmp final Path dir) throws IOException {
+        final DefectsCache cache = new DefectsCache(dir);
+        final Defect defect = new Defect.Default(
+            "duplicate-names", Severity.CRITICAL, 7, "tab\\there,\nnew line \\n"
+        );
+        cache.put("abc", "duplicate-names", Collections.singleton(defect));
+        MatcherAssert.assertThat(
+            "the defect is not loaded as it was saved",
+            cache.get("abc", "duplicate-names").get().iterator().next().toString(),
+            Matchers.equalTo(defect.toString())
+        );
+    }
+
+    @Test
+    void missesUnknownXmir(@Mktmp final Path dir) throws IOException {
+        final DefectsCache cache = new DefectsCache(dir);
+        cache.put("one", "self-naming", Collections.emptyList());
+        MatcherAssert.assertThat(
+            "defects of another XMIR are found",
+            cache.get("two", "self-naming").isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void keepsEmptyDefects(@Mktmp final Path dir) throws IOException {
+        final DefectsCache cache = new DefectsCache(dir);
+        cache.put("three", "self-naming", Collections.emptyList());
+        MatcherAssert.assertThat(
+            "empty defects are not cached",
+            cache.get("three", "self-naming").get(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void fingerprintsJavaLintByBytecode(@Mktmp final Path dir) throws Exception {
+        new DefectsCache(dir).put("four", "unknown-name", Collections.emptyList());
+        MatcherAssert.assertThat(
+            "the rule implemented in Java is not fingerprinted by its bytecode and helpers",
+            Files.exists(
+                dir.resolve("unknown-name").resolve(
+                    Stylesheets.sha(
+                        String.format(
+                            "%s %s %s", LintsVersion.value(""),
+                            DefectsCache.bytecode(
+                                ProgramIndex.class, XmirStream.class, StreamLint.class,
+                                Stylesheets.class, XslReport.class, DefectLines.class
+                            ),
+                            DefectsCache.bytecode(UnknownName.class)
+                        )
+                    )
+                ).resolve("four")
+            ),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void fingerprintsNestedClassesOfJavaLint(@Mktmp final Path dir) throws Exception {
+        new DefectsCache(dir).put("five", "object-line-out-of-listing", Collections.emptyList());
+        MatcherAssert.assertThat(
+            "nested classes of the rule are not fingerprinted",
+            Files.exists(
+                dir.resolve("object-line-out-of-listing").resolve(
+                    Stylesheets.sha(
+                        String.format(
+                            "%s %s", LintsVersion.value(""),
+                            Stylesheets.sha(
+                                new BytesOf(
+                                    new ResourceOf("org/eolang/lints/lines/LineOutOfListing.class")
+                                ).asBytes()
+                            )
+                        )
+                    )
+                ).resolve("five")
+            ),
+            Matchers.is(false)
+        );
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.cactoos.io.InputOf;
+import org.eolang.jucs.ClasspathSource;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Test for {@link FusedLint}.
+ *
+ * @since 0.1.0
+ */
+final class FusedLintTest {
+
+    /**
+     * The lint, compiled only once for all tests.
+     */
+    private static final Lint FUSED = new FusedLint();
+
+    @Test
+    void lintsOneFile() throws IOException {
+        MatcherAssert.assertThat(
+            "the duplicate is not found",
+            new FusedLint().defects(
+                new EoSyntax(
+                    new InputOf("# first\n[] > foo\n# first\n[] > foo\n")
+                ).parsed()
+            ),
+            Matchers.hasItem(
+                Matchers.hasToString(
+                    Matchers.containsString("[duplicate-names CRITICAL]")
+                )
+            )
+        );
+    }
+
+    @ParameterizedTest
+    @ClasspathSource(value = "org/eolang/lints/eo-packs/", glob = "**.yaml")
+    void findsTheSameAsSeparateLints(final String pack) throws IOException {
+        final Map<String, Object> map = new Yaml().load(pack);
+        final XML xmir = new EoSyntax(new InputOf(map.get("eo").toString())).parsed();
+        MatcherAssert.assertThat(
+            String.format("Fused lints differ from separate ones on:%n%s", xmir),
+            FusedLintTest.sorted(FusedLintTest.FUSED.defects(xmir)),
+            Matchers.equalTo(FusedLintTest.sorted(FusedLintTest.separately(xmir)))
+        );
+    }
+
+    @ParameterizedTest
+    @ClasspathSource(value = "org/eolang/lints/xmir-packs/", glob = "**.yaml")
+    void findsTheSameAsSeparateLintsInXmir(final String pack) throws IOException {
+        final Map<String, Object> map = new Yaml().load(pack);
+        final XML xmir = new XMLDocument(map.get("xmir").toString());
+        MatcherAssert.assertThat(
+            String.format("Fused lints differ from separate ones on:%n%s", xmir),
+            FusedLintTest.sorted(FusedLintTest.FUSED.defects(xmir)),
+            Matchers.equalTo(FusedLintTest.sorted(FusedLintTest.separately(xmir)))
+        );
+    }
+
+    @Test
+    void givesRenamedParametersOfIndex() throws IOException {
+        MatcherAssert.assertThat(
+            "the parameter of the index is not given to the fused rule",
+            new FusedLint(
+                Collections.singleton(
+                    new InputOf(
+                        String.join(
+                            "",
+                            "<xsl:stylesheet xmlns:xsl='http://www.w3.org/1999/XSL/Transform'",
+                            " id='lines-given' version='2.0'>",
+                            "<xsl:param name='lines' select='-1'/>",
+                            "<xsl:template match='/'><defects>",
+                            "<defect line='0' severity='warning'>",
+                            "<xsl:value-of select='$lines'/></defect>",
+                            "</defects></xsl:template></xsl:stylesheet>"
+                        )
+                    )
+                )
+            ).defects(
+                new ProgramIndex(
+                    new XMLDocument(
+                        "<program><listing>a\nb\nc</listing><objects/></program>"
+                    )
+                )
+            ),
+            Matchers.contains(Matchers.hasToString("[lines-given WARNING]:0 3"))
+        );
+    }
+
+    @Test
+    void explainsMotive() throws Exception {
+        MatcherAssert.assertThat(
+            "The motive doesn't mention fused rules",
+            new FusedLint().motive(),
+            Matchers.containsString("`duplicate-names`")
+        );
+    }
+
+    /**
+     * Apply all XSL lints, one by one.
+     * @param xmir The XMIR
+     * @return Defects found
+     * @throws IOException If fails
+     */
+    private static Collection<Defect> separately(final XML xmir) throws IOException {
+        final Collection<Defect> defects = new LinkedList<>();
+        for (final Lint lint : new XslLints()) {
+            defects.addAll(lint.defects(xmir));
+        }
+        return defects;
+    }
+
+    /**
+     * Defects as sorted strings.
+     * @param defects Defects
+     * @return Strings
+     */
+    private static List<String> sorted(final Collection<Defect> defects) {
+        return defects.stream()
+            .map(Object::toString)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import org.cactoos.io.InputOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.eolang.jucs.ClasspathSource;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Test for {@link JavaLints}.
+ *
+ * <p>Java lints, which replace XSL ones, must find exactly the same
+ * defects as their stylesheets, which are kept as reference oracles.</p>
+ *
+ * @since 0.1.0
+ */
+final class JavaLintsTest {
+
+    /**
+     * Stylesheets replaced by Java lints.
+     */
+    private static final Map<String, String> ORACLES = new MapOf<>(
+        new MapEntry<>("broken-ref", "refs/broken-ref"),
+        new MapEntry<>("unknown-name", "errors/unknown-name"),
+        new MapEntry<>("duplicate-names", "critical/duplicate-names"),
+        new MapEntry<>("object-line-out-of-listing", "lines/object-line-out-of-listing"),
+        new MapEntry<>("meta-line-out-of-listing", "lines/meta-line-out-of-listing"),
+        new MapEntry<>("error-line-out-of-listing", "lines/error-line-out-of-listing")
+    );
+
+    @ParameterizedTest
+    @ClasspathSource(value = "org/eolang/lints/eo-packs/", glob = "**.yaml")
+    void findsSameDefectsAsXslInEo(final String pack) throws IOException {
+        JavaLintsTest.compare(
+            new EoSyntax(
+                new InputOf(new Yaml().<Map<String, Object>>load(pack).get("eo").toString())
+            ).parsed()
+        );
+    }
+
+    @ParameterizedTest
+    @ClasspathSource(value = "org/eolang/lints/xmir-packs/", glob = "**.yaml")
+    void findsSameDefectsAsXslInXmir(final String pack) throws IOException {
+        JavaLintsTest.compare(
+            new XMLDocument(new Yaml().<Map<String, Object>>load(pack).get("xmir").toString())
+        );
+    }
+
+    @Test
+    void findsSameDefectsAsXslInRandomProgram() throws IOException {
+        final Random random = new Random(42L);
+        final String[] names = {"a", "b", "c", "d", "e", "foo", "Q", "$", "x.y"};
+        final StringBuilder xmir = new StringBuilder(32_768).append(
+            "<program><metas><meta><head>alias</head><part>foo</part></meta></metas><objects>"
+        );
+        for (int idx = 0; idx < 300; ++idx) {
+            xmir.append(
+                String.format(
+                    "<o name='%s' base='%s' line='%d'",
+                    names[random.nextInt(6)], names[random.nextInt(names.length)], idx
+                )
+            );
+            if (random.nextBoolean()) {
+                xmir.append(String.format(" ref='%d'", random.nextInt(300)));
+            }
+            xmir.append('>');
+            if (random.nextInt(3) == 0) {
+                xmir.append(String.format("<o name='%s'/>", names[random.nextInt(3)]));
+            }
+            xmir.append("</o>");
+        }
+        xmir.append("</objects></program>");
+        JavaLintsTest.compare(new XMLDocument(xmir.toString()));
+    }
+
+    @Test
+    void replacesStylesheets() {
+        MatcherAssert.assertThat(
+            "Java lints are duplicated by XSL ones",
+            new ListOf<>(
+                new Mapped<>(
+                    Lint::name,
+                    new XslLints(JavaLintsTest.ORACLES.keySet())
+                )
+            ),
+            Matchers.not(
+                Matchers.hasItems(JavaLintsTest.ORACLES.keySet().toArray(new String[0]))
+            )
+        );
+    }
+
+    /**
+     * Make sure Java lints find the same as their stylesheets.
+     * @param xmir The XMIR
+     * @throws IOException If fails
+     */
+    private static void compare(final XML xmir) throws IOException {
+        for (final Lint lint : new JavaLints()) {
+            if (!JavaLintsTest.ORACLES.containsKey(lint.name())) {
+                continue;
+            }
+            MatcherAssert.assertThat(
+                String.format("%s finds not the same as its XSL", lint.name()),
+                new ListOf<>(
+                    new Mapped<>(Object::toString, lint.defects(xmir))
+                ),
+                Matchers.equalTo(
+                    new ListOf<>(
+                        new Mapped<>(
+                            Object::toString,
+                            new LintByXsl(JavaLintsTest.ORACLES.get(lint.name()))
+                                .defects(xmir)
+                        )
+                    )
+                )
+            );
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.cactoos.io.InputOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Test for {@link JsonLinesReport}.
+ *
+ * @since 0.1.0
+ */
+final class JsonLinesReportTest {
+
+    @Test
+    void writesDefectPerLine() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Report report = new JsonLinesReport(bytes)) {
+            report.write("a.xmir", new Defect.Default("x", Severity.ERROR, 1, "one", "1.0"));
+            report.write("b.xmir", new Defect.Default("y", Severity.WARNING, 2, "two", "1.0"));
+        }
+        MatcherAssert.assertThat(
+            "defects are not written one per line",
+            new String(bytes.toByteArray(), StandardCharsets.UTF_8).split("\n"),
+            Matchers.arrayWithSize(2)
+        );
+    }
+
+    @Test
+    void escapesTexts() throws IOException {
+        final String text = "The \"name\" is\tbroken\\\n: привет \uD83D\uDE00 \u0001";
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Report report = new JsonLinesReport(bytes)) {
+            report.write(
+                "c:\\foo.xmir", new Defect.Default("z", Severity.CRITICAL, 42, text, "1.0")
+            );
+        }
+        final Map<String, Object> json = new Yaml().load(
+            new String(bytes.toByteArray(), StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "the defect is not read back",
+            json,
+            Matchers.allOf(
+                Matchers.hasEntry("program", (Object) "c:\\foo.xmir"),
+                Matchers.hasEntry("severity", (Object) "critical"),
+                Matchers.hasEntry("line", (Object) 42),
+                Matchers.hasEntry("text", (Object) text)
+            )
+        );
+    }
+
+    @Test
+    void replacesLoneSurrogates() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Report report = new JsonLinesReport(bytes)) {
+            report.write(
+                "d.xmir",
+                new Defect.Default("z", Severity.ERROR, 1, "a\uD83D b\uDE00", "1.0")
+            );
+        }
+        MatcherAssert.assertThat(
+            "lone surrogates are not replaced",
+            StandardCharsets.UTF_8.newDecoder()
+                .decode(ByteBuffer.wrap(bytes.toByteArray())).toString(),
+            Matchers.containsString("a\uFFFD b\uFFFD")
+        );
+    }
+
+    @Test
+    void streamsDefectsOfProgram() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Report report = new JsonLinesReport(bytes)) {
+            new Program(
+                new EoSyntax(
+                    new InputOf("# first.\n[] > foo\n# second.\n[] > foo\n")
+                ).parsed()
+            ).defects(new Sink.Reported(report, "foo.xmir"));
+        }
+        MatcherAssert.assertThat(
+            "defects of the program are not reported",
+            new String(bytes.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.containsString("\"rule\":\"duplicate-names\"")
+        );
+    }
+}
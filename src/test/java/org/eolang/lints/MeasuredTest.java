@@ -0,0 +1,164 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.cactoos.io.InputOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Measured}.
+ *
+ * @since 0.1.0
+ */
+final class MeasuredTest {
+
+    @Test
+    void recordsUsagePerRule() throws IOException {
+        final Metrics metrics = new Metrics();
+        final Lint lint = new Measured(
+            new LintByXsl("critical/duplicate-names"), metrics
+        );
+        final XML xmir = MeasuredTest.parsed("foo");
+        final long found = lint.defects(xmir).size();
+        lint.defects(xmir);
+        MatcherAssert.assertThat(
+            "calls and defects are not counted",
+            metrics.rules().get("duplicate-names"),
+            Matchers.allOf(
+                Matchers.hasProperty("calls", Matchers.equalTo(2L)),
+                Matchers.hasProperty("defects", Matchers.equalTo(found * 2L)),
+                Matchers.hasProperty("wallTime", Matchers.greaterThan(0L))
+            )
+        );
+    }
+
+    @Test
+    void recordsUsagePerProgram() throws IOException {
+        final Metrics metrics = new Metrics();
+        final Lint lint = new LintByXsl("critical/duplicate-names");
+        new Measured(lint, metrics, "first.xmir").defects(MeasuredTest.parsed("first"));
+        new Measured(lint, metrics, "second.xmir").defects(MeasuredTest.parsed("second"));
+        MatcherAssert.assertThat(
+            "usage of one program is not separated",
+            metrics.rules("second.xmir").get("duplicate-names").getCalls(),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void registersMbean() throws Exception {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try (Metrics metrics = new Metrics(server)) {
+            new Measured(new LintByXsl("critical/self-naming"), metrics)
+                .defects(MeasuredTest.parsed("bar"));
+            MatcherAssert.assertThat(
+                "MBean of the rule is not registered",
+                server.getAttribute(
+                    new ObjectName("org.eolang.lints:type=Lint,name=\"self-naming\""),
+                    "Calls"
+                ),
+                Matchers.equalTo(1L)
+            );
+        }
+    }
+
+    @Test
+    void skipsMbeanRegisteredAlready() throws Exception {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(
+            "org.eolang.lints:type=Lint,name=\"mandatory-home-meta\""
+        );
+        try (Metrics first = new Metrics(server)) {
+            final Lint lint = new LintByXsl("metas/mandatory-home-meta");
+            new Measured(lint, first).defects(MeasuredTest.parsed("baz"));
+            try (Metrics second = new Metrics(server)) {
+                new Measured(lint, second).defects(MeasuredTest.parsed("baz"));
+                MatcherAssert.assertThat(
+                    "usage of the second metrics is not counted",
+                    second.rules().get("mandatory-home-meta").getCalls(),
+                    Matchers.equalTo(1L)
+                );
+            }
+            MatcherAssert.assertThat(
+                "MBean of the first metrics is unregistered by the second one",
+                server.isRegistered(name),
+                Matchers.is(true)
+            );
+        }
+        MatcherAssert.assertThat(
+            "MBean is not unregistered on close",
+            server.isRegistered(name),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void namesLintByClassByDefault() {
+        MatcherAssert.assertThat(
+            "default name of the lint is not its class name",
+            new MeasuredTest.Empty().name(),
+            Matchers.equalTo("Empty")
+        );
+    }
+
+    /**
+     * Parse a program with duplicate names.
+     * @param name Name of the program
+     * @return XMIR
+     * @throws IOException If fails
+     */
+    private static XML parsed(final String name) throws IOException {
+        return new EoSyntax(
+            name,
+            new InputOf("# first.\n[] > foo\n# second.\n[] > foo\n")
+        ).parsed();
+    }
+
+    /**
+     * Lint without defects and without a name of its own.
+     * @since 0.1.0
+     */
+    private static final class Empty implements Lint {
+        @Override
+        public Collection<Defect> defects(final XML xmir) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public String motive() {
+            return "";
+        }
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.cactoos.io.InputOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link PartialProgram}.
+ *
+ * @since 0.1.0
+ */
+final class PartialProgramTest {
+
+    /**
+     * The program before the edit.
+     */
+    private static final String BEFORE = String.join(
+        "\n",
+        "+package foo",
+        "+version 0.0.1",
+        "",
+        "# First object.",
+        "[] > first",
+        "  stdout > @",
+        "    \"hi\"",
+        "",
+        "# Second object.",
+        "[] > second",
+        "  42 > x",
+        "  x > x",
+        ""
+    );
+
+    @Test
+    void findsSameDefectsAsFullRunInChangedLines() throws IOException {
+        final XML after = PartialProgramTest.parsed(
+            PartialProgramTest.BEFORE.replace("stdout > @", "[y] > @")
+        );
+        MatcherAssert.assertThat(
+            "defects differ from defects of the full run",
+            PartialProgramTest.sorted(
+                new PartialProgram(
+                    after,
+                    new Program(PartialProgramTest.parsed(PartialProgramTest.BEFORE)).defects(),
+                    new PartialProgram.Lines(6)
+                ).defects()
+            ),
+            Matchers.equalTo(PartialProgramTest.sorted(new Program(after).defects()))
+        );
+    }
+
+    @Test
+    void findsSameDefectsAsFullRunAfterMovingObjects() throws IOException {
+        final XML before = PartialProgramTest.parsed(PartialProgramTest.BEFORE);
+        final XML after = PartialProgramTest.parsed(
+            PartialProgramTest.BEFORE.replace("    \"hi\"", "    \"hi\"\n    \"there\"\n    y")
+        );
+        MatcherAssert.assertThat(
+            "defects differ from defects of the full run",
+            PartialProgramTest.sorted(
+                new PartialProgram(after, before, new Program(before).defects()).defects()
+            ),
+            Matchers.equalTo(PartialProgramTest.sorted(new Program(after).defects()))
+        );
+    }
+
+    @Test
+    void findsSameDefectsAsFullRunAfterInsertingLines() throws IOException {
+        final XML after = PartialProgramTest.parsed(
+            PartialProgramTest.BEFORE.replace("    \"hi\"", "    \"hi\"\n    \"there\"\n    y")
+        );
+        MatcherAssert.assertThat(
+            "defects below inserted lines are not moved",
+            PartialProgramTest.sorted(
+                new PartialProgram(
+                    after,
+                    new Program(PartialProgramTest.parsed(PartialProgramTest.BEFORE)).defects(),
+                    new PartialProgram.Lines(7, 9, 1)
+                ).defects()
+            ),
+            Matchers.equalTo(PartialProgramTest.sorted(new Program(after).defects()))
+        );
+    }
+
+    @Test
+    void findsSameDefectsAsFullRunAfterRemovingLines() throws IOException {
+        final XML after = PartialProgramTest.parsed(
+            PartialProgramTest.BEFORE.replace("  stdout > @\n    \"hi\"\n", "")
+        );
+        MatcherAssert.assertThat(
+            "defects below removed lines are not moved",
+            PartialProgramTest.sorted(
+                new PartialProgram(
+                    after,
+                    new Program(PartialProgramTest.parsed(PartialProgramTest.BEFORE)).defects(),
+                    new PartialProgram.Lines(6, 5, 2)
+                ).defects()
+            ),
+            Matchers.equalTo(PartialProgramTest.sorted(new Program(after).defects()))
+        );
+    }
+
+    @Test
+    void keepsDefectsOfUntouchedObjects() throws IOException {
+        final XML xmir = PartialProgramTest.parsed(PartialProgramTest.BEFORE);
+        MatcherAssert.assertThat(
+            "defects of untouched objects are not taken from the previous run",
+            new PartialProgram(
+                xmir,
+                Collections.singleton(
+                    new Defect.Default("fake", Severity.WARNING, 11, "old one", "0.0.0")
+                ),
+                new PartialProgram.Lines(5, 6)
+            ).defects(),
+            Matchers.hasItem(Matchers.hasToString(Matchers.containsString("old one")))
+        );
+    }
+
+    @Test
+    void lintsEverythingWhenMetasAreChanged() throws IOException {
+        final XML xmir = PartialProgramTest.parsed(PartialProgramTest.BEFORE);
+        MatcherAssert.assertThat(
+            "the program is not linted again, when metas are changed",
+            PartialProgramTest.sorted(
+                new PartialProgram(
+                    xmir, Collections.emptyList(), new PartialProgram.Lines(2)
+                ).defects()
+            ),
+            Matchers.equalTo(PartialProgramTest.sorted(new Program(xmir).defects()))
+        );
+    }
+
+    /**
+     * Parse EO code.
+     * @param code The code
+     * @return XMIR
+     * @throws IOException If fails
+     */
+    private static XML parsed(final String code) throws IOException {
+        return new EoSyntax(new InputOf(code)).parsed();
+    }
+
+    /**
+     * Defects, printed and sorted.
+     * @param defects Defects
+     * @return Sorted lines
+     */
+    private static List<String> sorted(final Collection<Defect> defects) {
+        return defects.stream().map(Object::toString).sorted().collect(Collectors.toList());
+    }
+}
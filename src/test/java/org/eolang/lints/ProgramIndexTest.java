@@ -0,0 +1,164 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.IOException;
+import javax.xml.transform.dom.DOMSource;
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.XdmAtomicValue;
+import org.cactoos.io.InputOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link ProgramIndex}.
+ *
+ * @since 0.1.0
+ */
+final class ProgramIndexTest {
+
+    @Test
+    void countsLinesOfListingLikeXsl() throws Exception {
+        final XML xmir = new EoSyntax(
+            new InputOf("+alias foo\n\n# Foo.\n[] > bar\n  foo > x\n")
+        ).parsed();
+        final Processor saxon = new Processor(false);
+        MatcherAssert.assertThat(
+            "lines of the listing are counted not as in XSL",
+            (long) new ProgramIndex(xmir).listing(),
+            Matchers.equalTo(
+                ((XdmAtomicValue) saxon.newXPathCompiler().evaluateSingle(
+                    "count(tokenize(/program/listing, codepoints-to-string(10)))",
+                    saxon.newDocumentBuilder().build(new DOMSource(xmir.node()))
+                )).getLongValue()
+            )
+        );
+    }
+
+    @Test
+    void findsAliasesAndMetas() {
+        final ProgramIndex index = new ProgramIndex(
+            new XMLDocument(
+                String.join(
+                    "",
+                    "<program><metas>",
+                    "<meta><head>alias</head><part>foo</part><part>a.b.foo</part></meta>",
+                    "<meta><head>package</head><part>x.y</part></meta>",
+                    "</metas></program>"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "aliases are not found",
+            index.aliases(),
+            Matchers.contains("foo")
+        );
+        MatcherAssert.assertThat(
+            "metas are not found by head",
+            index.metas("package"),
+            Matchers.contains(Matchers.contains("x.y"))
+        );
+    }
+
+    @Test
+    void indexesObjectsWithParents() {
+        final ProgramIndex index = new ProgramIndex(
+            new XMLDocument(
+                String.join(
+                    "",
+                    "<program><objects><o name='a' line='1'><o name='b' line='2'/></o>",
+                    "<o name='a' line='7'/></objects></program>"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "parents are not right",
+            new ListOf<>(new Mapped<>(ProgramIndex.Entity::parent, index.objects())),
+            Matchers.contains(ProgramIndex.Entity.TOP, 0, ProgramIndex.Entity.TOP)
+        );
+        MatcherAssert.assertThat(
+            "lines are not indexed by names",
+            index.lines("a"),
+            Matchers.containsInAnyOrder("1", "7")
+        );
+    }
+
+    @Test
+    void givesListingToStylesheets() throws IOException {
+        final XML xmir = new XMLDocument(
+            "<program><listing>one</listing><objects><o line='5'/></objects></program>"
+        );
+        final Lint lint = new LintByXsl("lines/object-line-out-of-listing");
+        MatcherAssert.assertThat(
+            "stylesheet finds not the same with the index",
+            new ListOf<>(new Mapped<>(Object::toString, lint.defects(new ProgramIndex(xmir)))),
+            Matchers.equalTo(new ListOf<>(new Mapped<>(Object::toString, lint.defects(xmir))))
+        );
+    }
+
+    @Test
+    void givesBasesToStylesheets() throws IOException {
+        final XML xmir = new XMLDocument(
+            String.join(
+                "",
+                "<program><metas>",
+                "<meta line='1'><head>alias</head><tail>stdout org.eolang.io.stdout</tail>",
+                "<part>stdout</part><part>org.eolang.io.stdout</part></meta>",
+                "<meta line='2'><head>alias</head><tail>sprintf org.eolang.txt.sprintf</tail>",
+                "<part>sprintf</part><part>org.eolang.txt.sprintf</part></meta>",
+                "</metas><objects><o name='app' line='4'>",
+                "<o base='org.eolang.io.stdout' line='5'/></o></objects></program>"
+            )
+        );
+        final Lint lint = new LintByXsl("aliases/unused-alias");
+        MatcherAssert.assertThat(
+            "stylesheet finds not the same unused aliases with the index",
+            new ListOf<>(new Mapped<>(Object::toString, lint.defects(new ProgramIndex(xmir)))),
+            Matchers.allOf(
+                Matchers.hasSize(1),
+                Matchers.equalTo(
+                    new ListOf<>(new Mapped<>(Object::toString, lint.defects(xmir)))
+                )
+            )
+        );
+    }
+
+    @Test
+    void sharesTreeWithIsolatedCopies() {
+        final ProgramIndex index = new ProgramIndex(
+            new XMLDocument("<program><objects><o name='a'/></objects></program>")
+        );
+        MatcherAssert.assertThat(
+            "the tree is built again for the isolated copy",
+            index.isolated().tree(),
+            Matchers.sameInstance(index.tree())
+        );
+    }
+}
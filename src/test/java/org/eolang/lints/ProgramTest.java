@@ -23,16 +23,27 @@
  */
 package org.eolang.lints;
 
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
 import com.yegor256.Mktmp;
 import com.yegor256.MktmpResolver;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 import org.cactoos.io.InputOf;
 import org.eolang.parser.EoSyntax;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -44,13 +55,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @ExtendWith(MktmpResolver.class)
 final class ProgramTest {
 
+    /**
+     * Program with a duplicate name, which is a critical defect.
+     */
+    private static final String EO = "# first.\n[] > foo\n# second.\n[] > foo\n";
+
     @Test
     void simpleTest(@Mktmp final Path dir) throws IOException {
         final Path path = dir.resolve("foo.xmir");
         Files.write(
             path,
             new EoSyntax(
-                new InputOf("# first.\n[] > foo\n# second.\n[] > foo\n")
+                new InputOf(ProgramTest.EO)
             ).parsed().toString().getBytes(StandardCharsets.UTF_8)
         );
         MatcherAssert.assertThat(
@@ -106,4 +122,212 @@ final class ProgramTest {
         );
     }
 
+    @Test
+    void lintsConcurrentlyInTheSameOrder() throws IOException {
+        final XML xmir = new EoSyntax(
+            new InputOf(
+                String.join(
+                    "\n",
+                    "+alias org.eolang.txt.sprintf",
+                    "+version 1.1-another maybe be wrong",
+                    "",
+                    "# комментарий здесь",
+                    "[] > foo-bar",
+                    "  (bar 42) > zzz",
+                    "  44 > zzz",
+                    "",
+                    "[] > foo-bar"
+                )
+            )
+        ).parsed();
+        final ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            MatcherAssert.assertThat(
+                "defects found concurrently differ from sequential ones",
+                new Program(xmir, pool).defects().stream()
+                    .map(Object::toString)
+                    .collect(Collectors.toList()),
+                Matchers.equalTo(
+                    new Program(xmir).defects().stream()
+                        .map(Object::toString)
+                        .collect(Collectors.toList())
+                )
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void returnsMutableDefects() throws IOException {
+        final Collection<Defect> defects = new Program(
+            new EoSyntax(new InputOf(ProgramTest.EO)).parsed()
+        ).defects();
+        defects.removeIf(defect -> defect.severity() != Severity.CRITICAL);
+        MatcherAssert.assertThat(
+            "defects can't be removed",
+            defects.stream().map(Defect::severity).collect(Collectors.toList()),
+            Matchers.contains(Severity.CRITICAL)
+        );
+    }
+
+    @Test
+    void streamsDefectsIntoSink() throws IOException {
+        final XML xmir = new EoSyntax(
+            new InputOf(ProgramTest.EO)
+        ).parsed();
+        final List<String> streamed = new LinkedList<>();
+        new Program(xmir).defects(
+            new Sink.Default(defect -> streamed.add(defect.toString()))
+        );
+        MatcherAssert.assertThat(
+            "streamed defects differ from collected ones",
+            streamed,
+            Matchers.equalTo(
+                new Program(xmir).defects().stream()
+                    .map(Object::toString)
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+
+    @Test
+    void stopsAtFirstCriticalDefect() throws IOException {
+        final List<Defect> streamed = new LinkedList<>();
+        new Program(
+            new EoSyntax(
+                new InputOf(ProgramTest.EO)
+            ).parsed()
+        ).defects(new Sink.UntilCritical(streamed::add));
+        MatcherAssert.assertThat(
+            "the last defect is not critical",
+            streamed.get(streamed.size() - 1).severity(),
+            Matchers.equalTo(Severity.CRITICAL)
+        );
+    }
+
+    @Test
+    void putsCriticalLintsFirstForAnySinkStoppingAtCritical() throws IOException {
+        final List<Defect> streamed = new LinkedList<>();
+        final Sink origin = new Sink.UntilCritical(streamed::add);
+        new Program(new EoSyntax(new InputOf(ProgramTest.EO)).parsed()).defects(
+            new Sink() {
+                @Override
+                public void accept(final Defect defect) {
+                    origin.accept(defect);
+                }
+
+                @Override
+                public boolean done() {
+                    return origin.done();
+                }
+
+                @Override
+                public boolean stopsAtCritical() {
+                    return true;
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            "critical lints don't go first for a sink, which stops at critical",
+            streamed.get(0).severity(),
+            Matchers.equalTo(Severity.CRITICAL)
+        );
+    }
+
+    @Test
+    void keepsOrderOfLintsWithoutFailFast() throws IOException {
+        final Collection<Defect> defects = new Program(
+            new EoSyntax(
+                new InputOf(ProgramTest.EO)
+            ).parsed()
+        ).defects();
+        MatcherAssert.assertThat(
+            "critical lints are moved ahead of others",
+            defects.iterator().next().severity(),
+            Matchers.not(Matchers.equalTo(Severity.CRITICAL))
+        );
+    }
+
+    @Test
+    void failsFastOnCriticalDefect() throws IOException {
+        final XML xmir = new EoSyntax(
+            new InputOf(ProgramTest.EO)
+        ).parsed();
+        final List<Defect> streamed = new LinkedList<>();
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            new Program(xmir, pool).defects(new Sink.UntilCritical(streamed::add));
+        } finally {
+            pool.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "linting doesn't stop at the critical defect",
+            streamed,
+            Matchers.hasSize(
+                Matchers.lessThan(new Program(xmir).defects().size())
+            )
+        );
+    }
+
+    @Test
+    void rejectsBrokenXmirWithShortMessage() {
+        final String huge = String.join("", Collections.nCopies(1000, "<o name='x'/>"));
+        MatcherAssert.assertThat(
+            "the error doesn't point to the broken node in short",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new Program(
+                    new XMLDocument(
+                        String.format(
+                            String.join(
+                                "",
+                                "<program><metas><meta line='1'/>",
+                                "<meta><head>%s</head></meta></metas>",
+                                "<objects>%s</objects></program>"
+                            ),
+                            huge, huge
+                        )
+                    )
+                ).defects()
+            ).getMessage(),
+            Matchers.allOf(
+                Matchers.containsString("/program[1]/metas[1]/meta[2]"),
+                Matchers.matchesPattern("(?s).{1,400}")
+            )
+        );
+    }
+
+    @Test
+    void refusesFileThatIsNotXml(@Mktmp final Path dir) throws IOException {
+        final Path path = dir.resolve("broken.xmir");
+        Files.write(path, "<program>".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "the error doesn't mention the file",
+            Assertions.assertThrows(IllegalArgumentException.class, () -> new Program(path))
+                .getMessage(),
+            Matchers.containsString("broken.xmir")
+        );
+    }
+
+    @Test
+    void refusesAbsentFile(@Mktmp final Path dir) {
+        Assertions.assertThrows(
+            FileNotFoundException.class,
+            () -> new Program(dir.resolve("absent.xmir")),
+            "absent file is not reported with FileNotFoundException"
+        );
+    }
+
+    @Test
+    void explainsEveryLint() throws Exception {
+        for (final Lint lint : Program.LINTS) {
+            MatcherAssert.assertThat(
+                String.format("the motive of '%s' is empty", lint.name()),
+                lint.motive().isEmpty(),
+                Matchers.equalTo(false)
+            );
+        }
+    }
+
 }
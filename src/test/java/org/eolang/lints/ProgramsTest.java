@@ -0,0 +1,204 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.io.InputOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link Programs}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class ProgramsTest {
+
+    @Test
+    void lintsAllFilesInDirectory(@Mktmp final Path dir) throws IOException {
+        ProgramsTest.saved(
+            dir.resolve("foo.xmir"), "# first.\n[] > foo\n# second.\n[] > foo\n"
+        );
+        ProgramsTest.saved(
+            dir.resolve("bar/bar.xmir"), "# first.\n[] > bar\n# second.\n[] > bar\n"
+        );
+        MatcherAssert.assertThat(
+            "defects are not grouped by all files",
+            new Programs(dir).defects(),
+            Matchers.allOf(
+                Matchers.<Path, Object>aMapWithSize(2),
+                Matchers.hasEntry(
+                    Matchers.equalTo(dir.resolve("bar/bar.xmir")),
+                    Matchers.hasItem(
+                        Matchers.hasToString(
+                            Matchers.containsString("[duplicate-names CRITICAL]")
+                        )
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void lintsInProvidedExecutor(@Mktmp final Path dir) throws IOException {
+        final Path first = ProgramsTest.saved(dir.resolve("a.xmir"), "[] > a\n");
+        final Path second = ProgramsTest.saved(
+            dir.resolve("b.xmir"), "# first.\n[] > b\n# second.\n[] > b\n"
+        );
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            MatcherAssert.assertThat(
+                "defects of all files are not found in the same order",
+                new Programs(Arrays.asList(first, second), pool).defects().keySet(),
+                Matchers.contains(first, second)
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void takesDefectsFromCache(@Mktmp final Path dir) throws IOException {
+        final Path file = ProgramsTest.saved(
+            dir.resolve("c.xmir"), "# first.\n[] > c\n# second.\n[] > c\n"
+        );
+        final DefectsCache cache = new DefectsCache(dir.resolve("cache"));
+        final Collection<Defect> before = new Programs(
+            Collections.singleton(file),
+            Collections.singleton(new LintByXsl("critical/duplicate-names")),
+            Runnable::run,
+            Optional.of(cache)
+        ).defects().get(file);
+        MatcherAssert.assertThat(
+            "defects are not taken from the cache",
+            new Programs(
+                Collections.singleton(file),
+                Collections.singleton(new ProgramsTest.Broken()),
+                Runnable::run,
+                Optional.of(cache)
+            ).defects().get(file).toString(),
+            Matchers.equalTo(before.toString())
+        );
+    }
+
+    @Test
+    void lintsAcrossFiles(@Mktmp final Path dir) throws IOException {
+        final Path first = ProgramsTest.saved(
+            dir.resolve("x/first.xmir"), "+package x\n+alias x.absent\n\n# First.\n[] > foo\n"
+        );
+        final Path second = ProgramsTest.saved(
+            dir.resolve("x/second.xmir"), "+package x\n\n# Second.\n[] > foo\n"
+        );
+        final Map<Path, Collection<Defect>> defects =
+            new Programs(dir, new ProjectLints()).defects();
+        MatcherAssert.assertThat(
+            "alias to an object, which is absent in the project, is not caught",
+            defects.get(first),
+            Matchers.hasItem(
+                Matchers.hasToString(Matchers.containsString("[unresolved-alias ERROR]"))
+            )
+        );
+        MatcherAssert.assertThat(
+            "object, which is defined in two files, is not caught",
+            defects.get(second),
+            Matchers.hasItem(
+                Matchers.hasToString(Matchers.containsString("[duplicate-objects CRITICAL]"))
+            )
+        );
+    }
+
+    @Test
+    void skipsProjectLintsByDefault(@Mktmp final Path dir) throws IOException {
+        final Path first = ProgramsTest.saved(
+            dir.resolve("y/first.xmir"), "+package y\n+alias y.absent\n\n# First.\n[] > foo\n"
+        );
+        MatcherAssert.assertThat(
+            "project lints are applied by default",
+            new Programs(dir).defects().get(first),
+            Matchers.not(
+                Matchers.hasItem(
+                    Matchers.hasToString(Matchers.containsString("[unresolved-alias ERROR]"))
+                )
+            )
+        );
+    }
+
+    /**
+     * Parse EO code and save its XMIR to the file.
+     * @param file The file
+     * @param code EO code
+     * @return The file
+     * @throws IOException If fails
+     */
+    private static Path saved(final Path file, final String code)
+        throws IOException {
+        file.getParent().toFile().mkdirs();
+        return Files.write(
+            file,
+            new EoSyntax(new InputOf(code)).parsed().toString()
+                .getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Lint, which fails when applied.
+     *
+     * @since 0.1.0
+     */
+    private static final class Broken implements Lint {
+
+        @Override
+        public String name() {
+            return "duplicate-names";
+        }
+
+        @Override
+        public Collection<Defect> defects(final XML xmir) {
+            throw new UnsupportedOperationException("must not be called");
+        }
+
+        @Override
+        public String motive() {
+            return "";
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XMLDocument;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Sanity}.
+ *
+ * @since 0.1.0
+ */
+final class SanityTest {
+
+    @Test
+    void passesCleanXmir() {
+        Assertions.assertDoesNotThrow(
+            () -> new Sanity.Absent("/program/metas/meta[not(@line)]").check(
+                new XMLDocument("<program><metas><meta line='3'/></metas></program>")
+            ),
+            "clean XMIR is rejected"
+        );
+    }
+
+    @Test
+    void pointsToBrokenNode() {
+        MatcherAssert.assertThat(
+            "the broken node is not located",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new Sanity.Absent("//meta[not(@line)]").check(
+                    new XMLDocument(
+                        "<program><metas><meta line='1'/><meta><head>foo</head></meta></metas></program>"
+                    )
+                )
+            ).getMessage(),
+            Matchers.allOf(
+                Matchers.containsString("/program[1]/metas[1]/meta[2]"),
+                Matchers.containsString("<meta><head>foo</head></meta>")
+            )
+        );
+    }
+
+    @Test
+    void runsAllChecks() {
+        final AtomicInteger calls = new AtomicInteger();
+        new Sanity.All(xmir -> calls.incrementAndGet(), xmir -> calls.incrementAndGet())
+            .check(new XMLDocument("<program/>"));
+        MatcherAssert.assertThat(
+            "not all checks are made",
+            calls.get(),
+            Matchers.equalTo(2)
+        );
+    }
+}
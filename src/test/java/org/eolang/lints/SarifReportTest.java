@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Test for {@link SarifReport}.
+ *
+ * @since 0.1.0
+ */
+final class SarifReportTest {
+
+    @Test
+    void writesResults() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Report report = new SarifReport(bytes)) {
+            report.write("a.xmir", new Defect.Default("x", Severity.CRITICAL, 3, "one", "1.0"));
+            report.write("a.xmir", new Defect.Default("y", Severity.WARNING, 0, "two", "1.0"));
+        }
+        final List<Map<String, Object>> results = SarifReportTest.results(bytes);
+        MatcherAssert.assertThat(
+            "results are not written",
+            results,
+            Matchers.hasSize(2)
+        );
+        MatcherAssert.assertThat(
+            "critical defect is not an error",
+            results.get(0).get("level"),
+            Matchers.equalTo("error")
+        );
+        MatcherAssert.assertThat(
+            "zero line is reported",
+            results.get(1).toString(),
+            Matchers.not(Matchers.containsString("startLine"))
+        );
+    }
+
+    @Test
+    void writesEmptyReport() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new SarifReport(bytes).close();
+        MatcherAssert.assertThat(
+            "empty report is broken",
+            SarifReportTest.results(bytes),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void takesVersionOfToolFromConstructor() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Report report = new SarifReport(Channels.newChannel(bytes), "0.7.7")) {
+            report.write("a.xmir", new Defect.Default("x", Severity.ERROR, 1, "one", "0.0.1"));
+        }
+        MatcherAssert.assertThat(
+            "the version of the tool is taken from the defect",
+            new String(bytes.toByteArray(), StandardCharsets.UTF_8),
+            Matchers.containsString("\"name\":\"lints\",\"version\":\"0.7.7\"")
+        );
+    }
+
+    /**
+     * Results of the only run.
+     * @param bytes The report
+     * @return Results
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> results(final ByteArrayOutputStream bytes) {
+        final Map<String, Object> sarif = new Yaml().load(
+            new String(bytes.toByteArray(), StandardCharsets.UTF_8)
+        );
+        return (List<Map<String, Object>>) ((List<Map<String, Object>>) sarif.get("runs"))
+            .get(0).get("results");
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.stream.Collectors;
+import org.cactoos.io.InputOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Selection}.
+ *
+ * @since 0.1.0
+ */
+final class SelectionTest {
+
+    @Test
+    void includesByGlob() {
+        final Catalog catalog = new Catalog();
+        final Collection<String> paths = new ListOf<>(
+            new Mapped<>(catalog::path, new Selection().including("metas/*"))
+        );
+        MatcherAssert.assertThat(
+            "rules outside of the directory are selected",
+            paths,
+            Matchers.everyItem(Matchers.startsWith("metas/"))
+        );
+        MatcherAssert.assertThat(
+            "rule inside the directory is not selected",
+            paths,
+            Matchers.hasItem("metas/unknown-metas")
+        );
+    }
+
+    @Test
+    void includesJavaLintsByPath() {
+        MatcherAssert.assertThat(
+            "Java lint is not found by its package",
+            new ListOf<>(
+                new Mapped<>(Lint::name, new Selection().including("comments/**"))
+            ),
+            Matchers.hasItems("ascii-only", "comment-too-short")
+        );
+    }
+
+    @Test
+    void excludesByName() {
+        MatcherAssert.assertThat(
+            "excluded rule is selected",
+            new ListOf<>(
+                new Mapped<>(
+                    Lint::name,
+                    new Selection()
+                        .including("errors/*", "unused-alias")
+                        .excluding("unknown-name")
+                )
+            ),
+            Matchers.allOf(
+                Matchers.hasItems("unused-alias", "empty-object"),
+                Matchers.not(Matchers.hasItem("unknown-name"))
+            )
+        );
+    }
+
+    @Test
+    void skipsRulesBelowSeverity() {
+        MatcherAssert.assertThat(
+            "rules unable to report critical defects are selected",
+            new HashSet<>(
+                new ListOf<>(
+                    new Mapped<>(
+                        Lint::name,
+                        new Selection(new XslLints()).atLeast(Severity.CRITICAL)
+                    )
+                )
+            ),
+            Matchers.equalTo(
+                new HashSet<>(new Catalog().names(Severity.CRITICAL))
+            )
+        );
+    }
+
+    @Test
+    void dropsDefectsBelowSeverity() throws IOException {
+        final Collection<Severity> found = new Program(
+            new EoSyntax(
+                new InputOf("# first.\n[] > foo\n# second.\n[] > foo\n")
+            ).parsed(),
+            new Selection().atLeast(Severity.ERROR)
+        ).defects().stream().map(Defect::severity).collect(Collectors.toSet());
+        MatcherAssert.assertThat(
+            "defects of high severity are not found",
+            found,
+            Matchers.hasItem(Severity.CRITICAL)
+        );
+        MatcherAssert.assertThat(
+            "defects of low severity are found",
+            found,
+            Matchers.not(Matchers.hasItem(Severity.WARNING))
+        );
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.util.LinkedList;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Sink}.
+ *
+ * @since 0.1.0
+ */
+final class SinkTest {
+
+    @Test
+    void takesNothingAfterCriticalDefect() {
+        final List<Defect> taken = new LinkedList<>();
+        final Sink sink = new Sink.UntilCritical(taken::add);
+        sink.accept(new Defect.Default("a", Severity.WARNING, 1, "first"));
+        sink.accept(new Defect.Default("b", Severity.CRITICAL, 2, "second"));
+        sink.accept(new Defect.Default("c", Severity.ERROR, 3, "third"));
+        MatcherAssert.assertThat(
+            "defects after the critical one are taken",
+            taken,
+            Matchers.hasSize(2)
+        );
+    }
+
+    @Test
+    void becomesDoneAfterCriticalDefect() {
+        final Sink sink = new Sink.UntilCritical(defect -> { });
+        sink.accept(new Defect.Default("d", Severity.CRITICAL, 1, "broken"));
+        MatcherAssert.assertThat(
+            "the sink is not done",
+            sink.done(),
+            Matchers.is(true)
+        );
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XMLDocument;
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.cactoos.io.InputOf;
+import org.cactoos.iterable.Filtered;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.eolang.lints.critical.DuplicateNames;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link StreamedProgram}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class StreamedProgramTest {
+
+    @Test
+    void findsSameAsWithDom(@Mktmp final Path dir) throws IOException {
+        final Path file = StreamedProgramTest.saved(
+            dir, "# Привет.\n[] > foo\n  # Ёлка.\n  [] > bar\n"
+        );
+        MatcherAssert.assertThat(
+            "streaming finds not the same as DOM",
+            new ListOf<>(new Mapped<>(Object::toString, new StreamedProgram(file).defects())),
+            Matchers.allOf(
+                Matchers.<String>iterableWithSize(Matchers.greaterThan(0)),
+                Matchers.equalTo(
+                    new ListOf<>(
+                        new Mapped<>(
+                            Object::toString,
+                            new Program(
+                                new XMLDocument(file),
+                                new ListOf<>(
+                                    new Filtered<>(
+                                        lint -> lint instanceof StreamLint,
+                                        new JavaLints()
+                                    )
+                                )
+                            ).defects()
+                        )
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void fallsBackToDomForOtherLints(@Mktmp final Path dir) throws IOException {
+        MatcherAssert.assertThat(
+            "lint, which needs DOM, is not applied",
+            new StreamedProgram(
+                StreamedProgramTest.saved(dir, "# Foo.\n[] > foo\n  1 > x\n  2 > x\n"),
+                Collections.singleton(new DuplicateNames())
+            ).defects(),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void checksSanityOfXmir(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("broken.xmir");
+        Files.write(
+            file,
+            String.join(
+                "",
+                "<program><listing/><metas><meta line='1'><head>home</head></meta>",
+                "<meta><head>version</head></meta></metas><objects/></program>"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "broken XMIR is not refused in one pass",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new StreamedProgram(file).defects()
+            ).getMessage(),
+            Matchers.containsString("/program[1]/metas[1]/meta[2]")
+        );
+    }
+
+    /**
+     * Parse EO and save its XMIR to a file.
+     * @param dir The directory
+     * @param source The EO program
+     * @return The file
+     * @throws IOException If fails
+     */
+    private static Path saved(final Path dir, final String source) throws IOException {
+        final Path file = dir.resolve("foo.xmir");
+        Files.write(
+            file,
+            new EoSyntax(new InputOf(source)).parsed().toString()
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        return file;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XMLDocument;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Stylesheets}.
+ *
+ * @since 0.1.0
+ */
+final class StylesheetsTest {
+
+    /**
+     * Simple stylesheet.
+     */
+    private static final String XSL = String.join(
+        "\n",
+        "<xsl:stylesheet xmlns:xsl='http://www.w3.org/1999/XSL/Transform' version='2.0'>",
+        "<xsl:template match='/'><out><xsl:value-of select='count(//o)'/></out></xsl:template>",
+        "</xsl:stylesheet>"
+    );
+
+    @Test
+    void compilesOnlyOnce() {
+        final Stylesheets sheets = new Stylesheets();
+        MatcherAssert.assertThat(
+            "the same stylesheet is compiled twice",
+            sheets.compiled("a.xsl", StylesheetsTest.XSL),
+            Matchers.sameInstance(sheets.compiled("a.xsl", StylesheetsTest.XSL))
+        );
+    }
+
+    @Test
+    void recompilesWhenContentChanges() {
+        final Stylesheets sheets = new Stylesheets();
+        sheets.compiled("b.xsl", StylesheetsTest.XSL);
+        sheets.compiled("b.xsl", StylesheetsTest.XSL.replace("//o", "/o"));
+        MatcherAssert.assertThat(
+            "the changed stylesheet is taken from the cache",
+            sheets.size(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void transformsXmir() {
+        final Stylesheets sheets = new Stylesheets();
+        MatcherAssert.assertThat(
+            "the stylesheet is not applied",
+            sheets.transform(
+                sheets.compiled("c.xsl", StylesheetsTest.XSL),
+                new XMLDocument("<program><o/><o><o/></o></program>")
+            ).getStringValue(),
+            Matchers.equalTo("3")
+        );
+    }
+
+}
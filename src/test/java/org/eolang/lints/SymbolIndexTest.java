@@ -0,0 +1,167 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.cactoos.io.InputOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link SymbolIndex}.
+ *
+ * @since 0.1.0
+ */
+final class SymbolIndexTest {
+
+    @Test
+    void indexesObjectsByPackages() throws IOException {
+        final SymbolIndex index = new SymbolIndex();
+        index.index(Paths.get("a.xmir"), SymbolIndexTest.events("+package foo.bar\n", "a"));
+        index.index(Paths.get("b.xmir"), SymbolIndexTest.events("+package foo.bar\n", "b"));
+        index.index(Paths.get("c.xmir"), SymbolIndexTest.events("", "c"));
+        MatcherAssert.assertThat(
+            "objects of the package are not indexed",
+            index.objects("foo.bar"),
+            Matchers.containsInAnyOrder("a", "b")
+        );
+        MatcherAssert.assertThat(
+            "the file of the object is not found",
+            index.files("foo.bar.b"),
+            Matchers.contains(Paths.get("b.xmir"))
+        );
+        MatcherAssert.assertThat(
+            "objects without a package are not indexed",
+            index.objects(""),
+            Matchers.contains("c")
+        );
+    }
+
+    @Test
+    void keepsMetasOfFile() throws IOException {
+        final Path file = Paths.get("d.xmir");
+        final SymbolIndex index = new SymbolIndex();
+        index.index(
+            file,
+            SymbolIndexTest.events(
+                String.join(
+                    "\n",
+                    "+package foo",
+                    "+alias org.eolang.io.stdout",
+                    "+alias txt org.eolang.txt.text",
+                    "+home https://www.eolang.org",
+                    "+version 1.2.3\n"
+                ),
+                "d"
+            )
+        );
+        final SymbolIndex.Unit unit = index.unit(file).get();
+        MatcherAssert.assertThat(
+            "aliases are not resolved to targets",
+            unit.aliases(),
+            Matchers.allOf(
+                Matchers.hasEntry("stdout", "org.eolang.io.stdout"),
+                Matchers.hasEntry("txt", "org.eolang.txt.text")
+            )
+        );
+        MatcherAssert.assertThat(
+            "home is not indexed",
+            unit.metas("home").get(0).parts(),
+            Matchers.contains("https://www.eolang.org")
+        );
+        MatcherAssert.assertThat(
+            "version is not indexed",
+            unit.metas("version").get(0).parts(),
+            Matchers.contains("1.2.3")
+        );
+        MatcherAssert.assertThat(
+            "line of the object is wrong",
+            unit.objects().get("d"),
+            Matchers.equalTo(8)
+        );
+    }
+
+    @Test
+    void replacesSymbolsOfFile() throws IOException {
+        final Path file = Paths.get("e.xmir");
+        final SymbolIndex index = new SymbolIndex();
+        index.index(file, SymbolIndexTest.events("+package x.y\n", "e"));
+        index.index(file, SymbolIndexTest.events("+package x.y\n", "f"));
+        MatcherAssert.assertThat(
+            "old object is still in the index",
+            index.files("x.y.e"),
+            Matchers.empty()
+        );
+        MatcherAssert.assertThat(
+            "new object is not in the index",
+            index.files("x.y.f"),
+            Matchers.contains(file)
+        );
+        MatcherAssert.assertThat(
+            "old object is still in the package",
+            index.objects("x.y"),
+            Matchers.contains("f")
+        );
+    }
+
+    @Test
+    void forgetsPackageWithoutFiles() throws IOException {
+        final Path file = Paths.get("g.xmir");
+        final SymbolIndex index = new SymbolIndex();
+        index.index(Paths.get("h.xmir"), SymbolIndexTest.events("+package p.q\n", "g"));
+        index.index(file, SymbolIndexTest.events("+package p.q\n", "g"));
+        index.index(file, SymbolIndexTest.events("+package p.r\n", "g"));
+        MatcherAssert.assertThat(
+            "object of another file is removed from the package",
+            index.objects("p.q"),
+            Matchers.contains("g")
+        );
+        index.index(Paths.get("h.xmir"), SymbolIndexTest.events("+package p.s\n", "g"));
+        MatcherAssert.assertThat(
+            "package without files is still known",
+            index.known("p.q"),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Events of the XMIR, parsed from EO.
+     * @param metas Metas, with the trailing new line, if any
+     * @param name The name of the only object
+     * @return Events
+     * @throws IOException If fails
+     */
+    private static XmirStream events(final String metas, final String name)
+        throws IOException {
+        return new XmirStream(
+            new EoSyntax(
+                new InputOf(String.format("%s\n# Foo.\n[] > %s\n", metas, name))
+            ).parsed()
+        );
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.cactoos.io.InputOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link Watch}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class WatchTest {
+
+    @Test
+    void lintsChangedFiles(@Mktmp final Path dir) throws Exception {
+        final Path file = dir.resolve("a/foo.xmir");
+        WatchTest.save(file, "# first.\n[] > foo\n# second.\n[] > foo\n");
+        final BlockingQueue<Map.Entry<Path, Collection<Defect>>> changes =
+            new LinkedBlockingQueue<>();
+        try (Watch watch = new Watch(
+            dir, (path, defects) -> changes.add(new AbstractMap.SimpleEntry<>(path, defects))
+        ).start()) {
+            final Map.Entry<Path, Collection<Defect>> first =
+                changes.poll(30L, TimeUnit.SECONDS);
+            WatchTest.save(file, "# The object.\n[] > foo\n  bar > @\n");
+            final Map.Entry<Path, Collection<Defect>> second =
+                changes.poll(30L, TimeUnit.SECONDS);
+            MatcherAssert.assertThat(
+                "the change is not linted",
+                second.getValue().size(),
+                Matchers.lessThan(first.getValue().size())
+            );
+            MatcherAssert.assertThat(
+                "the latest defects are not kept",
+                watch.defects(file).get(),
+                Matchers.sameInstance(second.getValue())
+            );
+        }
+    }
+
+    @Test
+    void lintsNewDirectories(@Mktmp final Path dir) throws Exception {
+        final BlockingQueue<Path> changes = new LinkedBlockingQueue<>();
+        try (Watch watch = new Watch(dir, (path, defects) -> changes.add(path)).start()) {
+            final Path file = dir.resolve("x/y/bar.xmir");
+            WatchTest.save(file, "# The object.\n[] > bar\n");
+            changes.poll(30L, TimeUnit.SECONDS);
+            MatcherAssert.assertThat(
+                "the file in new directory is not linted",
+                watch.defects().keySet(),
+                Matchers.contains(file)
+            );
+        }
+    }
+
+    @Test
+    void reportsBrokenFile(@Mktmp final Path dir) throws Exception {
+        final Path file = dir.resolve("foo.xmir");
+        WatchTest.save(file, "# first.\n[] > foo\n# second.\n[] > foo\n");
+        final BlockingQueue<Collection<Defect>> changes = new LinkedBlockingQueue<>();
+        try (Watch watch = new Watch(dir, (path, defects) -> changes.add(defects)).start()) {
+            changes.poll(30L, TimeUnit.SECONDS);
+            Files.write(file, "<program".getBytes(StandardCharsets.UTF_8));
+            MatcherAssert.assertThat(
+                "the listener doesn't know that the file is broken",
+                changes.poll(30L, TimeUnit.SECONDS).stream()
+                    .map(Defect::rule)
+                    .collect(Collectors.toList()),
+                Matchers.contains("broken-xmir")
+            );
+            MatcherAssert.assertThat(
+                "the broken file looks clean",
+                watch.defects(file).get(),
+                Matchers.hasSize(1)
+            );
+        }
+    }
+
+    @Test
+    void forgetsFilesOfDeletedDirectory(@Mktmp final Path dir) throws Exception {
+        final Path home = dir.resolve("home");
+        final Path file = home.resolve("x/y/bar.xmir");
+        WatchTest.save(file, "# The object.\n[] > bar\n");
+        final BlockingQueue<Map.Entry<Path, Collection<Defect>>> changes =
+            new LinkedBlockingQueue<>();
+        try (Watch watch = new Watch(
+            home, (path, defects) -> changes.add(new AbstractMap.SimpleEntry<>(path, defects))
+        ).start()) {
+            changes.poll(30L, TimeUnit.SECONDS);
+            Files.move(home.resolve("x"), dir.resolve("gone"));
+            final Map.Entry<Path, Collection<Defect>> change =
+                changes.poll(30L, TimeUnit.SECONDS);
+            MatcherAssert.assertThat(
+                "the listener doesn't know that the file is gone",
+                change.getKey(),
+                Matchers.equalTo(file)
+            );
+            MatcherAssert.assertThat(
+                "defects of the file in deleted directory are kept",
+                watch.defects().keySet(),
+                Matchers.empty()
+            );
+        }
+    }
+
+    /**
+     * Save EO program as XMIR.
+     * @param file The file
+     * @param source The program
+     * @throws IOException If fails
+     */
+    private static void save(final Path file, final String source) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(
+            file,
+            new EoSyntax(new InputOf(source)).parsed().toString()
+                .getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
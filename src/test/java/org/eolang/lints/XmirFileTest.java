@@ -0,0 +1,149 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XMLDocument;
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link XmirFile}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class XmirFileTest {
+
+    /**
+     * XMIR.
+     */
+    private static final String XMIR = String.join(
+        "\n",
+        "<?xml version='1.0' encoding='UTF-8'?>",
+        "<program name='привет'><objects><o name='x' line='1'/></objects></program>"
+    );
+
+    @Test
+    void parsesAsXmlDocument(@Mktmp final Path dir) throws IOException {
+        final Path file = XmirFileTest.saved(dir);
+        MatcherAssert.assertThat(
+            "mapped file is parsed differently",
+            new XmirFile(file, true).parsed().toString(),
+            Matchers.equalTo(new XMLDocument(file).toString())
+        );
+    }
+
+    @Test
+    void parsesAsStream(@Mktmp final Path dir) throws IOException {
+        final Path file = XmirFileTest.saved(dir);
+        MatcherAssert.assertThat(
+            "streamed file is parsed differently",
+            new XmirFile(file).parsed().toString(),
+            Matchers.equalTo(new XMLDocument(file).toString())
+        );
+    }
+
+    @Test
+    void rewritesFileAfterParsing(@Mktmp final Path dir) throws IOException {
+        final Path file = XmirFileTest.saved(dir);
+        new XmirFile(file).parsed();
+        Files.write(file, "<program/>".getBytes(StandardCharsets.UTF_8));
+        Files.delete(file);
+        MatcherAssert.assertThat(
+            "streamed file is still held after parsing",
+            Files.exists(file),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void hashesLikeBytes(@Mktmp final Path dir) throws IOException {
+        final Path file = XmirFileTest.saved(dir);
+        MatcherAssert.assertThat(
+            "hash of mapped file differs from the hash of its bytes",
+            new XmirFile(file).hash(),
+            Matchers.equalTo(Stylesheets.sha(Files.readAllBytes(file)))
+        );
+    }
+
+    @Test
+    void parsesInManyThreads(@Mktmp final Path dir) throws Exception {
+        final Path file = XmirFileTest.saved(dir);
+        final ExecutorService threads = Executors.newFixedThreadPool(4);
+        try {
+            final Future<?>[] all = new Future<?>[32];
+            for (int idx = 0; idx < all.length; ++idx) {
+                all[idx] = threads.submit(
+                    () -> new XmirFile(file).parsed().xpath("/program/@name").get(0)
+                );
+            }
+            for (final Future<?> future : all) {
+                MatcherAssert.assertThat(
+                    "file is parsed wrongly in a thread",
+                    future.get(),
+                    Matchers.equalTo("привет")
+                );
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsBrokenXml(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("broken.xmir");
+        Files.write(file, "<program><o".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "broken XML is parsed",
+            Assertions.assertThrows(
+                IOException.class, () -> new XmirFile(file).parsed()
+            ).getMessage(),
+            Matchers.containsString("broken.xmir")
+        );
+    }
+
+    /**
+     * Save XMIR to a file.
+     * @param dir The directory
+     * @return The file
+     * @throws IOException If fails
+     */
+    private static Path saved(final Path dir) throws IOException {
+        final Path file = dir.resolve("foo.xmir");
+        Files.write(file, XmirFileTest.XMIR.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -29,7 +29,10 @@ import io.github.secretx33.resourceresolver.PathMatchingResourcePatternResolver;
 import io.github.secretx33.resourceresolver.Resource;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
 import org.cactoos.io.InputOf;
+import org.cactoos.io.ResourceOf;
 import org.cactoos.proc.ForEach;
 import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
@@ -77,6 +80,29 @@ final class XslLintsTest {
         );
     }
 
+    @Test
+    void indexesEveryXslStylesheet() throws Exception {
+        final String home = "org/eolang/lints/";
+        final Set<String> found = new TreeSet<>();
+        for (final Resource res : new PathMatchingResourcePatternResolver().getResources(
+            String.format("classpath*:%s**/*.xsl", home)
+        )) {
+            final String url = res.getURL().toString();
+            found.add(url.substring(url.lastIndexOf(home) + home.length()));
+        }
+        MatcherAssert.assertThat(
+            "the index doesn't list exactly the stylesheets in classpath",
+            new TreeSet<>(
+                Arrays.asList(
+                    new TextOf(
+                        new ResourceOf("org/eolang/lints/index.txt")
+                    ).asString().split("\\R")
+                )
+            ),
+            Matchers.equalTo(found)
+        );
+    }
+
     @Test
     void checksAllMotives() throws Exception {
         for (final Lint lint : new XslLints()) {
@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import io.github.secretx33.resourceresolver.Resource;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link XslResources}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class XslResourcesTest {
+
+    @Test
+    void scansRootWithoutIndex(@Mktmp final Path dir) throws IOException {
+        XslResourcesTest.save(dir.resolve("org/eolang/lints/extra/third-party.xsl"), "<x/>");
+        MatcherAssert.assertThat(
+            "stylesheets of a root without index are not found",
+            XslResourcesTest.names(dir),
+            Matchers.hasItems("third-party.xsl", "sparse-decoration.xsl")
+        );
+    }
+
+    @Test
+    void readsIndexOfRoot(@Mktmp final Path dir) throws IOException {
+        XslResourcesTest.save(dir.resolve("org/eolang/lints/index.txt"), "extra/listed.xsl\n");
+        XslResourcesTest.save(dir.resolve("org/eolang/lints/extra/listed.xsl"), "<x/>");
+        XslResourcesTest.save(dir.resolve("org/eolang/lints/extra/hidden.xsl"), "<x/>");
+        MatcherAssert.assertThat(
+            "the index of a root is not used",
+            XslResourcesTest.names(dir),
+            Matchers.allOf(
+                Matchers.hasItem("listed.xsl"),
+                Matchers.not(Matchers.hasItem("hidden.xsl"))
+            )
+        );
+    }
+
+    /**
+     * Names of stylesheets found with the directory in classpath.
+     * @param dir The directory
+     * @return Names of files
+     * @throws IOException If fails
+     */
+    private static List<String> names(final Path dir) throws IOException {
+        try (URLClassLoader loader = new URLClassLoader(
+            new URL[] {dir.toUri().toURL()}, Thread.currentThread().getContextClassLoader()
+        )) {
+            return StreamSupport.stream(new XslResources(loader).spliterator(), false)
+                .map(Resource::getFilename)
+                .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Save the file.
+     * @param file The file
+     * @param content Its content
+     * @throws IOException If fails
+     */
+    private static void save(final Path file, final String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.aliases;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import org.cactoos.io.InputOf;
+import org.eolang.lints.SymbolIndex;
+import org.eolang.lints.XmirStream;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link UnresolvedAlias}.
+ *
+ * @since 0.1.0
+ */
+final class UnresolvedAliasTest {
+
+    @Test
+    void catchesAliasToMissingObject() throws IOException {
+        MatcherAssert.assertThat(
+            "alias to a missing object is not caught",
+            new UnresolvedAlias().defects(
+                Paths.get("main.xmir"),
+                UnresolvedAliasTest.index("+alias foo.bar.absent\n+alias foo.bar.present")
+            ),
+            Matchers.contains(
+                Matchers.hasToString(Matchers.containsString("\"foo.bar.absent\""))
+            )
+        );
+    }
+
+    @Test
+    void ignoresPackagesOutsideOfProject() throws IOException {
+        MatcherAssert.assertThat(
+            "alias to a foreign package is checked",
+            new UnresolvedAlias().defects(
+                Paths.get("main.xmir"),
+                UnresolvedAliasTest.index("+alias org.eolang.io.stdout")
+            ),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void explainsMotive() throws Exception {
+        MatcherAssert.assertThat(
+            "The motive is empty",
+            new UnresolvedAlias().motive(),
+            Matchers.not(Matchers.emptyString())
+        );
+    }
+
+    /**
+     * Index of two files: {@code main.xmir} with the aliases and
+     * {@code lib.xmir} with {@code foo.bar.present}.
+     * @param aliases Aliases of the main file
+     * @return The index
+     * @throws IOException If fails
+     */
+    private static SymbolIndex index(final String aliases) throws IOException {
+        final SymbolIndex index = new SymbolIndex();
+        index.index(
+            Paths.get("lib.xmir"),
+            new XmirStream(
+                new EoSyntax(new InputOf("+package foo.bar\n\n# Lib.\n[] > present\n")).parsed()
+            )
+        );
+        index.index(
+            Paths.get("main.xmir"),
+            new XmirStream(
+                new EoSyntax(
+                    new InputOf(String.format("%s\n\n# Main.\n[] > main\n", aliases))
+                ).parsed()
+            )
+        );
+        return index;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.critical;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import org.cactoos.io.InputOf;
+import org.eolang.lints.SymbolIndex;
+import org.eolang.lints.XmirStream;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link DuplicateObjects}.
+ *
+ * @since 0.1.0
+ */
+final class DuplicateObjectsTest {
+
+    @Test
+    void catchesObjectInTwoFiles() throws IOException {
+        final SymbolIndex index = new SymbolIndex();
+        for (final String name : new String[] {"a.xmir", "b.xmir"}) {
+            index.index(
+                Paths.get(name),
+                new XmirStream(
+                    new EoSyntax(new InputOf("+package foo\n\n# Foo.\n[] > bar\n")).parsed()
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "duplicate object is not caught",
+            new DuplicateObjects().defects(Paths.get("a.xmir"), index),
+            Matchers.contains(
+                Matchers.hasToString(Matchers.containsString("also defined in b.xmir"))
+            )
+        );
+    }
+
+    @Test
+    void allowsSameNamesInOtherPackages() throws IOException {
+        final SymbolIndex index = new SymbolIndex();
+        for (final String pkg : new String[] {"foo", "bar"}) {
+            index.index(
+                Paths.get(String.format("%s.xmir", pkg)),
+                new XmirStream(
+                    new EoSyntax(
+                        new InputOf(String.format("+package %s\n\n# Foo.\n[] > x\n", pkg))
+                    ).parsed()
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "objects in different packages are duplicates",
+            new DuplicateObjects().defects(Paths.get("foo.xmir"), index),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void explainsMotive() throws Exception {
+        MatcherAssert.assertThat(
+            "The motive is empty",
+            new DuplicateObjects().motive(),
+            Matchers.not(Matchers.emptyString())
+        );
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.lines;
+
+import com.jcabi.xml.XMLDocument;
+import java.io.IOException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link LineOutOfListing}.
+ *
+ * @since 0.1.0
+ */
+final class LineOutOfListingTest {
+
+    @Test
+    void catchesObjectOutOfListing() throws IOException {
+        MatcherAssert.assertThat(
+            "object out of listing is not caught",
+            new LineOutOfListing("object").defects(
+                new XMLDocument(
+                    String.join(
+                        "",
+                        "<program><listing>first\nsecond\n</listing><objects>",
+                        "<o name='a' line='2'><o name='b' line='3'/></o>",
+                        "</objects></program>"
+                    )
+                )
+            ),
+            Matchers.contains(
+                Matchers.hasToString(
+                    Matchers.containsString(
+                        "The line 3 is out of listing, which contains only 2 lines"
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void checksLinesSeenBeforeListing() throws IOException {
+        MatcherAssert.assertThat(
+            "meta before listing is not checked",
+            new LineOutOfListing("meta").defects(
+                new XMLDocument(
+                    "<program><metas><meta line='7'/></metas><listing>x</listing></program>"
+                )
+            ),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void rejectsUnknownKind() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new LineOutOfListing("table").pass(),
+            "unknown kind of lines is accepted"
+        );
+    }
+}